@@ -0,0 +1,85 @@
+package com.sampoom.backend.HR.benchmark;
+
+import com.sampoom.backend.HR.common.util.DistanceKernel;
+import com.sampoom.backend.HR.common.util.DistanceUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 창고 하나 ↔ 대리점 N 곳 거리 계산
+ * - legacyPerPair: 커널 도입 전 DistanceUtil 구현 (매 호출 toRadians/cos + BigDecimal 반올림)
+ * - utilPerPair: 현재 DistanceUtil.calculateDistance (단건)
+ * - kernelOneToMany: DistanceKernel 열 배열 일괄 계산
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DistanceKernelBenchmark {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    @Param({"100", "10000"})
+    int size;
+
+    double originLat;
+    double originLon;
+    double[] lat;
+    double[] lon;
+    DistanceKernel.Points points;
+    double[] out;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        originLat = 37.56;
+        originLon = 126.97;
+        lat = new double[size];
+        lon = new double[size];
+        for (int i = 0; i < size; i++) {
+            // 국내 좌표 범위, Kakao 결과와 같이 소수점 둘째자리
+            lat[i] = DistanceUtil.roundToTwoDecimalPlaces(33.0 + random.nextDouble() * 5.5);
+            lon[i] = DistanceUtil.roundToTwoDecimalPlaces(124.5 + random.nextDouble() * 7.0);
+        }
+        points = DistanceKernel.Points.of(lat, lon);
+        out = new double[size];
+    }
+
+    @Benchmark
+    public void legacyPerPair(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(legacyDistance(originLat, originLon, lat[i], lon[i]));
+        }
+    }
+
+    @Benchmark
+    public void utilPerPair(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(DistanceUtil.calculateDistance(originLat, originLon, lat[i], lon[i]));
+        }
+    }
+
+    @Benchmark
+    public double[] kernelOneToMany() {
+        DistanceKernel.oneToMany(originLat, originLon, points, out);
+        return out;
+    }
+
+    private static double legacyDistance(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return BigDecimal.valueOf(EARTH_RADIUS_KM * c)
+                .setScale(2, RoundingMode.HALF_UP)
+                .doubleValue();
+    }
+}
@@ -0,0 +1,66 @@
+package com.sampoom.backend.HR.benchmark;
+
+import com.sampoom.backend.HR.common.util.DistanceUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DistanceUtil 단건 호출
+ * - calculateDistance: 좌표 한 쌍 (이벤트 / 단건 API 경로)
+ * - roundFastPath: 반올림 경계에서 떨어진 값 (할당 없는 경로)
+ * - roundTiePath: x.xx5 근처 값 (BigDecimal 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DistanceUtilBenchmark {
+
+    private static final int SIZE = 1024;
+
+    double[] lat1 = new double[SIZE];
+    double[] lon1 = new double[SIZE];
+    double[] lat2 = new double[SIZE];
+    double[] lon2 = new double[SIZE];
+    double[] plain = new double[SIZE];
+    double[] ties = new double[SIZE];
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            lat1[i] = 33.0 + random.nextDouble() * 5.5;
+            lon1[i] = 124.5 + random.nextDouble() * 7.0;
+            lat2[i] = 33.0 + random.nextDouble() * 5.5;
+            lon2[i] = 124.5 + random.nextDouble() * 7.0;
+            plain[i] = random.nextInt(50_000) / 100.0 + 0.0012;
+            ties[i] = random.nextInt(50_000) / 100.0 + 0.005;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void calculateDistance(Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DistanceUtil.calculateDistance(lat1[i], lon1[i], lat2[i], lon2[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void roundFastPath(Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DistanceUtil.roundToTwoDecimalPlaces(plain[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void roundTiePath(Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(DistanceUtil.roundToTwoDecimalPlaces(ties[i]));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.sampoom.backend.HR.benchmark;
+
+import com.sampoom.backend.HR.common.util.GeoUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지오코딩 요청 전 주소 문자열 처리 (요청마다 실행)
+ * - normalizeAddress: 캐시 키 정규화
+ * - isSafeQuery: 허용 문자 정규식 검사 (호출마다 패턴 컴파일)
+ * - truncateQuery: UTF-8 100 바이트 자르기 (문자마다 String.valueOf(c).getBytes)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GeoQueryBenchmark {
+
+    @Param({
+            "서울특별시 중구 세종대로 110",
+            "경기도 성남시 분당구 판교역로 235 (삼평동, 에이치스퀘어 엔동) 7층 · 물류센터 B동 하역장 2번 게이트 옆 사무실"
+    })
+    String address;
+
+    @Benchmark
+    public String normalizeAddress() {
+        return GeoUtil.normalizeAddress(address);
+    }
+
+    @Benchmark
+    public boolean isSafeQuery() {
+        return GeoUtil.isSafeQuery(address);
+    }
+
+    @Benchmark
+    public String truncateQuery() {
+        return GeoUtil.truncateQuery(address);
+    }
+}
@@ -0,0 +1,47 @@
+package com.sampoom.backend.HR.benchmark;
+
+import com.sampoom.backend.HR.common.jwt.JwtProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtProvider.parse — 인증이 필요한 모든 요청에서 실행 (RS256 서명 검증 + 클레임 파싱)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtParseBenchmark {
+
+    JwtProvider jwtProvider;
+    String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+
+        jwtProvider = new JwtProvider(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        token = Jwts.builder()
+                .setSubject("1")
+                .claim("role", "ADMIN")
+                .claim("type", "access")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+
+    @Benchmark
+    public Claims parse() {
+        return jwtProvider.parse(token);
+    }
+}
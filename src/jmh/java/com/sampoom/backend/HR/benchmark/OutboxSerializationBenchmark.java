@@ -0,0 +1,102 @@
+package com.sampoom.backend.HR.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sampoom.backend.HR.api.distance.event.dto.BranchAgencyDistanceEvent;
+import com.sampoom.backend.HR.api.distance.event.dto.DistanceBatchEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox 이벤트 한 건의 Jackson 왕복
+ * - OutboxService.saveEvent: payload → JSON 문자열
+ * - OutboxEventProcessor: JSON 문자열 → payload, 이벤트로 감싸 Kafka JsonSerializer 로 직렬화
+ * - single: 쌍별 거리 이벤트 / batch: 500쌍 묶음 이벤트 (쌍당 비용은 batch 결과 / 500)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OutboxSerializationBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+
+    ObjectMapper objectMapper;
+    BranchAgencyDistanceEvent.Payload singlePayload;
+    DistanceBatchEvent.Payload batchPayload;
+    String eventId;
+    String occurredAt;
+
+    @Setup
+    public void setUp() {
+        // Spring Boot 기본 ObjectMapper 와 같은 날짜 처리
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        singlePayload = BranchAgencyDistanceEvent.Payload.builder()
+                .distanceId(123_456L)
+                .branchId(12L)
+                .agencyId(3_456L)
+                .distanceKm(123.45)
+                .deleted(false)
+                .build();
+
+        List<DistanceBatchEvent.Item> items = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            items.add(DistanceBatchEvent.Item.builder()
+                    .distanceId(100_000L + i)
+                    .branchId(12L)
+                    .targetId(1_000L + i)
+                    .distanceKm(i * 0.37)
+                    .version(3L)
+                    .build());
+        }
+        batchPayload = DistanceBatchEvent.Payload.builder()
+                .anchorType("BRANCH")
+                .anchorId(12L)
+                .chunkIndex(0)
+                .chunkCount(1)
+                .items(items)
+                .build();
+
+        eventId = UUID.randomUUID().toString();
+        occurredAt = OffsetDateTime.now().toString();
+    }
+
+    @Benchmark
+    public byte[] singleRoundTrip() throws Exception {
+        String stored = objectMapper.writeValueAsString(singlePayload);
+
+        BranchAgencyDistanceEvent.Payload payload =
+                objectMapper.readValue(stored, BranchAgencyDistanceEvent.Payload.class);
+        BranchAgencyDistanceEvent event = BranchAgencyDistanceEvent.builder()
+                .eventId(eventId)
+                .eventType("DistanceCalculated")
+                .version(1L)
+                .occurredAt(occurredAt)
+                .payload(payload)
+                .build();
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public byte[] batchRoundTrip() throws Exception {
+        String stored = objectMapper.writeValueAsString(batchPayload);
+
+        DistanceBatchEvent.Payload payload = objectMapper.readValue(stored, DistanceBatchEvent.Payload.class);
+        DistanceBatchEvent event = DistanceBatchEvent.builder()
+                .eventId(eventId)
+                .eventType("DistanceBatchUpdated")
+                .version(3L)
+                .occurredAt(occurredAt)
+                .payload(payload)
+                .build();
+        return objectMapper.writeValueAsBytes(event);
+    }
+}
@@ -4,6 +4,8 @@ import com.sampoom.backend.HR.api.branch.dto.*;
 import com.sampoom.backend.HR.api.branch.entity.BranchStatus;
 import com.sampoom.backend.HR.api.branch.entity.BranchType;
 import com.sampoom.backend.HR.api.branch.service.BranchService;
+import com.sampoom.backend.HR.api.geo.dto.NearestResultDTO;
+import com.sampoom.backend.HR.api.geo.service.NearestService;
 import com.sampoom.backend.HR.common.dto.PageResponseDTO;
 import com.sampoom.backend.HR.common.response.ApiResponse;
 import com.sampoom.backend.HR.common.response.SuccessStatus;
@@ -23,6 +25,7 @@ import java.util.List;
 public class BranchController {
 
     private final BranchService branchService;
+    private final NearestService nearestService;
 
     /** 지점 등록 */
     @Operation(summary = "지점 등록", description = "새로운 지점(공장/창고)을 등록합니다.")
@@ -99,4 +102,15 @@ public class BranchController {
         List<SimpleBranchResponseDTO> factories = branchService.getFactoryList();
         return ApiResponse.success(SuccessStatus.OK, factories);
     }
+
+    /** 지점 기준 최근접 공장 (메모리 인덱스) */
+    @Operation(summary = "최근접 공장 조회", description = "지점에서 가까운 활성 공장을 거리순으로 최대 k 개 조회합니다.")
+    @GetMapping("/{id}/nearest-factories")
+    public ResponseEntity<ApiResponse<List<NearestResultDTO>>> getNearestFactories(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "5") int k
+    ) {
+        List<NearestResultDTO> result = nearestService.nearestFactoriesForBranch(id, k);
+        return ApiResponse.success(SuccessStatus.OK, result);
+    }
 }
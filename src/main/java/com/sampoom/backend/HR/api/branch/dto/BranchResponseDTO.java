@@ -1,6 +1,7 @@
 package com.sampoom.backend.HR.api.branch.dto;
 
 import com.sampoom.backend.HR.api.branch.entity.*;
+import com.sampoom.backend.HR.common.geo.entity.GeoStatus;
 import lombok.*;
 
 @Getter
@@ -15,6 +16,7 @@ public class BranchResponseDTO {
     private BranchType type;
     private String address;
     private BranchStatus status;
+    private GeoStatus geoStatus;   // 좌표 변환 상태 (PENDING 이면 좌표 계산 중)
 
     public static BranchResponseDTO from(Branch b) {
         return BranchResponseDTO.builder()
@@ -24,6 +26,7 @@ public class BranchResponseDTO {
                 .type(b.getType())
                 .address(b.getAddress())
                 .status(b.getStatus())
+                .geoStatus(b.getGeoStatus())
                 .build();
     }
 }
\ No newline at end of file
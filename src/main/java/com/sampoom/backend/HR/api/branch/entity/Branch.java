@@ -1,10 +1,13 @@
 package com.sampoom.backend.HR.api.branch.entity;
 
 import com.sampoom.backend.HR.common.entity.BaseTimeEntity;
+import com.sampoom.backend.HR.common.geo.entity.GeoStatus;
 import com.sampoom.backend.HR.common.util.DistanceUtil;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "branch")
 @Getter
@@ -33,6 +36,12 @@ public class Branch extends BaseTimeEntity {
     private Double latitude;     // 위도 (nullable)
     private Double longitude;    // 경도 (nullable)
 
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private GeoStatus geoStatus; // 좌표 변환 상태 (nullable, 기존 데이터)
+
+    private LocalDateTime geoClaimedUntil; // 좌표 변환 작업 점유 기한 (여러 인스턴스 중 하나만 변환)
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private BranchStatus status = BranchStatus.ACTIVE;
@@ -55,6 +64,17 @@ public class Branch extends BaseTimeEntity {
         this.longitude = longitude != null ? DistanceUtil.roundToTwoDecimalPlaces(longitude) : null;
     }
 
+    public void updateGeoStatus(GeoStatus geoStatus) {
+        this.geoStatus = geoStatus;
+        this.geoClaimedUntil = null;
+    }
+
+    /** 좌표 변환 대기 — 새 좌표로 변환될 때까지 이전 좌표 유지, 이전 주소의 작업 점유는 해제 */
+    public void markGeoPending() {
+        this.geoStatus = GeoStatus.PENDING;
+        this.geoClaimedUntil = null;
+    }
+
     /** 지점 비활성화 */
     public void deactivate() {
         this.status = BranchStatus.INACTIVE;
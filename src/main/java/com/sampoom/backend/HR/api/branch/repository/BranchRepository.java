@@ -6,9 +6,11 @@ import com.sampoom.backend.HR.api.branch.entity.BranchType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +22,34 @@ public interface BranchRepository extends JpaRepository<Branch, Long> {
 
     List<Branch> findByTypeOrderByNameAsc(BranchType type);
 
+    // 기준 시각 이후 수정된 행 (다른 인스턴스의 변경을 공간 인덱스에 반영)
+    List<Branch> findByUpdatedAtAfter(LocalDateTime since);
+
+    // 좌표 변환 대기 중이고 점유되지 않은(또는 점유 기한이 지난) 행
+    @Query("""
+    SELECT b FROM Branch b
+    WHERE b.geoStatus = com.sampoom.backend.HR.common.geo.entity.GeoStatus.PENDING
+    AND (b.geoClaimedUntil IS NULL OR b.geoClaimedUntil < :now)
+    ORDER BY b.id ASC
+    """)
+    List<Branch> findUnclaimedGeoPending(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 좌표 변환 작업 점유 — 같은 주소로 대기 중이고 다른 인스턴스가 점유하지 않았을 때만 1
+    @Modifying
+    @Query("""
+    UPDATE Branch b SET b.geoClaimedUntil = :until
+    WHERE b.id = :id
+    AND b.address = :address
+    AND b.geoStatus = com.sampoom.backend.HR.common.geo.entity.GeoStatus.PENDING
+    AND (b.geoClaimedUntil IS NULL OR b.geoClaimedUntil < :now)
+    """)
+    int claimGeocode(
+            @Param("id") Long id,
+            @Param("address") String address,
+            @Param("now") LocalDateTime now,
+            @Param("until") LocalDateTime until
+    );
+
 
     @Query("""
     SELECT b FROM Branch b
@@ -10,30 +10,53 @@ import com.sampoom.backend.HR.api.branch.entity.BranchStatus;
 import com.sampoom.backend.HR.api.branch.entity.BranchType;
 import com.sampoom.backend.HR.api.branch.repository.BranchRepository;
 import com.sampoom.backend.HR.api.distance.service.DistanceService;
-import com.sampoom.backend.HR.api.distance.service.BranchFactoryDistanceService;
+import com.sampoom.backend.HR.api.distance.service.DistanceRecomputePlanner;
+import com.sampoom.backend.HR.api.distance.service.DistanceRetentionService;
+import com.sampoom.backend.HR.api.geo.service.GeoIndexService;
 import com.sampoom.backend.HR.common.dto.PageResponseDTO;
 import com.sampoom.backend.HR.common.exception.NotFoundException;
+import com.sampoom.backend.HR.common.geo.entity.GeoStatus;
+import com.sampoom.backend.HR.common.geo.service.GeocodePipeline;
 import com.sampoom.backend.HR.common.response.ErrorStatus;
 import com.sampoom.backend.HR.common.util.GeoUtil;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BranchService {
 
     private final BranchRepository branchRepository;
     private final DistanceService distanceService;
-    private final BranchFactoryDistanceService branchFactoryDistanceService;
+    private final DistanceRecomputePlanner distanceRecomputePlanner;
+    private final DistanceRetentionService distanceRetentionService;
     private final GeoUtil geoUtil;
+    private final GeocodePipeline geocodePipeline;
+    private final GeoIndexService geoIndexService;
+    private final TransactionTemplate transactionTemplate;
+
+    // true 면 주소 변환을 커밋 이후 백그라운드에서 수행 (쓰기 요청이 Kakao 지연에 묶이지 않음)
+    @Value("${geo.async.enabled:false}")
+    private boolean asyncGeocoding;
+
+    // 좌표 변환 작업 점유 기한 (변환 제한시간보다 충분히 길게 — 지나면 다른 인스턴스가 다시 점유)
+    @Value("${geo.async.claim-ttl:PT2M}")
+    private Duration geocodeClaimTtl;
 
     // 지점 등록
     @Transactional
@@ -41,29 +64,29 @@ public class BranchService {
         String nextCode = generateNextBranchCode(branchRequestDTO.getType());
         Branch branch = branchRequestDTO.toEntity(nextCode);
 
-        // 주소 기반 위경도 자동 설정
+        // 주소 기반 위경도 자동 설정 (비동기 모드면 커밋 후 변환)
+        boolean geocodeLater = false;
         if (branch.getAddress() != null && !branch.getAddress().isBlank()) {
-            double[] coords = geoUtil.getLatLngFromAddress(branch.getAddress());
-            branch.setLatitude(coords[0]);
-            branch.setLongitude(coords[1]);
+            if (asyncGeocoding) {
+                branch.markGeoPending();   // 새 좌표로 변환될 때까지 이전 좌표 유지
+                geocodeLater = true;
+            } else {
+                geocodeLater = resolveNow(branch, branch.getAddress());
+            }
         }
 
         Branch saved = branchRepository.save(branch);
 
         // 거리 자동 계산
-        if (saved.getLatitude() != null && saved.getLongitude() != null) {
-            if (saved.getType() == BranchType.WAREHOUSE) {
-                // 창고인 경우: 대리점-창고 거리 + 공장-창고 거리 계산
-                distanceService.updateDistancesForNewBranch(saved); // 대리점-창고 거리
-                branchFactoryDistanceService.updateDistancesForNewWarehouse(saved); // 공장-창고 거리
-            } else if (saved.getType() == BranchType.FACTORY) {
-                // 공장인 경우: 공장-창고 거리 계산
-                branchFactoryDistanceService.updateDistancesForNewFactory(saved);
-            }
-        }
+        recalculateDistances(saved);
 
         // Outbox 이벤트 발행
         distanceService.publishBranchEvent(saved, "BranchCreated");
+        geoIndexService.onBranchChanged(saved);
+
+        if (geocodeLater) {
+            submitGeocode(saved);
+        }
 
         return BranchResponseDTO.from(saved);
     }
@@ -74,42 +97,123 @@ public class BranchService {
         Branch branch = branchRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.BRANCH_NOT_FOUND));
 
+        String previousAddress = branch.getAddress();
+        Double previousLatitude = branch.getLatitude();
+        Double previousLongitude = branch.getLongitude();
+        boolean previouslyResolved = branch.getGeoStatus() == GeoStatus.RESOLVED;
+        BranchStatus previousStatus = branch.getStatus();
+
         branch.updateInfo(branchUpdateRequestDTO.getName(), branchUpdateRequestDTO.getAddress(), branchUpdateRequestDTO.getStatus());
 
-        // 주소 변경 시 위경도 다시 계산
-        if (branchUpdateRequestDTO.getAddress() != null) {
-            String addr = branchUpdateRequestDTO.getAddress();
-            if (addr.isBlank()) {
+        // 주소 변경 시 위경도 다시 계산 (같은 주소를 다시 보낸 경우 변환된 좌표 유지)
+        boolean geocodeLater = false;
+        String requestedAddress = branchUpdateRequestDTO.getAddress();
+        if (requestedAddress != null && (!requestedAddress.equals(previousAddress) || !previouslyResolved)) {
+            if (requestedAddress.isBlank()) {
                 branch.setLatitude(null);
                 branch.setLongitude(null);
+            } else if (asyncGeocoding) {
+                branch.markGeoPending();   // 새 좌표로 변환될 때까지 이전 좌표 유지
+                geocodeLater = true;
             } else {
-                double[] coords = geoUtil.getLatLngFromAddress(addr);
-                branch.setLatitude(coords[0]);
-                branch.setLongitude(coords[1]);
+                geocodeLater = resolveNow(branch, requestedAddress);
             }
         }
 
         Branch updated = branchRepository.save(branch);
 
-        // 거리 재계산
-        if (updated.getLatitude() != null && updated.getLongitude() != null) {
-            if (updated.getType() == BranchType.WAREHOUSE) {
-                // 창고인 경우: 대리점-창고 거리 + 공장-창고 거리 재계산
-                distanceService.updateDistancesForNewBranch(updated); // 대리점-창고 거리
-                branchFactoryDistanceService.updateDistancesForNewWarehouse(updated); // 공장-창고 거리
-            } else if (updated.getType() == BranchType.FACTORY) {
-                // 공장인 경우: 공장-창고 거리 재계산
-                branchFactoryDistanceService.updateDistancesForNewFactory(updated);
-            }
+        // 좌표가 바뀐 경우에만 거리 재계산 (이름·상태만 바뀐 수정은 거리 행/이벤트를 만들지 않음)
+        if (!GeoUtil.sameCoordinates(previousLatitude, previousLongitude, updated.getLatitude(), updated.getLongitude())) {
+            recalculateDistances(updated);
+        } else if (previousStatus != updated.getStatus() && distanceRetentionService.isEnabled()) {
+            // 보존 정책 사용 시 활성 / 비활성 전환은 유지 대상(top-K / 반경)을 바꾸므로 재정리
+            distanceRecomputePlanner.planBranch(updated);
+        } else {
+            log.debug("[BranchService] 좌표 변경 없음 — 거리 재계산 생략: id={}", id);
         }
 
         // Outbox 이벤트 발행
         distanceService.publishBranchEvent(updated, "BranchUpdated");
+        geoIndexService.onBranchChanged(updated);
 
+        if (geocodeLater) {
+            submitGeocode(updated);
+        }
 
         return BranchResponseDTO.from(updated);
     }
 
+    // 좌표 변환 대기(PENDING) 지점 재등록 — 파이프라인 큐 포화 / 동기 모드의 일시 실패 등으로 남은 작업 복구
+    @Scheduled(fixedDelayString = "${geo.async.sweep-interval:PT1M}")
+    public void resubmitPendingGeocodes() {
+        List<Branch> pending = branchRepository.findUnclaimedGeoPending(LocalDateTime.now(), PageRequest.of(0, 100));
+        pending.forEach(this::submitGeocode);
+    }
+
+    // 지점 좌표 기준 거리 계산
+    private void recalculateDistances(Branch branch) {
+        if (branch.getLatitude() == null || branch.getLongitude() == null) {
+            // 보존 정책 사용 시 좌표가 해제된 창고의 기존 거리 행 삭제 (삭제 이벤트 발행 포함)
+            if (distanceRetentionService.isEnabled()) {
+                distanceRecomputePlanner.planBranch(branch);
+            }
+            return;
+        }
+
+        // 창고: 대리점-창고 + 공장-창고 거리, 공장: 공장-창고 거리 (커밋 직전 한 번만 실행)
+        distanceRecomputePlanner.planBranch(branch);
+    }
+
+    // 동기 모드 좌표 변환 — 호출량 초과 / 일시 오류(null)면 {0, 0} 을 저장하지 않고 이전 좌표를 유지한 채 PENDING 으로 두고 커밋 후 재시도
+    private boolean resolveNow(Branch branch, String address) {
+        double[] coords = geoUtil.resolveLatLng(address);
+        if (coords == null) {
+            branch.markGeoPending();
+            return true;
+        }
+        applyCoordinates(branch, coords);
+        return false;
+    }
+
+    private void applyCoordinates(Branch branch, double[] coords) {
+        branch.setLatitude(coords[0]);
+        branch.setLongitude(coords[1]);
+        branch.updateGeoStatus(GeoUtil.isValid(coords) ? GeoStatus.RESOLVED : GeoStatus.FAILED);
+    }
+
+    // 커밋 후 비동기 좌표 변환 등록
+    private void submitGeocode(Branch branch) {
+        Long id = branch.getId();
+        String address = branch.getAddress();
+        geocodePipeline.submitAfterCommit("BRANCH:" + id, address,
+                () -> claimGeocode(id, address),
+                coords -> transactionTemplate.executeWithoutResult(status -> applyGeocodeResult(id, address, coords)));
+    }
+
+    // 좌표 변환 작업 점유 (조건부 UPDATE — 여러 인스턴스 / 중복 등록 중 하나만 성공)
+    private boolean claimGeocode(Long id, String address) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status ->
+                branchRepository.claimGeocode(id, address, now, now.plus(geocodeClaimTtl)));
+        return claimed != null && claimed == 1;
+    }
+
+    // 비동기 좌표 변환 결과 반영 + 거리 계산 + 이벤트 발행
+    private void applyGeocodeResult(Long id, String address, double[] coords) {
+        Branch branch = branchRepository.findById(id).orElse(null);
+        if (branch == null || branch.getGeoStatus() != GeoStatus.PENDING || !address.equals(branch.getAddress())) {
+            log.info("[BranchService] 좌표 변환 결과 무시 (이미 변경된 지점): id={}", id);
+            return;
+        }
+
+        applyCoordinates(branch, coords);
+        Branch updated = branchRepository.save(branch);
+
+        recalculateDistances(updated);
+        distanceService.publishBranchEvent(updated, "BranchUpdated");
+        geoIndexService.onBranchChanged(updated);
+    }
+
     // 지점 삭제 (비활성화)
     @Transactional
     public void deactivateBranch(Long id) {
@@ -119,8 +223,14 @@ public class BranchService {
         branch.deactivate();
         branchRepository.save(branch);
 
+        // 보존 정책 사용 시 비활성 창고가 차지하던 top-K 자리 정리 (삭제 이벤트 발행 포함)
+        if (distanceRetentionService.isEnabled()) {
+            distanceRecomputePlanner.planBranch(branch);
+        }
+
         // 삭제 이벤트도 Outbox에 발행 가능 (선택)
         distanceService.publishBranchEvent(branch, "BranchDeactivated");
+        geoIndexService.onBranchChanged(branch);
     }
 
     // 지점 단일 조회
@@ -0,0 +1,111 @@
+package com.sampoom.backend.HR.api.distance.controller;
+
+import com.sampoom.backend.HR.api.distance.dto.DistanceExportFormat;
+import com.sampoom.backend.HR.api.distance.dto.DistanceMatrixStatsDTO;
+import com.sampoom.backend.HR.api.distance.dto.DistanceResponseDTO;
+import com.sampoom.backend.HR.api.distance.dto.DistanceTable;
+import com.sampoom.backend.HR.api.distance.service.DistanceExportService;
+import com.sampoom.backend.HR.api.distance.service.DistanceMatrixCache;
+import com.sampoom.backend.HR.common.response.ApiResponse;
+import com.sampoom.backend.HR.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/distances")
+@Tag(name = "Distance API", description = "창고-거래처 / 창고-공장 거리 조회 API (메모리 행렬)")
+public class DistanceController {
+
+    private final DistanceMatrixCache distanceMatrixCache;
+    private final DistanceExportService distanceExportService;
+
+    /** 창고 - 거래처 거리 */
+    @Operation(summary = "창고-거래처 거리 조회")
+    @GetMapping("/warehouses/{warehouseId}/vendors/{vendorId}")
+    public ResponseEntity<ApiResponse<DistanceResponseDTO>> getWarehouseVendorDistance(
+            @PathVariable Long warehouseId,
+            @PathVariable Long vendorId
+    ) {
+        return ApiResponse.success(SuccessStatus.OK,
+                distanceMatrixCache.get(DistanceTable.BRANCH_VENDOR, warehouseId, vendorId));
+    }
+
+    /** 창고 - 공장 거리 */
+    @Operation(summary = "창고-공장 거리 조회")
+    @GetMapping("/warehouses/{warehouseId}/factories/{factoryId}")
+    public ResponseEntity<ApiResponse<DistanceResponseDTO>> getWarehouseFactoryDistance(
+            @PathVariable Long warehouseId,
+            @PathVariable Long factoryId
+    ) {
+        return ApiResponse.success(SuccessStatus.OK,
+                distanceMatrixCache.get(DistanceTable.BRANCH_FACTORY, warehouseId, factoryId));
+    }
+
+    /** 창고 기준 거래처 거리 목록 */
+    @Operation(summary = "창고-거래처 거리 목록", description = "창고에서 모든 거래처까지의 거리를 가까운 순으로 조회합니다.")
+    @GetMapping("/warehouses/{warehouseId}/vendors")
+    public ResponseEntity<ApiResponse<List<DistanceResponseDTO>>> getVendorDistancesOfWarehouse(@PathVariable Long warehouseId) {
+        return ApiResponse.success(SuccessStatus.OK,
+                distanceMatrixCache.findByBranch(DistanceTable.BRANCH_VENDOR, warehouseId));
+    }
+
+    /** 창고 기준 공장 거리 목록 */
+    @Operation(summary = "창고-공장 거리 목록", description = "창고에서 모든 공장까지의 거리를 가까운 순으로 조회합니다.")
+    @GetMapping("/warehouses/{warehouseId}/factories")
+    public ResponseEntity<ApiResponse<List<DistanceResponseDTO>>> getFactoryDistancesOfWarehouse(@PathVariable Long warehouseId) {
+        return ApiResponse.success(SuccessStatus.OK,
+                distanceMatrixCache.findByBranch(DistanceTable.BRANCH_FACTORY, warehouseId));
+    }
+
+    /** 거래처 기준 창고 거리 목록 */
+    @Operation(summary = "거래처-창고 거리 목록", description = "거래처에서 모든 창고까지의 거리를 가까운 순으로 조회합니다.")
+    @GetMapping("/vendors/{vendorId}/warehouses")
+    public ResponseEntity<ApiResponse<List<DistanceResponseDTO>>> getWarehouseDistancesOfVendor(@PathVariable Long vendorId) {
+        return ApiResponse.success(SuccessStatus.OK,
+                distanceMatrixCache.findByTarget(DistanceTable.BRANCH_VENDOR, vendorId));
+    }
+
+    /** 공장 기준 창고 거리 목록 */
+    @Operation(summary = "공장-창고 거리 목록", description = "공장에서 모든 창고까지의 거리를 가까운 순으로 조회합니다.")
+    @GetMapping("/factories/{factoryId}/warehouses")
+    public ResponseEntity<ApiResponse<List<DistanceResponseDTO>>> getWarehouseDistancesOfFactory(@PathVariable Long factoryId) {
+        return ApiResponse.success(SuccessStatus.OK,
+                distanceMatrixCache.findByTarget(DistanceTable.BRANCH_FACTORY, factoryId));
+    }
+
+    /** 메모리 행렬 상태 */
+    @Operation(summary = "거리 행렬 메모리 사용량", description = "행렬별 항목 수, 슬롯 수, 메모리 사용량(추정)을 조회합니다.")
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<List<DistanceMatrixStatsDTO>>> getStats() {
+        return ApiResponse.success(SuccessStatus.OK, distanceMatrixCache.stats());
+    }
+
+    /** 거리 테이블 전체 내보내기 */
+    @Operation(summary = "거리 테이블 전체 내보내기",
+            description = "창고-거래처(BRANCH_VENDOR) 또는 창고-공장(BRANCH_FACTORY) 거리 전체를 NDJSON / CSV 로 스트리밍합니다. gzip=true 면 .gz 파일로 내려받습니다.")
+    @GetMapping("/export")
+    public void export(
+            @RequestParam DistanceTable matrix,
+            @RequestParam(defaultValue = "NDJSON") DistanceExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(gzip ? "application/gzip" : format.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(distanceExportService.fileName(matrix, format, gzip))
+                .build()
+                .toString());
+
+        distanceExportService.export(matrix, format, gzip, response.getOutputStream());
+    }
+}
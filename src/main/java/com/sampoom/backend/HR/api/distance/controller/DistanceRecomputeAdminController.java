@@ -0,0 +1,57 @@
+package com.sampoom.backend.HR.api.distance.controller;
+
+import com.sampoom.backend.HR.api.distance.dto.DistanceRecomputeJobResponseDTO;
+import com.sampoom.backend.HR.api.distance.dto.DistanceTable;
+import com.sampoom.backend.HR.api.distance.service.DistanceRecomputeJobService;
+import com.sampoom.backend.HR.common.response.ApiResponse;
+import com.sampoom.backend.HR.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/distances/recompute")
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Distance Admin API", description = "거리 행렬 전체 재계산 관리 API")
+public class DistanceRecomputeAdminController {
+
+    private final DistanceRecomputeJobService distanceRecomputeJobService;
+
+    @Operation(summary = "거리 전체 재계산 시작",
+            description = "창고 × 거래처(BRANCH_VENDOR) 또는 창고 × 공장(BRANCH_FACTORY) 거리 전체를 청크 단위로 병렬 재계산합니다.")
+    @PostMapping
+    public ResponseEntity<ApiResponse<DistanceRecomputeJobResponseDTO>> start(@RequestParam DistanceTable matrix) {
+        DistanceRecomputeJobResponseDTO response = distanceRecomputeJobService.start(matrix);
+        return ApiResponse.success(SuccessStatus.OK, response);
+    }
+
+    @Operation(summary = "재계산 작업 목록", description = "최근 재계산 작업 20건의 진행 상황을 조회합니다.")
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<DistanceRecomputeJobResponseDTO>>> getRecentJobs() {
+        return ApiResponse.success(SuccessStatus.OK, distanceRecomputeJobService.getRecentJobs());
+    }
+
+    @Operation(summary = "재계산 작업 진행 상황", description = "커밋된 청크 기준 진행률과 저장된 거리 수를 조회합니다.")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<DistanceRecomputeJobResponseDTO>> get(@PathVariable Long jobId) {
+        return ApiResponse.success(SuccessStatus.OK, distanceRecomputeJobService.get(jobId));
+    }
+
+    @Operation(summary = "재계산 작업 재개", description = "실패 또는 취소된 작업을 마지막으로 커밋된 청크 이후부터 이어서 실행합니다.")
+    @PostMapping("/{jobId}/resume")
+    public ResponseEntity<ApiResponse<DistanceRecomputeJobResponseDTO>> resume(@PathVariable Long jobId) {
+        return ApiResponse.success(SuccessStatus.OK, distanceRecomputeJobService.resume(jobId));
+    }
+
+    @Operation(summary = "재계산 작업 취소", description = "새 청크 실행을 멈춥니다. 이미 진행 중인 청크는 커밋됩니다.")
+    @PostMapping("/{jobId}/cancel")
+    public ResponseEntity<ApiResponse<DistanceRecomputeJobResponseDTO>> cancel(@PathVariable Long jobId) {
+        return ApiResponse.success(SuccessStatus.OK, distanceRecomputeJobService.cancel(jobId));
+    }
+}
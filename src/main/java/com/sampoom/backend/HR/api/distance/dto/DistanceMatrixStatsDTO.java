@@ -0,0 +1,23 @@
+package com.sampoom.backend.HR.api.distance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DistanceMatrixStatsDTO {
+
+    private DistanceTable matrix;
+    private boolean loaded;
+    private int entries;
+    private int capacity;           // 해시 슬롯 수
+    private int branches;           // 창고 ID 수
+    private int targets;            // 거래처 / 공장 ID 수
+    private long mapBytes;          // 키/값 배열
+    private long estimatedBytes;    // 배열 + ID 집합 추정치
+    private long loadMillis;
+}
@@ -0,0 +1,16 @@
+package com.sampoom.backend.HR.api.distance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 계산된 거리 (저장 전)
+ */
+@Getter
+@AllArgsConstructor
+public class DistancePair {
+
+    private Long branchId;   // 창고 ID
+    private Long targetId;   // 대리점 또는 공장 ID
+    private double distanceKm;
+}
@@ -0,0 +1,54 @@
+package com.sampoom.backend.HR.api.distance.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.sampoom.backend.HR.api.distance.entity.DistanceRecomputeChunk;
+import com.sampoom.backend.HR.api.distance.entity.DistanceRecomputeJob;
+import com.sampoom.backend.HR.api.distance.entity.DistanceRecomputeJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DistanceRecomputeJobResponseDTO {
+
+    private Long jobId;
+    private DistanceTable matrix;
+    private DistanceRecomputeJobStatus status;
+    private int attempts;
+    private int totalRows;
+    private int completedRows;          // 커밋된 청크 기준
+    private int completedChunks;
+    private long computedPairs;
+    private long writtenPairs;          // 값이 바뀌어 저장 / 이벤트 발행된 쌍
+    private String lastError;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
+    private LocalDateTime createdAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
+    private LocalDateTime finishedAt;
+
+    public static DistanceRecomputeJobResponseDTO from(DistanceRecomputeJob job, List<DistanceRecomputeChunk> chunks) {
+        return DistanceRecomputeJobResponseDTO.builder()
+                .jobId(job.getId())
+                .matrix(job.getMatrix())
+                .status(job.getStatus())
+                .attempts(job.getAttempts())
+                .totalRows(job.getTotalRows())
+                .completedRows(chunks.stream().mapToInt(DistanceRecomputeChunk::getRowCount).sum())
+                .completedChunks(chunks.size())
+                .computedPairs(chunks.stream().mapToLong(DistanceRecomputeChunk::getComputedPairs).sum())
+                .writtenPairs(chunks.stream().mapToLong(DistanceRecomputeChunk::getWrittenPairs).sum())
+                .lastError(job.getLastError())
+                .createdAt(job.getCreatedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
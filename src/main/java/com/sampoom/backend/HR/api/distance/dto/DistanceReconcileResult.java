@@ -0,0 +1,18 @@
+package com.sampoom.backend.HR.api.distance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 보존 정책 반영 결과
+ */
+@Getter
+@AllArgsConstructor
+public class DistanceReconcileResult {
+
+    private int evaluatedPairs;             // 정책 평가 후 유지 대상 쌍 수
+    private List<StoredDistance> written;   // 신규 / 값 변경으로 저장된 행
+    private List<StoredDistance> deleted;   // 정책에서 벗어나 삭제된 행 (삭제 전 값)
+}
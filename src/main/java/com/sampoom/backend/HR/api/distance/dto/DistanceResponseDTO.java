@@ -0,0 +1,17 @@
+package com.sampoom.backend.HR.api.distance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DistanceResponseDTO {
+
+    private Long branchId;      // 창고 ID
+    private Long targetId;      // 거래처 또는 공장 ID
+    private Double distanceKm;
+}
@@ -0,0 +1,19 @@
+package com.sampoom.backend.HR.api.distance.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 거리 테이블 구분 (JDBC 일괄 처리용)
+ * - 두 테이블 모두 (branch_id, 대상 id) 유니크 제약을 가짐
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DistanceTable {
+
+    BRANCH_VENDOR("branch_vendor_distance", "vendor_id"),     // 창고 - 대리점(거래처)
+    BRANCH_FACTORY("branch_factory_distance", "factory_id");  // 창고 - 공장
+
+    private final String tableName;
+    private final String targetColumn;
+}
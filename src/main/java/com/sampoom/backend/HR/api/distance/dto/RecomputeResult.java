@@ -0,0 +1,17 @@
+package com.sampoom.backend.HR.api.distance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 거리 재계산 결과 (계산한 쌍 수 / 실제 저장·발행한 쌍 수)
+ */
+@Getter
+@AllArgsConstructor
+public class RecomputeResult {
+
+    public static final RecomputeResult EMPTY = new RecomputeResult(0, 0);
+
+    private int computedPairs;
+    private int writtenPairs;
+}
@@ -0,0 +1,18 @@
+package com.sampoom.backend.HR.api.distance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장된 거리 행 (이벤트 발행용 id / version 포함)
+ */
+@Getter
+@AllArgsConstructor
+public class StoredDistance {
+
+    private Long id;
+    private Long branchId;
+    private Long targetId;
+    private Double distanceKm;
+    private Long version;
+}
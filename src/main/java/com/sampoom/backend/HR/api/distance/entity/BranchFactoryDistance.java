@@ -7,7 +7,9 @@ import lombok.*;
 
 @Entity
 @Table(name = "branch_factory_distance",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"branch_id", "factory_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"branch_id", "factory_id"}),
+        // 다른 인스턴스가 저장한 변경분 동기화 (DistanceMatrixCache)
+        indexes = @Index(name = "idx_branch_factory_distance_updated_at", columnList = "updated_at"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
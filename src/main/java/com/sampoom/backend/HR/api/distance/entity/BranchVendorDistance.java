@@ -8,7 +8,9 @@ import lombok.*;
 
 @Entity
 @Table(name = "branch_vendor_distance",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"branch_id", "vendor_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"branch_id", "vendor_id"}),
+        // 다른 인스턴스가 저장한 변경분 동기화 (DistanceMatrixCache)
+        indexes = @Index(name = "idx_branch_vendor_distance_updated_at", columnList = "updated_at"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
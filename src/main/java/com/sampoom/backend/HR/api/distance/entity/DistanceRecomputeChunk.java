@@ -0,0 +1,44 @@
+package com.sampoom.backend.HR.api.distance.entity;
+
+import com.sampoom.backend.HR.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 재계산 작업의 완료된 청크 (체크포인트)
+ * - 청크의 거리 행 / Outbox 이벤트와 같은 트랜잭션에서 저장되므로, 존재하면 해당 범위는 반영 완료
+ * - 범위는 행 ID 기준 (재개 시 행 목록이 바뀌어도 완료 범위를 그대로 건너뜀)
+ * - 행은 창고, 단 보존 정책 사용 시 창고-거래처 행렬은 거래처 (first/lastBranchId 컬럼에 거래처 ID 저장)
+ */
+@Entity
+@Table(name = "distance_recompute_chunk",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_id", "first_branch_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DistanceRecomputeChunk extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "first_branch_id", nullable = false)
+    private Long firstBranchId;
+
+    @Column(nullable = false)
+    private Long lastBranchId;
+
+    private int rowCount;
+
+    private int computedPairs;
+
+    private int writtenPairs;
+
+    public boolean covers(Long branchId) {
+        return firstBranchId <= branchId && branchId <= lastBranchId;
+    }
+}
@@ -0,0 +1,100 @@
+package com.sampoom.backend.HR.api.distance.entity;
+
+import com.sampoom.backend.HR.api.distance.dto.DistanceTable;
+import com.sampoom.backend.HR.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거리 행렬 전체 재계산 작업
+ * - 진행 상황(체크포인트)은 커밋된 청크(DistanceRecomputeChunk)로 기록
+ * - 실행 인스턴스(owner)가 heartbeatAt 을 주기적으로 갱신 — 갱신이 끊긴 RUNNING 작업만 중단된 것으로 판단
+ */
+@Entity
+@Table(name = "distance_recompute_job")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DistanceRecomputeJob extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DistanceTable matrix;               // BRANCH_VENDOR / BRANCH_FACTORY
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DistanceRecomputeJobStatus status;
+
+    private int totalRows;                      // 실행 시점의 창고(행) 수
+
+    private int attempts;                       // 시작 + 재개 횟수
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime finishedAt;
+
+    @Column(length = 100)
+    private String owner;                       // 실행 중인(마지막으로 실행한) 인스턴스
+
+    private LocalDateTime heartbeatAt;          // 실행 인스턴스가 주기적으로 갱신
+
+    private Boolean cancelRequested;            // 취소 요청 — 실행 인스턴스가 하트비트 때 확인
+
+    public static DistanceRecomputeJob start(DistanceTable matrix, String owner, LocalDateTime now) {
+        return DistanceRecomputeJob.builder()
+                .matrix(matrix)
+                .status(DistanceRecomputeJobStatus.RUNNING)
+                .attempts(1)
+                .owner(owner)
+                .heartbeatAt(now)
+                .build();
+    }
+
+    public boolean isResumable() {
+        return status == DistanceRecomputeJobStatus.FAILED || status == DistanceRecomputeJobStatus.CANCELLED;
+    }
+
+    public void resume(String owner, LocalDateTime now) {
+        this.status = DistanceRecomputeJobStatus.RUNNING;
+        this.attempts += 1;
+        this.lastError = null;
+        this.finishedAt = null;
+        this.owner = owner;
+        this.heartbeatAt = now;
+        this.cancelRequested = null;
+    }
+
+    public boolean isOwnedBy(String instance) {
+        return status == DistanceRecomputeJobStatus.RUNNING && instance.equals(owner);
+    }
+
+    /**
+     * 실행 중인데 하트비트가 기준 시각 이전에 멈춘 작업 (실행 인스턴스 종료 / 중단)
+     */
+    public boolean isStale(LocalDateTime threshold) {
+        return status == DistanceRecomputeJobStatus.RUNNING
+                && (heartbeatAt == null || heartbeatAt.isBefore(threshold));
+    }
+
+    public boolean isCancelRequested() {
+        return Boolean.TRUE.equals(cancelRequested);
+    }
+
+    public void updateTotalRows(int totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public void finish(DistanceRecomputeJobStatus status, String error) {
+        this.status = status;
+        this.lastError = error == null || error.length() <= 1000 ? error : error.substring(0, 1000);
+        this.finishedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,8 @@
+package com.sampoom.backend.HR.api.distance.entity;
+
+public enum DistanceRecomputeJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED,     // 청크 실패 또는 서버 재시작으로 중단 — 재개 가능
+    CANCELLED   // 관리자 취소 — 재개 가능
+}
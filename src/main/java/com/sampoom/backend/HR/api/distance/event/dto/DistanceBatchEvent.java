@@ -0,0 +1,55 @@
+package com.sampoom.backend.HR.api.distance.event.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 거리 변경분 묶음 이벤트 (기준 엔티티 하나의 변경 쌍을 청크 단위로 전달)
+ * - outbox.batch-topics 에 포함된 토픽에만 발행 (그 외 토픽은 쌍별 이벤트 유지)
+ * - Kafka 키는 기준 엔티티 ID
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DistanceBatchEvent {
+
+    private String eventId;
+    private String eventType;     // "DistanceBatchUpdated"
+    private Long version;         // 청크에 포함된 거리 행의 최대 버전
+    private String occurredAt;
+    private Payload payload;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Payload {
+        private String anchorType;  // 기준 엔티티: "BRANCH"(창고) / "AGENCY" / "FACTORY"
+        private Long anchorId;
+        private int chunkIndex;     // 0 부터
+        private int chunkCount;     // 같은 변경의 전체 청크 수
+        private List<Item> items;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Item {
+        private Long distanceId;
+        private Long branchId;
+        private Long targetId;      // 대리점 또는 공장 ID
+        private Double distanceKm;
+        private Long version;
+        private Boolean deleted;    // 삭제(tombstone) 일 때만 true
+        private String branchName;  // 창고-공장 거리만
+        private String targetName;  // 창고-공장 거리만
+    }
+}
@@ -0,0 +1,199 @@
+package com.sampoom.backend.HR.api.distance.event.service;
+
+import com.sampoom.backend.HR.api.distance.dto.DistanceTable;
+import com.sampoom.backend.HR.api.distance.dto.StoredDistance;
+import com.sampoom.backend.HR.api.distance.event.dto.BranchAgencyDistanceEvent;
+import com.sampoom.backend.HR.api.distance.event.dto.BranchFactoryDistanceEvent;
+import com.sampoom.backend.HR.api.distance.event.dto.DistanceBatchEvent;
+import com.sampoom.backend.HR.api.distance.service.DistanceBulkWriter;
+import com.sampoom.backend.HR.common.outbox.service.OutboxEventProcessor;
+import com.sampoom.backend.HR.common.outbox.service.OutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 거리 변경 이벤트 발행
+ * - 기본: 거리 행마다 Outbox 이벤트 1건 (DistanceCalculated / DistanceDeleted / BranchFactoryDistanceCalculated)
+ * - outbox.batch-topics 에 토픽이 있으면 기준 엔티티별로 묶어 outbox.batch-size 쌍씩 DistanceBatchUpdated 발행
+ */
+@Slf4j
+@Service
+public class DistanceEventPublisher {
+
+    public static final String BATCH_EVENT_TYPE = "DistanceBatchUpdated";
+
+    private final OutboxService outboxService;
+    private final Set<String> batchTopics;
+    private final int batchSize;
+    private final Counter singleEvents;
+    private final Counter batchEvents;
+    private final Counter batchedPairs;
+
+    public DistanceEventPublisher(
+            OutboxService outboxService,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.batch-topics:}") List<String> batchTopics,
+            @Value("${outbox.batch-size:500}") int batchSize
+    ) {
+        this.outboxService = outboxService;
+        this.batchTopics = new HashSet<>();
+        batchTopics.stream().map(String::trim).filter(topic -> !topic.isEmpty()).forEach(this.batchTopics::add);
+        this.batchSize = Math.max(1, batchSize);
+
+        this.singleEvents = Counter.builder("distance.events").tag("mode", "single").register(meterRegistry);
+        this.batchEvents = Counter.builder("distance.events").tag("mode", "batch").register(meterRegistry);
+        this.batchedPairs = Counter.builder("distance.events.batched.pairs").register(meterRegistry);
+
+        if (!this.batchTopics.isEmpty()) {
+            log.info("[DistanceEventPublisher] 묶음 이벤트 사용 토픽: {} (청크 {}쌍)", this.batchTopics, this.batchSize);
+        }
+    }
+
+    /**
+     * 저장 / 삭제된 거리 이벤트 발행
+     * @param anchor 묶음 기준 (BRANCH: 창고별, TARGET: 대리점 / 공장별)
+     * @param names  지점 ID → 이름 (창고-공장 거리 페이로드용, 없으면 빈 맵)
+     */
+    public void publish(DistanceTable table, DistanceBulkWriter.Anchor anchor,
+                        List<StoredDistance> written, List<StoredDistance> deleted, Map<Long, String> names) {
+        if (written.isEmpty() && deleted.isEmpty()) return;
+
+        if (isBatched(table)) {
+            publishBatches(table, anchor, written, deleted, names);
+            return;
+        }
+
+        written.forEach(distance -> publishSingle(table, distance, false, names));
+        deleted.forEach(distance -> publishSingle(table, distance, true, names));
+    }
+
+    public boolean isBatched(DistanceTable table) {
+        return batchTopics.contains(topic(table));
+    }
+
+    // ---------------- 묶음 ----------------
+
+    private void publishBatches(DistanceTable table, DistanceBulkWriter.Anchor anchor,
+                                List<StoredDistance> written, List<StoredDistance> deleted, Map<Long, String> names) {
+        // 기준 엔티티별로 묶음 (입력 순서 유지)
+        Map<Long, List<DistanceBatchEvent.Item>> byAnchor = new LinkedHashMap<>();
+        for (StoredDistance distance : written) {
+            byAnchor.computeIfAbsent(anchorId(anchor, distance), id -> new ArrayList<>())
+                    .add(toItem(table, distance, false, names));
+        }
+        for (StoredDistance distance : deleted) {
+            byAnchor.computeIfAbsent(anchorId(anchor, distance), id -> new ArrayList<>())
+                    .add(toItem(table, distance, true, names));
+        }
+
+        String anchorType = anchor == DistanceBulkWriter.Anchor.BRANCH ? "BRANCH"
+                : table == DistanceTable.BRANCH_VENDOR ? "AGENCY" : "FACTORY";
+
+        byAnchor.forEach((anchorId, items) -> {
+            int chunkCount = (items.size() + batchSize - 1) / batchSize;
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                List<DistanceBatchEvent.Item> slice =
+                        items.subList(chunk * batchSize, Math.min((chunk + 1) * batchSize, items.size()));
+
+                DistanceBatchEvent.Payload payload = DistanceBatchEvent.Payload.builder()
+                        .anchorType(anchorType)
+                        .anchorId(anchorId)
+                        .chunkIndex(chunk)
+                        .chunkCount(chunkCount)
+                        .items(List.copyOf(slice))
+                        .build();
+
+                long version = slice.stream().mapToLong(DistanceBatchEvent.Item::getVersion).max().orElse(1L);
+                outboxService.saveEvent(batchAggregateType(table), anchorId, BATCH_EVENT_TYPE, version, payload);
+                batchEvents.increment();
+            }
+            batchedPairs.increment(items.size());
+        });
+
+        log.debug("[DistanceEventPublisher] {} 묶음 이벤트 발행: 기준 {}개, 쌍 {}건",
+                table, byAnchor.size(), written.size() + deleted.size());
+    }
+
+    private static DistanceBatchEvent.Item toItem(DistanceTable table, StoredDistance distance,
+                                                  boolean deleted, Map<Long, String> names) {
+        boolean factory = table == DistanceTable.BRANCH_FACTORY;
+        return DistanceBatchEvent.Item.builder()
+                .distanceId(distance.getId())
+                .branchId(distance.getBranchId())
+                .targetId(distance.getTargetId())
+                .distanceKm(distance.getDistanceKm())
+                .version(eventVersion(distance, deleted))
+                .deleted(deleted ? Boolean.TRUE : null)
+                .branchName(factory ? names.get(distance.getBranchId()) : null)
+                .targetName(factory ? names.get(distance.getTargetId()) : null)
+                .build();
+    }
+
+    // ---------------- 쌍별 ----------------
+
+    private void publishSingle(DistanceTable table, StoredDistance distance, boolean deleted, Map<Long, String> names) {
+        if (table == DistanceTable.BRANCH_FACTORY) {
+            BranchFactoryDistanceEvent.Payload payload = BranchFactoryDistanceEvent.Payload.builder()
+                    .distanceId(distance.getId())
+                    .branchId(distance.getBranchId())
+                    .factoryId(distance.getTargetId())
+                    .distanceKm(distance.getDistanceKm())
+                    .branchName(names.get(distance.getBranchId()))
+                    .factoryName(names.get(distance.getTargetId()))
+                    .build();
+
+            outboxService.saveEvent(
+                    "BRANCH_FACTORY_DISTANCE",
+                    distance.getId(),
+                    "BranchFactoryDistanceCalculated",
+                    distance.getVersion(),
+                    payload
+            );
+        } else {
+            BranchAgencyDistanceEvent.Payload payload = BranchAgencyDistanceEvent.Payload.builder()
+                    .distanceId(distance.getId())
+                    .branchId(distance.getBranchId())
+                    .agencyId(distance.getTargetId())
+                    .distanceKm(distance.getDistanceKm())
+                    .deleted(deleted)
+                    .build();
+
+            outboxService.saveEvent(
+                    "BRANCH_AGENCY_DISTANCE",
+                    distance.getId(),
+                    deleted ? "DistanceDeleted" : "DistanceCalculated",
+                    eventVersion(distance, deleted),
+                    payload
+            );
+        }
+        singleEvents.increment();
+    }
+
+    // ---------------- helper ----------------
+
+    // 삭제(tombstone) 이벤트는 삭제된 행의 마지막 버전 + 1
+    private static Long eventVersion(StoredDistance distance, boolean deleted) {
+        return deleted ? distance.getVersion() + 1 : distance.getVersion();
+    }
+
+    private static Long anchorId(DistanceBulkWriter.Anchor anchor, StoredDistance distance) {
+        return anchor == DistanceBulkWriter.Anchor.BRANCH ? distance.getBranchId() : distance.getTargetId();
+    }
+
+    private static String topic(DistanceTable table) {
+        return table == DistanceTable.BRANCH_VENDOR
+                ? OutboxEventProcessor.TOPIC_BRANCH_DISTANCE
+                : OutboxEventProcessor.TOPIC_BRANCH_FACTORY_DISTANCE;
+    }
+
+    private static String batchAggregateType(DistanceTable table) {
+        return table == DistanceTable.BRANCH_VENDOR
+                ? "BRANCH_AGENCY_DISTANCE_BATCH"
+                : "BRANCH_FACTORY_DISTANCE_BATCH";
+    }
+}
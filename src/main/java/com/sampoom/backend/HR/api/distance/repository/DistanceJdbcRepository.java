@@ -0,0 +1,204 @@
+package com.sampoom.backend.HR.api.distance.repository;
+
+import com.sampoom.backend.HR.api.distance.dto.DistancePair;
+import com.sampoom.backend.HR.api.distance.dto.DistanceTable;
+import com.sampoom.backend.HR.api.distance.dto.StoredDistance;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 거리 테이블 JDBC 일괄 처리
+ * - IDENTITY 키라 Hibernate 배치 insert 가 불가능하므로, 다건 VALUES + ON CONFLICT 로 직접 upsert
+ * - 테이블/컬럼명은 DistanceTable 상수에서만 가져옴 (외부 입력 없음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class DistanceJdbcRepository {
+
+    // 한 문장당 행 수 (행당 파라미터 5개 — PostgreSQL 파라미터 상한 32767 이내)
+    private static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 창고 기준 기존 거리 전체 조회
+     */
+    public List<StoredDistance> findByBranchId(DistanceTable table, Long branchId) {
+        String sql = "SELECT id, branch_id, " + table.getTargetColumn() + ", distance_km, version"
+                + " FROM " + table.getTableName()
+                + " WHERE branch_id = ?";
+        return jdbcTemplate.query(sql, rowMapper(table), branchId);
+    }
+
+    /**
+     * 대상(대리점/공장) 기준 기존 거리 전체 조회
+     */
+    public List<StoredDistance> findByTargetId(DistanceTable table, Long targetId) {
+        String sql = "SELECT id, branch_id, " + table.getTargetColumn() + ", distance_km, version"
+                + " FROM " + table.getTableName()
+                + " WHERE " + table.getTargetColumn() + " = ?";
+        return jdbcTemplate.query(sql, rowMapper(table), targetId);
+    }
+
+    /**
+     * 여러 대상(대리점/공장)의 기존 거리 일괄 조회
+     */
+    public List<StoredDistance> findByTargetIds(DistanceTable table, Collection<Long> targetIds) {
+        if (targetIds.isEmpty()) return List.of();
+        String sql = "SELECT id, branch_id, " + table.getTargetColumn() + ", distance_km, version"
+                + " FROM " + table.getTableName()
+                + " WHERE " + table.getTargetColumn() + " = ANY (?)";
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("bigint", targetIds.toArray()));
+            return ps;
+        }, rowMapper(table));
+    }
+
+    /**
+     * 저장된 거리 중 최댓값 (비어 있으면 null)
+     */
+    public Double findMaxDistance(DistanceTable table) {
+        return jdbcTemplate.queryForObject("SELECT MAX(distance_km) FROM " + table.getTableName(), Double.class);
+    }
+
+    /**
+     * 저장된 거리 행이 limit 개 미만인 대상 ID
+     */
+    public List<Long> findTargetIdsWithFewerRowsThan(DistanceTable table, int limit) {
+        String sql = "SELECT " + table.getTargetColumn()
+                + " FROM " + table.getTableName()
+                + " GROUP BY " + table.getTargetColumn()
+                + " HAVING COUNT(*) < ?";
+        return jdbcTemplate.queryForList(sql, Long.class, limit);
+    }
+
+    /**
+     * id 목록 일괄 삭제
+     */
+    public int deleteByIds(DistanceTable table, Collection<Long> ids) {
+        if (ids.isEmpty()) return 0;
+        String sql = "DELETE FROM " + table.getTableName() + " WHERE id = ANY (?)";
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("bigint", ids.toArray()));
+            return ps;
+        });
+    }
+
+    /**
+     * 거리 테이블 전체를 커서로 순회 (호출 측 트랜잭션 안에서 fetchSize 단위로 가져옴)
+     */
+    public void forEachDistance(DistanceTable table, int fetchSize, DistanceRowHandler handler) {
+        String sql = "SELECT branch_id, " + table.getTargetColumn() + ", distance_km"
+                + " FROM " + table.getTableName()
+                + " WHERE distance_km IS NOT NULL";
+        jdbcTemplate.query(cursor(sql, fetchSize),
+                (RowCallbackHandler) rs -> handler.handle(rs.getLong(1), rs.getLong(2), rs.getDouble(3)));
+    }
+
+    /**
+     * updated_at 이 기준 시각 이후인 거리 순회 (다른 인스턴스가 저장한 변경 반영용, 호출 측 트랜잭션 안에서 실행)
+     */
+    public void forEachUpdatedSince(DistanceTable table, LocalDateTime since, int fetchSize, DistanceRowHandler handler) {
+        String sql = "SELECT branch_id, " + table.getTargetColumn() + ", distance_km"
+                + " FROM " + table.getTableName()
+                + " WHERE updated_at >= ? AND distance_km IS NOT NULL";
+        jdbcTemplate.query(con -> {
+                    PreparedStatement ps = cursor(sql, fetchSize).createPreparedStatement(con);
+                    ps.setTimestamp(1, Timestamp.valueOf(since));
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> handler.handle(rs.getLong(1), rs.getLong(2), rs.getDouble(3)));
+    }
+
+    /**
+     * 내보내기용 전체 순회 (id 순, 엔티티 없이 ResultSet 그대로 전달)
+     * - 컬럼: id, branch_id, target_id, distance_km, version, updated_at
+     * - 호출 측 트랜잭션 안에서 호출해야 fetchSize 단위 커서로 동작 (PostgreSQL 은 autocommit 이면 전체 적재)
+     */
+    public void forEachForExport(DistanceTable table, int fetchSize, RowCallbackHandler handler) {
+        String sql = "SELECT id, branch_id, " + table.getTargetColumn() + " AS target_id, distance_km, version, updated_at"
+                + " FROM " + table.getTableName()
+                + " ORDER BY id";
+        jdbcTemplate.query(cursor(sql, fetchSize), handler);
+    }
+
+    /**
+     * 일괄 upsert — 신규 행은 version 0 으로 생성, 기존 행은 version + 1
+     * @return 저장된 행 (id / version 포함)
+     */
+    public List<StoredDistance> upsert(DistanceTable table, List<DistancePair> pairs) {
+        List<StoredDistance> saved = new ArrayList<>(pairs.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < pairs.size(); from += CHUNK_SIZE) {
+            List<DistancePair> chunk = pairs.subList(from, Math.min(from + CHUNK_SIZE, pairs.size()));
+
+            Object[] args = new Object[chunk.size() * 5];
+            int i = 0;
+            for (DistancePair pair : chunk) {
+                args[i++] = pair.getBranchId();
+                args[i++] = pair.getTargetId();
+                args[i++] = pair.getDistanceKm();
+                args[i++] = now;
+                args[i++] = now;
+            }
+            saved.addAll(jdbcTemplate.query(upsertSql(table, chunk.size()), rowMapper(table), args));
+        }
+        return saved;
+    }
+
+    private static String upsertSql(DistanceTable table, int rows) {
+        String target = table.getTargetColumn();
+        StringBuilder sql = new StringBuilder(160 + rows * 20)
+                .append("INSERT INTO ").append(table.getTableName())
+                .append(" (branch_id, ").append(target).append(", distance_km, version, created_at, updated_at) VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) sql.append(',');
+            sql.append("(?, ?, ?, 0, ?, ?)");
+        }
+        sql.append(" ON CONFLICT (branch_id, ").append(target).append(") DO UPDATE SET")
+                .append(" distance_km = EXCLUDED.distance_km,")
+                .append(" version = ").append(table.getTableName()).append(".version + 1,")
+                .append(" updated_at = EXCLUDED.updated_at")
+                .append(" RETURNING id, branch_id, ").append(target).append(", distance_km, version");
+        return sql.toString();
+    }
+
+    // 읽기 전용 순방향 커서
+    private static PreparedStatementCreator cursor(String sql, int fetchSize) {
+        return con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        };
+    }
+
+    private static RowMapper<StoredDistance> rowMapper(DistanceTable table) {
+        return (rs, rowNum) -> new StoredDistance(
+                rs.getLong("id"),
+                rs.getLong("branch_id"),
+                rs.getLong(table.getTargetColumn()),
+                rs.getObject("distance_km", Double.class),
+                rs.getObject("version", Long.class)
+        );
+    }
+
+    @FunctionalInterface
+    public interface DistanceRowHandler {
+        void handle(long branchId, long targetId, double distanceKm);
+    }
+}
@@ -0,0 +1,11 @@
+package com.sampoom.backend.HR.api.distance.repository;
+
+import com.sampoom.backend.HR.api.distance.entity.DistanceRecomputeChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface DistanceRecomputeChunkRepository extends JpaRepository<DistanceRecomputeChunk, Long> {
+
+    List<DistanceRecomputeChunk> findByJobId(Long jobId);
+}
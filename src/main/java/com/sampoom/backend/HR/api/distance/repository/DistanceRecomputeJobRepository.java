@@ -0,0 +1,44 @@
+package com.sampoom.backend.HR.api.distance.repository;
+
+import com.sampoom.backend.HR.api.distance.dto.DistanceTable;
+import com.sampoom.backend.HR.api.distance.entity.DistanceRecomputeJob;
+import com.sampoom.backend.HR.api.distance.entity.DistanceRecomputeJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DistanceRecomputeJobRepository extends JpaRepository<DistanceRecomputeJob, Long> {
+
+    List<DistanceRecomputeJob> findByStatus(DistanceRecomputeJobStatus status);
+
+    List<DistanceRecomputeJob> findByMatrixAndStatus(DistanceTable matrix, DistanceRecomputeJobStatus status);
+
+    List<DistanceRecomputeJob> findTop20ByOrderByIdDesc();
+
+    // 행렬별 시작 / 재개 직렬화 — 트랜잭션 범위 advisory lock (여러 인스턴스 간)
+    @Query(value = "SELECT CAST(pg_advisory_xact_lock(:key) AS text)", nativeQuery = true)
+    String lockMatrix(@Param("key") long key);
+
+    // 하트비트 — 이 인스턴스가 아직 실행 중인 작업일 때만 1
+    @Modifying
+    @Query("""
+    UPDATE DistanceRecomputeJob j SET j.heartbeatAt = :now
+    WHERE j.id = :id
+    AND j.owner = :owner
+    AND j.status = com.sampoom.backend.HR.api.distance.entity.DistanceRecomputeJobStatus.RUNNING
+    """)
+    int heartbeat(@Param("id") Long id, @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    // 취소 요청 — 실행 중인 작업일 때만 1
+    @Modifying
+    @Query("""
+    UPDATE DistanceRecomputeJob j SET j.cancelRequested = true
+    WHERE j.id = :id
+    AND j.status = com.sampoom.backend.HR.api.distance.entity.DistanceRecomputeJobStatus.RUNNING
+    """)
+    int requestCancel(@Param("id") Long id);
+}
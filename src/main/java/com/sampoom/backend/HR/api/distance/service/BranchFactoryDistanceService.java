@@ -3,142 +3,139 @@ package com.sampoom.backend.HR.api.distance.service;
 import com.sampoom.backend.HR.api.branch.entity.Branch;
 import com.sampoom.backend.HR.api.branch.entity.BranchType;
 import com.sampoom.backend.HR.api.branch.repository.BranchRepository;
-import com.sampoom.backend.HR.api.distance.entity.BranchFactoryDistance;
-import com.sampoom.backend.HR.api.distance.event.dto.BranchFactoryDistanceEvent;
-import com.sampoom.backend.HR.api.distance.repository.BranchFactoryDistanceRepository;
-import com.sampoom.backend.HR.common.outbox.service.OutboxService;
-import com.sampoom.backend.HR.common.util.DistanceUtil;
+import com.sampoom.backend.HR.api.distance.dto.DistancePair;
+import com.sampoom.backend.HR.api.distance.dto.DistanceTable;
+import com.sampoom.backend.HR.api.distance.dto.RecomputeResult;
+import com.sampoom.backend.HR.api.distance.dto.StoredDistance;
+import com.sampoom.backend.HR.api.distance.event.service.DistanceEventPublisher;
+import com.sampoom.backend.HR.common.util.DistanceKernel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BranchFactoryDistanceService {
 
-    private final BranchFactoryDistanceRepository branchFactoryDistanceRepository;
+    private final DistanceBulkWriter distanceBulkWriter;
     private final BranchRepository branchRepository;
-    private final OutboxService outboxService;
+    private final DistanceEventPublisher distanceEventPublisher;
 
     /**
      * 새로운 공장이 생성되었을 때 모든 창고와의 거리 계산
      */
     @Transactional
-    public void updateDistancesForNewFactory(Branch factory) {
+    public RecomputeResult updateDistancesForNewFactory(Branch factory) {
         if (factory.getType() != BranchType.FACTORY) {
             log.warn("Factory가 아닌 Branch로 거리 계산 요청됨: {}", factory.getId());
-            return;
+            return RecomputeResult.EMPTY;
         }
 
         List<Branch> warehouses = branchRepository.findByType(BranchType.WAREHOUSE);
 
-        for (Branch warehouse : warehouses) {
-            calculateAndSaveDistance(warehouse, factory);
-        }
+        RecomputeResult result = saveDistances(DistanceBulkWriter.Anchor.TARGET, factory.getId(), warehouses, List.of(factory));
 
-        log.info("[BranchFactoryDistanceService] 공장({}) - 창고 거리 {}건 계산 완료",
-                factory.getName(), warehouses.size());
+        log.info("[BranchFactoryDistanceService] 공장({}) - 창고 거리 {}건 계산, {}건 저장 완료",
+                factory.getName(), result.getComputedPairs(), result.getWrittenPairs());
+        return result;
     }
 
     /**
      * 새로운 창고가 생성되었을 때 모든 공장과의 거리 계산
      */
     @Transactional
-    public void updateDistancesForNewWarehouse(Branch warehouse) {
+    public RecomputeResult updateDistancesForNewWarehouse(Branch warehouse) {
         if (warehouse.getType() != BranchType.WAREHOUSE) {
             log.warn("Warehouse가 아닌 Branch로 거리 계산 요청됨: {}", warehouse.getId());
-            return;
+            return RecomputeResult.EMPTY;
         }
 
         List<Branch> factories = branchRepository.findByType(BranchType.FACTORY);
 
-        for (Branch factory : factories) {
-            calculateAndSaveDistance(warehouse, factory);
-        }
+        RecomputeResult result = saveDistances(DistanceBulkWriter.Anchor.BRANCH, warehouse.getId(), List.of(warehouse), factories);
 
-        log.info("[BranchFactoryDistanceService] 창고({}) - 공장 거리 {}건 계산 완료",
-                warehouse.getName(), factories.size());
+        log.info("[BranchFactoryDistanceService] 창고({}) - 공장 거리 {}건 계산, {}건 저장 완료",
+                warehouse.getName(), result.getComputedPairs(), result.getWrittenPairs());
+        return result;
     }
 
     /**
-     * 창고-공장 거리 계산 및 저장
+     * 창고 한 행의 창고-공장 거리 저장 (변경분만) 및 이벤트 발행
+     * @param names 지점 ID → 이름 (이벤트 페이로드용)
+     * @return 저장된 행 수
      */
     @Transactional
-    public void calculateAndSaveDistance(Branch warehouse, Branch factory) {
-        if (warehouse.getLatitude() != null && warehouse.getLongitude() != null
-                && factory.getLatitude() != null && factory.getLongitude() != null) {
-
-            Double distanceKm = DistanceUtil.calculateDistance(
-                    warehouse.getLatitude(), warehouse.getLongitude(),
-                    factory.getLatitude(), factory.getLongitude()
-            );
-
-            BranchFactoryDistance distanceEntity = branchFactoryDistanceRepository
-                    .findByBranchAndFactory(warehouse, factory)
-                    .orElseGet(() -> BranchFactoryDistance.builder()
-                            .branch(warehouse)
-                            .factory(factory)
-                            .build());
-
-            distanceEntity.updateDistance(distanceKm);
-            BranchFactoryDistance savedDistance = branchFactoryDistanceRepository.save(distanceEntity);
-
-            // Outbox 이벤트 발행
-            publishDistanceEvent(savedDistance);
-
-            log.debug("창고-공장 거리 계산 완료: {}km (창고:{} <-> 공장:{})",
-                    distanceKm, warehouse.getName(), factory.getName());
-        } else {
-            log.warn("위도/경도 정보 부족으로 거리 계산 불가: 창고:{}, 공장:{}",
-                    warehouse.getName(), factory.getName());
-        }
+    public int writeWarehouseRow(Long warehouseId, List<DistancePair> pairs, Map<Long, String> names) {
+        return writeAndPublish(DistanceBulkWriter.Anchor.BRANCH, warehouseId, pairs, names);
     }
 
     /**
-     * 창고-공장 거리 이벤트 발행
+     * 창고 × 공장 거리 계산 후 변경분만 일괄 저장 및 이벤트 발행
      */
-    private void publishDistanceEvent(BranchFactoryDistance distance) {
-        BranchFactoryDistanceEvent.Payload payload = BranchFactoryDistanceEvent.Payload.builder()
-                .distanceId(distance.getId())
-                .branchId(distance.getBranch().getId())
-                .factoryId(distance.getFactory().getId())
-                .distanceKm(distance.getDistanceKm())
-                .branchName(distance.getBranch().getName())
-                .factoryName(distance.getFactory().getName())
-                .build();
-
-        outboxService.saveEvent(
-                "BRANCH_FACTORY_DISTANCE",  // 새로운 aggregate type
-                distance.getId(),
-                "BranchFactoryDistanceCalculated",
-                distance.getVersion(),
-                payload
-        );
-
-        log.debug("창고-공장 거리 이벤트 발행 완료: distanceId={}", distance.getId());
+    private RecomputeResult saveDistances(DistanceBulkWriter.Anchor anchor, Long anchorId,
+                              List<Branch> warehouses, List<Branch> factories) {
+        List<Branch> locatedWarehouses = withCoordinates(warehouses);
+        List<Branch> locatedFactories = withCoordinates(factories);
+
+        List<DistancePair> pairs = computePairs(locatedWarehouses, locatedFactories);
+        int saved = writeAndPublish(anchor, anchorId, pairs, names(locatedWarehouses, locatedFactories));
+        return new RecomputeResult(pairs.size(), saved);
+    }
+
+    private int writeAndPublish(DistanceBulkWriter.Anchor anchor, Long anchorId,
+                                List<DistancePair> pairs, Map<Long, String> names) {
+        List<StoredDistance> saved = distanceBulkWriter.write(DistanceTable.BRANCH_FACTORY, anchor, anchorId, pairs);
+        // Outbox 이벤트 발행
+        distanceEventPublisher.publish(DistanceTable.BRANCH_FACTORY, anchor, saved, List.of(), names);
+        return saved.size();
     }
 
     /**
-     * 모든 창고-공장 거리 일괄 재계산
+     * 창고 × 공장 거리 (창고 순서 → 공장 순서의 행 우선 목록)
      */
-    @Transactional
-    public void recalculateAllDistances() {
-        List<Branch> warehouses = branchRepository.findByType(BranchType.WAREHOUSE);
-        List<Branch> factories = branchRepository.findByType(BranchType.FACTORY);
-
-        int totalCalculations = warehouses.size() * factories.size();
-        log.info("창고-공장 거리 일괄 재계산 시작: {}개 계산 예정", totalCalculations);
+    private static List<DistancePair> computePairs(List<Branch> warehouses, List<Branch> factories) {
+        double[] distances = new double[warehouses.size() * factories.size()];
+        DistanceKernel.manyToMany(toPoints(warehouses), toPoints(factories), distances);
+
+        List<DistancePair> pairs = new ArrayList<>(distances.length);
+        for (int i = 0; i < warehouses.size(); i++) {
+            for (int j = 0; j < factories.size(); j++) {
+                pairs.add(new DistancePair(
+                        warehouses.get(i).getId(), factories.get(j).getId(), distances[i * factories.size() + j]));
+            }
+        }
+        return pairs;
+    }
 
-        for (Branch warehouse : warehouses) {
-            for (Branch factory : factories) {
-                calculateAndSaveDistance(warehouse, factory);
+    private static List<Branch> withCoordinates(List<Branch> branches) {
+        List<Branch> located = new ArrayList<>(branches.size());
+        for (Branch branch : branches) {
+            if (branch.getLatitude() != null && branch.getLongitude() != null) {
+                located.add(branch);
+            } else {
+                log.warn("위도/경도 정보 부족으로 거리 계산 제외: {}({})", branch.getName(), branch.getType());
             }
         }
+        return located;
+    }
+
+    private static DistanceKernel.Points toPoints(List<Branch> branches) {
+        return DistanceKernel.Points.of(
+                branches.stream().mapToDouble(Branch::getLatitude).toArray(),
+                branches.stream().mapToDouble(Branch::getLongitude).toArray());
+    }
 
-        log.info("창고-공장 거리 일괄 재계산 완료");
+    private static Map<Long, String> names(List<Branch> warehouses, List<Branch> factories) {
+        Map<Long, String> names = new HashMap<>();
+        warehouses.forEach(branch -> names.put(branch.getId(), branch.getName()));
+        factories.forEach(branch -> names.put(branch.getId(), branch.getName()));
+        return names;
     }
 }
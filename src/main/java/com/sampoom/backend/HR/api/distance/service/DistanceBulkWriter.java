@@ -0,0 +1,135 @@
+package com.sampoom.backend.HR.api.distance.service;
+
+import com.sampoom.backend.HR.api.distance.dto.DistancePair;
+import com.sampoom.backend.HR.api.distance.dto.DistanceReconcileResult;
+import com.sampoom.backend.HR.api.distance.dto.DistanceTable;
+import com.sampoom.backend.HR.api.distance.dto.StoredDistance;
+import com.sampoom.backend.HR.api.distance.repository.DistanceJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거리 일괄 저장
+ * - 기준 엔티티(창고 또는 대리점/공장)의 기존 거리를 한 번에 읽고, 값이 바뀐 쌍만 일괄 upsert
+ * - 호출하는 쪽 트랜잭션 안에서 실행됨 (메모리 거리 행렬은 커밋 후 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DistanceBulkWriter {
+
+    /**
+     * 한 번의 저장에서 고정되는 쪽
+     */
+    public enum Anchor {
+        BRANCH,  // 창고 하나 - 대상 여러 개
+        TARGET   // 대상 하나 - 창고 여러 개
+    }
+
+    private final DistanceJdbcRepository distanceJdbcRepository;
+    private final DistanceMatrixCache distanceMatrixCache;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param pairs 기준 엔티티에 대해 계산된 거리 목록
+     * @return 실제로 저장된(신규 또는 값 변경) 행 — 이벤트 발행 대상
+     */
+    public List<StoredDistance> write(DistanceTable table, Anchor anchor, Long anchorId, List<DistancePair> pairs) {
+        if (pairs.isEmpty()) return List.of();
+        long start = System.nanoTime();
+
+        List<StoredDistance> existingRows = anchor == Anchor.BRANCH
+                ? distanceJdbcRepository.findByBranchId(table, anchorId)
+                : distanceJdbcRepository.findByTargetId(table, anchorId);
+        Map<Long, Double> existing = new HashMap<>(existingRows.size() * 2);
+        for (StoredDistance row : existingRows) {
+            existing.put(otherSide(anchor, row.getBranchId(), row.getTargetId()), row.getDistanceKm());
+        }
+
+        List<DistancePair> changed = new ArrayList<>(pairs.size());
+        for (DistancePair pair : pairs) {
+            Double stored = existing.get(otherSide(anchor, pair.getBranchId(), pair.getTargetId()));
+            if (stored == null || stored != pair.getDistanceKm()) {
+                changed.add(pair);
+            }
+        }
+
+        List<StoredDistance> saved = changed.isEmpty()
+                ? List.of()
+                : distanceJdbcRepository.upsert(table, changed);
+        distanceMatrixCache.onWritten(table, saved);
+
+        long elapsedNanos = System.nanoTime() - start;
+        record(table, saved.size(), pairs.size() - changed.size(), elapsedNanos);
+        log.info("[DistanceBulkWriter] {} {}={} 계산 {}건 / 저장 {}건 ({} ms, {} rows/s)",
+                table, anchor, anchorId, pairs.size(), saved.size(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond(pairs.size(), elapsedNanos));
+        return saved;
+    }
+
+    /**
+     * 보존 정책 반영 — desired 를 저장하고, existing 중 desired 에 없는 행은 삭제
+     * @param existing 대상 범위의 현재 저장 행 전체
+     * @param desired  정책상 유지해야 할 거리 목록
+     */
+    public DistanceReconcileResult reconcile(DistanceTable table, List<StoredDistance> existing, List<DistancePair> desired) {
+        long start = System.nanoTime();
+
+        Map<Map.Entry<Long, Long>, StoredDistance> existingByPair = new HashMap<>(existing.size() * 2);
+        for (StoredDistance row : existing) {
+            existingByPair.put(pairKey(row.getBranchId(), row.getTargetId()), row);
+        }
+
+        List<DistancePair> changed = new ArrayList<>();
+        for (DistancePair pair : desired) {
+            StoredDistance stored = existingByPair.remove(pairKey(pair.getBranchId(), pair.getTargetId()));
+            if (stored == null || stored.getDistanceKm() == null || stored.getDistanceKm() != pair.getDistanceKm()) {
+                changed.add(pair);
+            }
+        }
+        // desired 와 매칭되지 않고 남은 행 = 정책에서 벗어난 쌍
+        List<StoredDistance> pruned = new ArrayList<>(existingByPair.values());
+
+        List<StoredDistance> saved = changed.isEmpty() ? List.of() : distanceJdbcRepository.upsert(table, changed);
+        distanceJdbcRepository.deleteByIds(table, pruned.stream().map(StoredDistance::getId).toList());
+        distanceMatrixCache.onWritten(table, saved);
+        distanceMatrixCache.onDeleted(table, pruned);
+
+        long elapsedNanos = System.nanoTime() - start;
+        record(table, saved.size(), desired.size() - changed.size(), elapsedNanos);
+        Counter.builder("distance.bulk.rows").tag("table", table.name().toLowerCase(Locale.ROOT)).tag("result", "pruned")
+                .register(meterRegistry).increment(pruned.size());
+        log.info("[DistanceBulkWriter] {} 보존 정책 반영: 유지 {}건 / 저장 {}건 / 삭제 {}건 ({} ms)",
+                table, desired.size(), saved.size(), pruned.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        return new DistanceReconcileResult(desired.size(), saved, pruned);
+    }
+
+    private static Map.Entry<Long, Long> pairKey(Long branchId, Long targetId) {
+        return Map.entry(branchId, targetId);
+    }
+
+    private static Long otherSide(Anchor anchor, Long branchId, Long targetId) {
+        return anchor == Anchor.BRANCH ? targetId : branchId;
+    }
+
+    private static long rowsPerSecond(int rows, long elapsedNanos) {
+        return elapsedNanos <= 0 ? rows : rows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    private void record(DistanceTable table, int written, int unchanged, long elapsedNanos) {
+        String tableTag = table.name().toLowerCase(Locale.ROOT);
+        Counter.builder("distance.bulk.rows").tag("table", tableTag).tag("result", "written")
+                .register(meterRegistry).increment(written);
+        Counter.builder("distance.bulk.rows").tag("table", tableTag).tag("result", "unchanged")
+                .register(meterRegistry).increment(unchanged);
+        Timer.builder("distance.bulk.write").tag("table", tableTag)
+                .register(meterRegistry).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
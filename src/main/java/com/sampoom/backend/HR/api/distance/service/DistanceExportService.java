@@ -0,0 +1,172 @@
+package com.sampoom.backend.HR.api.distance.service;
+
+import com.sampoom.backend.HR.api.distance.dto.DistanceExportFormat;
+import com.sampoom.backend.HR.api.distance.dto.DistanceTable;
+import com.sampoom.backend.HR.api.distance.repository.DistanceJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 거리 테이블 전체 내보내기 (NDJSON / CSV)
+ * - 읽기 전용 트랜잭션 안에서 순방향 커서로 fetchSize 씩 읽고, 행마다 바로 출력 스트림에 기록
+ * - 엔티티 / DTO 를 만들지 않으므로 행 수와 무관하게 힙 사용량이 일정
+ */
+@Slf4j
+@Service
+public class DistanceExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DistanceJdbcRepository distanceJdbcRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final int fetchSize;
+
+    public DistanceExportService(
+            DistanceJdbcRepository distanceJdbcRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${distance.export.fetch-size:5000}") int fetchSize
+    ) {
+        this.distanceJdbcRepository = distanceJdbcRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * @return 내보낸 행 수
+     */
+    public long export(DistanceTable table, DistanceExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        OutputStream target = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        String targetField = targetField(table);
+        if (format == DistanceExportFormat.CSV) {
+            writer.write("id,branch_id," + table.getTargetColumn() + ",distance_km,version,updated_at\n");
+        }
+
+        long[] rows = {0};
+        StringBuilder line = new StringBuilder(160);
+        try {
+            readOnlyTransaction.executeWithoutResult(status ->
+                    distanceJdbcRepository.forEachForExport(table, fetchSize, rs -> {
+                        line.setLength(0);
+                        if (format == DistanceExportFormat.CSV) {
+                            appendCsv(line, rs);
+                        } else {
+                            appendNdjson(line, rs, targetField);
+                        }
+                        try {
+                            writer.append(line);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        rows[0]++;
+                    }));
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 — 커서는 트랜잭션 종료와 함께 정리됨
+            log.warn("[DistanceExportService] {} 내보내기 중단 ({}행 전송 후): {}", table, rows[0], e.getMessage());
+            throw e.getCause();
+        }
+
+        writer.flush();
+        if (target instanceof GZIPOutputStream gzipStream) {
+            gzipStream.finish();
+        }
+        out.flush();
+
+        long elapsedNanos = System.nanoTime() - start;
+        record(table, format, rows[0], elapsedNanos);
+        log.info("[DistanceExportService] {} {} 내보내기 완료: {}행 ({} ms, gzip={})",
+                table, format, rows[0], TimeUnit.NANOSECONDS.toMillis(elapsedNanos), gzip);
+        return rows[0];
+    }
+
+    public String fileName(DistanceTable table, DistanceExportFormat format, boolean gzip) {
+        return table.getTableName() + "." + format.getExtension() + (gzip ? ".gz" : "");
+    }
+
+    // ---------------- helper ----------------
+
+    private static void appendNdjson(StringBuilder line, ResultSet rs, String targetField) throws SQLException {
+        line.append("{\"id\":").append(rs.getLong(1))
+                .append(",\"branchId\":").append(rs.getLong(2))
+                .append(",\"").append(targetField).append("\":").append(rs.getLong(3))
+                .append(",\"distanceKm\":");
+        appendNullableDouble(line, rs, 4, "null");
+        line.append(",\"version\":");
+        appendNullableLong(line, rs, 5, "null");
+        line.append(",\"updatedAt\":");
+        Timestamp updatedAt = rs.getTimestamp(6);
+        if (updatedAt == null) {
+            line.append("null");
+        } else {
+            line.append('"').append(updatedAt.toLocalDateTime()).append('"');
+        }
+        line.append("}\n");
+    }
+
+    private static void appendCsv(StringBuilder line, ResultSet rs) throws SQLException {
+        line.append(rs.getLong(1)).append(',')
+                .append(rs.getLong(2)).append(',')
+                .append(rs.getLong(3)).append(',');
+        appendNullableDouble(line, rs, 4, "");
+        line.append(',');
+        appendNullableLong(line, rs, 5, "");
+        line.append(',');
+        Timestamp updatedAt = rs.getTimestamp(6);
+        if (updatedAt != null) {
+            line.append(updatedAt.toLocalDateTime());
+        }
+        line.append('\n');
+    }
+
+    private static void appendNullableDouble(StringBuilder line, ResultSet rs, int column, String nullValue) throws SQLException {
+        double value = rs.getDouble(column);
+        if (rs.wasNull()) {
+            line.append(nullValue);
+        } else {
+            line.append(value);
+        }
+    }
+
+    private static void appendNullableLong(StringBuilder line, ResultSet rs, int column, String nullValue) throws SQLException {
+        long value = rs.getLong(column);
+        if (rs.wasNull()) {
+            line.append(nullValue);
+        } else {
+            line.append(value);
+        }
+    }
+
+    private static String targetField(DistanceTable table) {
+        return table == DistanceTable.BRANCH_VENDOR ? "vendorId" : "factoryId";
+    }
+
+    private void record(DistanceTable table, DistanceExportFormat format, long rows, long elapsedNanos) {
+        String tableTag = table.name().toLowerCase(Locale.ROOT);
+        String formatTag = format.name().toLowerCase(Locale.ROOT);
+        Counter.builder("distance.export.rows").tag("table", tableTag).tag("format", formatTag)
+                .register(meterRegistry).increment(rows);
+        Timer.builder("distance.export").tag("table", tableTag).tag("format", formatTag)
+                .register(meterRegistry).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
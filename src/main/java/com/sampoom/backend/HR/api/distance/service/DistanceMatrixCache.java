@@ -0,0 +1,407 @@
+package com.sampoom.backend.HR.api.distance.service;
+
+import com.sampoom.backend.HR.api.distance.dto.DistanceMatrixStatsDTO;
+import com.sampoom.backend.HR.api.distance.dto.DistanceResponseDTO;
+import com.sampoom.backend.HR.api.distance.dto.DistanceTable;
+import com.sampoom.backend.HR.api.distance.dto.StoredDistance;
+import com.sampoom.backend.HR.api.distance.repository.DistanceJdbcRepository;
+import com.sampoom.backend.HR.common.exception.NotFoundException;
+import com.sampoom.backend.HR.common.exception.ServiceUnavailableException;
+import com.sampoom.backend.HR.common.response.ErrorStatus;
+import com.sampoom.backend.HR.common.util.LongFloatHashMap;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 창고 × 거래처 / 창고 × 공장 거리 메모리 행렬
+ * - (창고 ID << 32 | 대상 ID) → float 거리의 오픈 어드레싱 맵 (항목당 약 12~17바이트, 박싱 없음)
+ * - 기동 완료 시 거리 테이블을 커서로 적재, 이후 이 인스턴스의 DistanceBulkWriter 저장분은 커밋 후 바로 반영
+ * - 다른 인스턴스가 저장한 거리는 sync-interval 마다 updated_at 기준으로 가져와 반영 (커밋 지연 / 시계 오차만큼 sync-overlap 겹쳐 읽음)
+ * - 다른 인스턴스의 삭제(보존 정책 정리)는 updated_at 으로 보이지 않으므로 full-sync-interval 마다 전체를 다시 적재해 교체
+ * - 조회 API 는 DB 를 거치지 않음
+ */
+@Slf4j
+@Service
+public class DistanceMatrixCache {
+
+    // ConcurrentHashMap 키 집합의 Long 항목당 대략적인 크기 (노드 + Long + 테이블 슬롯)
+    private static final int ID_SET_ENTRY_BYTES = 56;
+
+    private final DistanceJdbcRepository distanceJdbcRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int fetchSize;
+    private final int expectedSize;
+    private final Duration syncOverlap;
+    private final Map<DistanceTable, Matrix> matrices = new EnumMap<>(DistanceTable.class);
+
+    public DistanceMatrixCache(
+            DistanceJdbcRepository distanceJdbcRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${distance.matrix.fetch-size:10000}") int fetchSize,
+            @Value("${distance.matrix.expected-size:100000}") int expectedSize,
+            @Value("${distance.matrix.sync-overlap:PT1M}") Duration syncOverlap
+    ) {
+        this.distanceJdbcRepository = distanceJdbcRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.fetchSize = fetchSize;
+        this.expectedSize = expectedSize;
+        this.syncOverlap = syncOverlap;
+
+        for (DistanceTable table : DistanceTable.values()) {
+            Matrix matrix = new Matrix(expectedSize);
+            matrices.put(table, matrix);
+            String tag = table.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("distance.matrix.entries", matrix, m -> m.stats(table).getEntries())
+                    .tag("table", tag)
+                    .register(meterRegistry);
+            Gauge.builder("distance.matrix.bytes", matrix, m -> m.stats(table).getEstimatedBytes())
+                    .tag("table", tag)
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 거리 테이블 전체 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (DistanceTable table : DistanceTable.values()) {
+            rebuild(table);
+
+            DistanceMatrixStatsDTO stats = matrices.get(table).stats(table);
+            log.info("[DistanceMatrixCache] {} 적재 완료: {}건, 약 {} KB ({} ms)",
+                    table, stats.getEntries(), stats.getEstimatedBytes() / 1024, stats.getLoadMillis());
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 저장한 거리 반영 (마지막 동기화 시각 - sync-overlap 이후 updated_at)
+     * - DB 의 현재 값을 다시 넣으므로 겹쳐 읽어도 결과는 같음
+     */
+    @Scheduled(fixedDelayString = "${distance.matrix.sync-interval:PT5S}")
+    public void syncRecentChanges() {
+        for (DistanceTable table : DistanceTable.values()) {
+            Matrix matrix = matrices.get(table);
+            if (!matrix.loaded) continue;
+
+            LocalDateTime pollStart = LocalDateTime.now();
+            List<StoredDistance> changed = new ArrayList<>();
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> distanceJdbcRepository.forEachUpdatedSince(
+                        table, matrix.syncedAt.minus(syncOverlap), fetchSize, (branchId, targetId, distanceKm) ->
+                                changed.add(new StoredDistance(null, branchId, targetId, distanceKm, null))));
+            } catch (RuntimeException e) {
+                log.warn("[DistanceMatrixCache] {} 변경분 동기화 실패 — 다음 주기에 재시도: {}", table, e.getMessage());
+                continue;
+            }
+            apply(table, changed);
+            matrix.syncedAt = pollStart;
+        }
+    }
+
+    /**
+     * 전체 재적재 — 다른 인스턴스에서 삭제된 거리 정리
+     */
+    @Scheduled(fixedDelayString = "${distance.matrix.full-sync-interval:PT15M}",
+            initialDelayString = "${distance.matrix.full-sync-interval:PT15M}")
+    public void resync() {
+        for (DistanceTable table : DistanceTable.values()) {
+            if (!matrices.get(table).loaded) continue;
+            try {
+                rebuild(table);
+            } catch (RuntimeException e) {
+                log.warn("[DistanceMatrixCache] {} 전체 재적재 실패 — 기존 행렬 유지: {}", table, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 저장된 거리 반영 (현재 트랜잭션 커밋 후)
+     */
+    public void onWritten(DistanceTable table, List<StoredDistance> saved) {
+        if (saved.isEmpty()) return;
+        afterCommit(() -> apply(table, saved));
+    }
+
+    /**
+     * 삭제된 거리 반영 (현재 트랜잭션 커밋 후)
+     */
+    public void onDeleted(DistanceTable table, List<StoredDistance> deleted) {
+        if (deleted.isEmpty()) return;
+        afterCommit(() -> remove(table, deleted));
+    }
+
+    /**
+     * 창고 - 대상 거리 단건
+     */
+    public DistanceResponseDTO get(DistanceTable table, Long branchId, Long targetId) {
+        Matrix matrix = readyMatrix(table);
+        float value = Float.NaN;
+        if (isCacheable(branchId, targetId)) {
+            matrix.lock.readLock().lock();
+            try {
+                value = matrix.map.get(key(branchId, targetId));
+            } finally {
+                matrix.lock.readLock().unlock();
+            }
+        }
+        if (Float.isNaN(value)) {
+            throw new NotFoundException(ErrorStatus.DISTANCE_NOT_FOUND);
+        }
+        return new DistanceResponseDTO(branchId, targetId, toKm(value));
+    }
+
+    /**
+     * 창고 기준 전체 대상 거리 (가까운 순)
+     */
+    public List<DistanceResponseDTO> findByBranch(DistanceTable table, Long branchId) {
+        Matrix matrix = readyMatrix(table);
+        return collect(matrix, List.of(branchId), matrix.targetIds);
+    }
+
+    /**
+     * 대상(거래처 / 공장) 기준 전체 창고 거리 (가까운 순)
+     */
+    public List<DistanceResponseDTO> findByTarget(DistanceTable table, Long targetId) {
+        Matrix matrix = readyMatrix(table);
+        return collect(matrix, matrix.branchIds, List.of(targetId));
+    }
+
+    public List<DistanceMatrixStatsDTO> stats() {
+        List<DistanceMatrixStatsDTO> result = new ArrayList<>();
+        matrices.forEach((table, matrix) -> result.add(matrix.stats(table)));
+        return result;
+    }
+
+    // ---------------- helper ----------------
+
+    /**
+     * 거리 테이블을 새 맵에 전부 읽은 뒤 교체
+     * - 읽는 동안 이 인스턴스에서 커밋된 변경은 기록해 두었다가 교체 직전에 순서대로 다시 적용 (스냅샷보다 최신일 수 있음)
+     */
+    private void rebuild(DistanceTable table) {
+        Matrix matrix = matrices.get(table);
+        long start = System.currentTimeMillis();
+        LocalDateTime snapshotStart = LocalDateTime.now();
+
+        int sizeHint;
+        matrix.lock.writeLock().lock();
+        try {
+            matrix.journal = new ArrayList<>();
+            sizeHint = Math.max(expectedSize, matrix.map.size());
+        } finally {
+            matrix.lock.writeLock().unlock();
+        }
+
+        LongFloatHashMap map = new LongFloatHashMap(sizeHint);
+        Set<Long> branchIds = ConcurrentHashMap.newKeySet();
+        Set<Long> targetIds = ConcurrentHashMap.newKeySet();
+        try {
+            readOnlyTransaction.executeWithoutResult(status ->
+                    distanceJdbcRepository.forEachDistance(table, fetchSize, (branchId, targetId, distanceKm) -> {
+                        if (!isCacheable(branchId, targetId)) return;
+                        map.put(key(branchId, targetId), (float) distanceKm);
+                        branchIds.add(branchId);
+                        targetIds.add(targetId);
+                    }));
+        } catch (RuntimeException e) {
+            matrix.lock.writeLock().lock();
+            try {
+                matrix.journal = null;
+            } finally {
+                matrix.lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        matrix.lock.writeLock().lock();
+        try {
+            for (Change change : matrix.journal) {
+                change.applyTo(map, branchIds, targetIds);
+            }
+            matrix.map = map;
+            matrix.branchIds = branchIds;
+            matrix.targetIds = targetIds;
+            matrix.journal = null;
+            if (matrix.syncedAt == null) matrix.syncedAt = snapshotStart;
+        } finally {
+            matrix.lock.writeLock().unlock();
+        }
+
+        matrix.loadMillis = System.currentTimeMillis() - start;
+        matrix.loaded = true;
+    }
+
+    private void apply(DistanceTable table, List<StoredDistance> saved) {
+        if (saved.isEmpty()) return;
+        Matrix matrix = matrices.get(table);
+        matrix.lock.writeLock().lock();
+        try {
+            putAll(matrix.map, matrix.branchIds, matrix.targetIds, saved);
+            if (matrix.journal != null) matrix.journal.add(new Change(saved, false));
+        } finally {
+            matrix.lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(DistanceTable table, List<StoredDistance> deleted) {
+        Matrix matrix = matrices.get(table);
+        matrix.lock.writeLock().lock();
+        try {
+            removeAll(matrix.map, deleted);
+            if (matrix.journal != null) matrix.journal.add(new Change(deleted, true));
+        } finally {
+            matrix.lock.writeLock().unlock();
+        }
+    }
+
+    private static void putAll(LongFloatHashMap map, Set<Long> branchIds, Set<Long> targetIds, List<StoredDistance> rows) {
+        for (StoredDistance distance : rows) {
+            if (distance.getDistanceKm() == null || !isCacheable(distance.getBranchId(), distance.getTargetId())) {
+                continue;
+            }
+            map.put(key(distance.getBranchId(), distance.getTargetId()), distance.getDistanceKm().floatValue());
+            branchIds.add(distance.getBranchId());
+            targetIds.add(distance.getTargetId());
+        }
+    }
+
+    private static void removeAll(LongFloatHashMap map, List<StoredDistance> rows) {
+        for (StoredDistance distance : rows) {
+            if (isCacheable(distance.getBranchId(), distance.getTargetId())) {
+                map.remove(key(distance.getBranchId(), distance.getTargetId()));
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private List<DistanceResponseDTO> collect(Matrix matrix, Collection<Long> branchIds, Collection<Long> targetIds) {
+        List<DistanceResponseDTO> result = new ArrayList<>();
+        matrix.lock.readLock().lock();
+        try {
+            for (Long branchId : branchIds) {
+                for (Long targetId : targetIds) {
+                    if (!isCacheable(branchId, targetId)) continue;
+                    float value = matrix.map.get(key(branchId, targetId));
+                    if (!Float.isNaN(value)) {
+                        result.add(new DistanceResponseDTO(branchId, targetId, toKm(value)));
+                    }
+                }
+            }
+        } finally {
+            matrix.lock.readLock().unlock();
+        }
+        result.sort(Comparator.comparing(DistanceResponseDTO::getDistanceKm));
+        return result;
+    }
+
+    private Matrix readyMatrix(DistanceTable table) {
+        Matrix matrix = matrices.get(table);
+        if (!matrix.loaded) {
+            throw new ServiceUnavailableException(ErrorStatus.DISTANCE_MATRIX_NOT_READY);
+        }
+        return matrix;
+    }
+
+    // ID 는 IDENTITY(양수)이며 32비트 범위를 넘는 ID 는 캐시하지 않음 (조회 시 없음으로 처리)
+    private static boolean isCacheable(long branchId, long targetId) {
+        return branchId > 0 && branchId <= Integer.MAX_VALUE && targetId > 0 && targetId <= Integer.MAX_VALUE;
+    }
+
+    private static long key(long branchId, long targetId) {
+        return branchId << 32 | targetId;
+    }
+
+    // float 로 저장된 값을 소수점 둘째자리 double 로 복원 (저장값은 이미 둘째자리 반올림)
+    private static double toKm(float value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    private static final class Matrix {
+        // 교체는 쓰기 잠금 안에서만, 읽기는 읽기 잠금 안에서
+        private volatile LongFloatHashMap map;
+        private volatile Set<Long> branchIds = ConcurrentHashMap.newKeySet();
+        private volatile Set<Long> targetIds = ConcurrentHashMap.newKeySet();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private List<Change> journal;               // 전체 적재 중 반영된 변경 (쓰기 잠금으로 보호)
+        private volatile LocalDateTime syncedAt;    // 변경분 동기화 기준 시각
+        private volatile boolean loaded;
+        private volatile long loadMillis;
+
+        private Matrix(int expectedSize) {
+            this.map = new LongFloatHashMap(expectedSize);
+        }
+
+        private DistanceMatrixStatsDTO stats(DistanceTable table) {
+            lock.readLock().lock();
+            try {
+                long idBytes = (long) (branchIds.size() + targetIds.size()) * ID_SET_ENTRY_BYTES;
+                return DistanceMatrixStatsDTO.builder()
+                        .matrix(table)
+                        .loaded(loaded)
+                        .entries(map.size())
+                        .capacity(map.capacity())
+                        .branches(branchIds.size())
+                        .targets(targetIds.size())
+                        .mapBytes(map.memoryBytes())
+                        .estimatedBytes(map.memoryBytes() + idBytes)
+                        .loadMillis(loadMillis)
+                        .build();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 전체 적재 중 반영된 저장 / 삭제 (교체 전에 새 맵에 다시 적용)
+     */
+    private static final class Change {
+        private final List<StoredDistance> rows;
+        private final boolean deleted;
+
+        private Change(List<StoredDistance> rows, boolean deleted) {
+            this.rows = rows;
+            this.deleted = deleted;
+        }
+
+        private void applyTo(LongFloatHashMap map, Set<Long> branchIds, Set<Long> targetIds) {
+            if (deleted) {
+                removeAll(map, rows);
+            } else {
+                putAll(map, branchIds, targetIds, rows);
+            }
+        }
+    }
+}
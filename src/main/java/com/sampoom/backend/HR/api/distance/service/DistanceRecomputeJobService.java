@@ -0,0 +1,491 @@
+package com.sampoom.backend.HR.api.distance.service;
+
+import com.sampoom.backend.HR.api.branch.entity.Branch;
+import com.sampoom.backend.HR.api.branch.entity.BranchType;
+import com.sampoom.backend.HR.api.branch.repository.BranchRepository;
+import com.sampoom.backend.HR.api.distance.dto.DistancePair;
+import com.sampoom.backend.HR.api.distance.dto.DistanceRecomputeJobResponseDTO;
+import com.sampoom.backend.HR.api.distance.dto.DistanceTable;
+import com.sampoom.backend.HR.api.distance.dto.RecomputeResult;
+import com.sampoom.backend.HR.api.distance.entity.DistanceRecomputeChunk;
+import com.sampoom.backend.HR.api.distance.entity.DistanceRecomputeJob;
+import com.sampoom.backend.HR.api.distance.entity.DistanceRecomputeJobStatus;
+import com.sampoom.backend.HR.api.distance.repository.DistanceRecomputeChunkRepository;
+import com.sampoom.backend.HR.api.distance.repository.DistanceRecomputeJobRepository;
+import com.sampoom.backend.HR.api.vendor.entity.Vendor;
+import com.sampoom.backend.HR.api.vendor.repository.VendorRepository;
+import com.sampoom.backend.HR.common.exception.BadRequestException;
+import com.sampoom.backend.HR.common.exception.ConflictException;
+import com.sampoom.backend.HR.common.exception.NotFoundException;
+import com.sampoom.backend.HR.common.response.ErrorStatus;
+import com.sampoom.backend.HR.common.util.DistanceKernel;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 거리 행렬(창고 × 거래처, 창고 × 공장) 전체 재계산 작업
+ * - 창고(행)를 청크로 나눠 ForkJoin 풀에서 병렬 계산, 청크마다 별도 트랜잭션으로 커밋
+ * - 청크 커밋과 같은 트랜잭션에서 체크포인트(DistanceRecomputeChunk)를 남기므로 실패 / 취소 / 재시작 후 이어서 실행 가능
+ * - 값이 바뀐 쌍만 저장 / 이벤트 발행 (DistanceBulkWriter)
+ * - 보존 정책(DistanceRetentionService) 사용 시 창고-거래처 행렬은 거래처를 행으로 나눠 거래처별로 재정리
+ * - 행렬별 중복 실행은 DB 에서 막음: 시작 / 재개는 행렬별 advisory lock 안에서 하트비트가 살아 있는 RUNNING 작업이 없을 때만
+ * - 실행 인스턴스는 heartbeat-interval 마다 하트비트 갱신 + 취소 요청 확인 (전용 스케줄러 스레드 — 다른 @Scheduled 작업에 밀리지 않음)
+ * - 하트비트 stale-heartbeats 회 분량(heartbeat-interval × stale-heartbeats) 동안 갱신이 없으면 중단된 작업으로 보고 FAILED 처리
+ */
+@Slf4j
+@Service
+public class DistanceRecomputeJobService {
+
+    private final DistanceRecomputeJobRepository jobRepository;
+    private final DistanceRecomputeChunkRepository chunkRepository;
+    private final BranchRepository branchRepository;
+    private final VendorRepository vendorRepository;
+    private final DistanceService distanceService;
+    private final BranchFactoryDistanceService branchFactoryDistanceService;
+    private final DistanceRetentionService distanceRetentionService;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool pool;
+    private final ThreadPoolTaskScheduler heartbeatScheduler;
+    private final int chunkPairs;
+    private final Duration heartbeatInterval;
+    private final Duration staleAfter;
+
+    // 행렬별 advisory lock 키 기준값 ("distjob")
+    private static final long MATRIX_LOCK_KEY = 0x646973746a6f62L;
+
+    // 이 인스턴스 식별자 (pid@host + 임의값 — 같은 호스트의 재시작도 구분)
+    private final String instanceId = ManagementFactory.getRuntimeMXBean().getName()
+            + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    // 이 인스턴스에서 실행 중인 작업
+    private final Map<Long, Run> running = new ConcurrentHashMap<>();
+
+    public DistanceRecomputeJobService(
+            DistanceRecomputeJobRepository jobRepository,
+            DistanceRecomputeChunkRepository chunkRepository,
+            BranchRepository branchRepository,
+            VendorRepository vendorRepository,
+            DistanceService distanceService,
+            BranchFactoryDistanceService branchFactoryDistanceService,
+            DistanceRetentionService distanceRetentionService,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("distanceRecomputePool") ForkJoinPool pool,
+            @Qualifier("distanceHeartbeatScheduler") ThreadPoolTaskScheduler heartbeatScheduler,
+            @Value("${distance.recompute.chunk-pairs:5000}") int chunkPairs,
+            @Value("${distance.recompute.heartbeat-interval:PT10S}") Duration heartbeatInterval,
+            @Value("${distance.recompute.stale-heartbeats:6}") int staleHeartbeats
+    ) {
+        this.jobRepository = jobRepository;
+        this.chunkRepository = chunkRepository;
+        this.branchRepository = branchRepository;
+        this.vendorRepository = vendorRepository;
+        this.distanceService = distanceService;
+        this.branchFactoryDistanceService = branchFactoryDistanceService;
+        this.distanceRetentionService = distanceRetentionService;
+        this.transactionTemplate = transactionTemplate;
+        this.pool = pool;
+        this.heartbeatScheduler = heartbeatScheduler;
+        this.chunkPairs = chunkPairs;
+        this.heartbeatInterval = heartbeatInterval;
+        // 하트비트 한두 번 늦는 것으로는 중단 처리되지 않도록 최소 2회 분량
+        this.staleAfter = heartbeatInterval.multipliedBy(Math.max(2, staleHeartbeats));
+    }
+
+    @PostConstruct
+    public void startHeartbeat() {
+        heartbeatScheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatInterval);
+        log.info("[DistanceRecomputeJob] 하트비트 {}ms 주기, {}ms 동안 끊기면 중단 처리",
+                heartbeatInterval.toMillis(), staleAfter.toMillis());
+    }
+
+    /**
+     * 하트비트가 끊긴 RUNNING 작업(종료된 인스턴스가 실행하던 작업)을 중단(FAILED) 처리 — 이후 재개 가능
+     * - 다른 인스턴스에서 실행 중인(하트비트가 살아 있는) 작업은 건드리지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void markInterruptedJobs() {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            jobRepository.findByStatus(DistanceRecomputeJobStatus.RUNNING).forEach(job -> failIfStale(job, now));
+        });
+    }
+
+    /**
+     * 이 인스턴스에서 실행 중인 작업의 하트비트 갱신 + 다른 인스턴스에서 들어온 취소 요청 확인 (하트비트 전용 스레드)
+     */
+    void heartbeat() {
+        for (Run run : running.values()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (jobRepository.heartbeat(run.jobId, instanceId, LocalDateTime.now()) == 0) {
+                        // 하트비트가 늦어 다른 인스턴스가 중단 처리(또는 재개)한 작업 — 더 쓰지 않고 멈춤
+                        run.cancelled = true;
+                        log.warn("[DistanceRecomputeJob] 작업 소유권 상실 — 실행 중단: id={}", run.jobId);
+                        return;
+                    }
+                    jobRepository.findById(run.jobId)
+                            .filter(DistanceRecomputeJob::isCancelRequested)
+                            .ifPresent(job -> run.cancelled = true);
+                });
+            } catch (RuntimeException e) {
+                log.warn("[DistanceRecomputeJob] 하트비트 갱신 실패: id={} ({})", run.jobId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 새 작업 시작
+     */
+    public DistanceRecomputeJobResponseDTO start(DistanceTable matrix) {
+        DistanceRecomputeJob job = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            acquireMatrix(matrix, now);
+            return jobRepository.save(DistanceRecomputeJob.start(matrix, instanceId, now));
+        });
+        launch(job);
+        return toResponse(job);
+    }
+
+    /**
+     * 실패 / 취소된 작업을 마지막 체크포인트부터 재개
+     */
+    public DistanceRecomputeJobResponseDTO resume(Long jobId) {
+        DistanceTable matrix = findJob(jobId).getMatrix();
+        DistanceRecomputeJob job = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            acquireMatrix(matrix, now);
+
+            // 잠금 이후에 다시 읽어 판단 (다른 인스턴스가 먼저 재개했을 수 있음)
+            DistanceRecomputeJob locked = findJob(jobId);
+            if (!locked.isResumable()) {
+                throw new BadRequestException(ErrorStatus.DISTANCE_RECOMPUTE_NOT_RESUMABLE);
+            }
+            locked.resume(instanceId, now);
+            return jobRepository.save(locked);
+        });
+        launch(job);
+        return toResponse(job);
+    }
+
+    /**
+     * 실행 중인 작업 취소 (진행 중인 청크는 마저 커밋)
+     * - 다른 인스턴스에서 실행 중이면 그 인스턴스가 다음 하트비트 때 취소 요청을 확인
+     */
+    public DistanceRecomputeJobResponseDTO cancel(Long jobId) {
+        findJob(jobId);
+        Integer requested = transactionTemplate.execute(status -> jobRepository.requestCancel(jobId));
+        if (requested == null || requested == 0) {
+            throw new BadRequestException(ErrorStatus.DISTANCE_RECOMPUTE_NOT_RUNNING);
+        }
+
+        Run run = running.get(jobId);
+        if (run != null) run.cancelled = true;
+        log.info("[DistanceRecomputeJob] 취소 요청: id={}", jobId);
+        return get(jobId);
+    }
+
+    public DistanceRecomputeJobResponseDTO get(Long jobId) {
+        return toResponse(findJob(jobId));
+    }
+
+    public List<DistanceRecomputeJobResponseDTO> getRecentJobs() {
+        return jobRepository.findTop20ByOrderByIdDesc().stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    // ---------------- 실행 ----------------
+
+    private void launch(DistanceRecomputeJob job) {
+        Run run = new Run(job.getId(), job.getMatrix());
+        running.put(job.getId(), run);
+        try {
+            pool.execute(() -> execute(run));
+        } catch (RuntimeException e) {
+            running.remove(job.getId());
+            finish(run.jobId, DistanceRecomputeJobStatus.FAILED, e.getMessage());
+            throw e;
+        }
+    }
+
+    private void execute(Run run) {
+        long start = System.currentTimeMillis();
+        try {
+            Matrix matrix = loadMatrix(run.matrix);
+            List<DistanceRecomputeChunk> done = chunkRepository.findByJobId(run.jobId);
+            List<int[]> chunks = plan(matrix, done);
+
+            transactionTemplate.executeWithoutResult(status -> jobRepository.findById(run.jobId)
+                    .ifPresent(job -> job.updateTotalRows(matrix.rowIds.length)));
+
+            log.info("[DistanceRecomputeJob] 시작: id={}, matrix={}, 행 {}개 × 최대 {}쌍, 남은 청크 {}개 (완료 {}개)",
+                    run.jobId, run.matrix, matrix.rowIds.length, matrix.pairsPerRow, chunks.size(), done.size());
+
+            // 풀 안에서 실행 중이므로 병렬 스트림도 같은 풀(distanceRecomputePool)을 사용
+            chunks.parallelStream().forEach(range -> runChunk(run, matrix, range[0], range[1]));
+
+            if (run.failure != null) {
+                finish(run.jobId, DistanceRecomputeJobStatus.FAILED, run.failure.getMessage());
+            } else if (run.cancelled) {
+                finish(run.jobId, DistanceRecomputeJobStatus.CANCELLED, null);
+            } else {
+                finish(run.jobId, DistanceRecomputeJobStatus.COMPLETED, null);
+            }
+            log.info("[DistanceRecomputeJob] 종료: id={}, 청크 {}개 커밋, {} ms",
+                    run.jobId, run.committedChunks, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("[DistanceRecomputeJob] 작업 실패: id={}", run.jobId, e);
+            finish(run.jobId, DistanceRecomputeJobStatus.FAILED, e.getMessage());
+        } finally {
+            running.remove(run.jobId);
+        }
+    }
+
+    /**
+     * 완료 범위를 제외한 행을 청크 [from, to) 로 분할
+     */
+    private List<int[]> plan(Matrix matrix, List<DistanceRecomputeChunk> done) {
+        int rowsPerChunk = Math.max(1, chunkPairs / Math.max(1, matrix.pairsPerRow));
+        return planChunks(matrix.rowIds, rowsPerChunk, done);
+    }
+
+    /**
+     * 행 ID(오름차순) 중 체크포인트에 없는 행을 최대 rowsPerChunk 행씩 [from, to) 인덱스 범위로 분할
+     */
+    static List<int[]> planChunks(long[] rowIds, int rowsPerChunk, List<DistanceRecomputeChunk> done) {
+        List<int[]> chunks = new ArrayList<>();
+        int from = -1;
+        for (int i = 0; i <= rowIds.length; i++) {
+            boolean pending = i < rowIds.length && !isDone(done, rowIds[i]);
+            if (pending && from < 0) from = i;
+            if (from >= 0 && (!pending || i - from == rowsPerChunk)) {
+                chunks.add(new int[]{from, i});
+                from = pending ? i : -1;
+            }
+        }
+        return chunks;
+    }
+
+    private static boolean isDone(List<DistanceRecomputeChunk> done, long rowId) {
+        for (DistanceRecomputeChunk chunk : done) {
+            if (chunk.covers(rowId)) return true;
+        }
+        return false;
+    }
+
+    private void runChunk(Run run, Matrix matrix, int from, int to) {
+        if (run.cancelled || run.failure != null) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (matrix.vendorRows) {
+                    runVendorChunk(run, matrix, from, to);
+                    return;
+                }
+
+                int rows = to - from;
+                int cols = matrix.colIds.length;
+                double[] distances = new double[rows * cols];
+                DistanceKernel.manyToMany(
+                        DistanceKernel.Points.of(
+                                Arrays.copyOfRange(matrix.rowLat, from, to),
+                                Arrays.copyOfRange(matrix.rowLon, from, to)),
+                        matrix.columns, distances);
+
+                int written = 0;
+                for (int r = 0; r < rows; r++) {
+                    long warehouseId = matrix.rowIds[from + r];
+                    List<DistancePair> pairs = new ArrayList<>(cols);
+                    for (int c = 0; c < cols; c++) {
+                        pairs.add(new DistancePair(warehouseId, matrix.colIds[c], distances[r * cols + c]));
+                    }
+                    written += run.matrix == DistanceTable.BRANCH_VENDOR
+                            ? distanceService.writeWarehouseRow(warehouseId, pairs)
+                            : branchFactoryDistanceService.writeWarehouseRow(warehouseId, pairs, matrix.names);
+                }
+
+                chunkRepository.save(DistanceRecomputeChunk.builder()
+                        .jobId(run.jobId)
+                        .firstBranchId(matrix.rowIds[from])
+                        .lastBranchId(matrix.rowIds[to - 1])
+                        .rowCount(rows)
+                        .computedPairs(distances.length)
+                        .writtenPairs(written)
+                        .build());
+            });
+            synchronized (run) {
+                run.committedChunks++;
+            }
+        } catch (RuntimeException e) {
+            synchronized (run) {
+                if (run.failure == null) run.failure = e;
+            }
+            log.error("[DistanceRecomputeJob] 청크 실패: id={}, 행 {}~{}",
+                    run.jobId, matrix.rowIds[from], matrix.rowIds[to - 1], e);
+        }
+    }
+
+    /**
+     * 보존 정책 청크 — 거래처 [from, to) 의 유지 대상 창고를 재정리 (삭제 포함)
+     */
+    private void runVendorChunk(Run run, Matrix matrix, int from, int to) {
+        List<Long> vendorIds = Arrays.stream(Arrays.copyOfRange(matrix.rowIds, from, to)).boxed().toList();
+        RecomputeResult result = distanceService.reconcileVendors(vendorIds);
+
+        chunkRepository.save(DistanceRecomputeChunk.builder()
+                .jobId(run.jobId)
+                .firstBranchId(matrix.rowIds[from])
+                .lastBranchId(matrix.rowIds[to - 1])
+                .rowCount(to - from)
+                .computedPairs(result.getComputedPairs())
+                .writtenPairs(result.getWrittenPairs())
+                .build());
+    }
+
+    /**
+     * 좌표가 있는 창고(행, ID 오름차순) × 대상(열) 좌표 적재
+     * - 보존 정책 사용 시 창고-거래처 행렬은 좌표가 있는 거래처 ID(행, 오름차순)만 적재
+     */
+    private Matrix loadMatrix(DistanceTable table) {
+        if (table == DistanceTable.BRANCH_VENDOR && distanceRetentionService.isEnabled()) {
+            Matrix matrix = new Matrix();
+            matrix.vendorRows = true;
+            matrix.rowIds = vendorRepository.findAll().stream()
+                    .filter(vendor -> vendor.getLatitude() != null && vendor.getLongitude() != null)
+                    .mapToLong(Vendor::getId)
+                    .sorted()
+                    .toArray();
+            matrix.pairsPerRow = distanceRetentionService.maxPairsPerVendor();
+            return matrix;
+        }
+
+        List<Branch> warehouses = branchRepository.findByType(BranchType.WAREHOUSE).stream()
+                .filter(branch -> branch.getLatitude() != null && branch.getLongitude() != null)
+                .sorted(Comparator.comparing(Branch::getId))
+                .toList();
+
+        Matrix matrix = new Matrix();
+        matrix.rowIds = warehouses.stream().mapToLong(Branch::getId).toArray();
+        matrix.rowLat = warehouses.stream().mapToDouble(Branch::getLatitude).toArray();
+        matrix.rowLon = warehouses.stream().mapToDouble(Branch::getLongitude).toArray();
+
+        if (table == DistanceTable.BRANCH_VENDOR) {
+            List<Vendor> vendors = vendorRepository.findAll().stream()
+                    .filter(vendor -> vendor.getLatitude() != null && vendor.getLongitude() != null)
+                    .toList();
+            matrix.colIds = vendors.stream().mapToLong(Vendor::getId).toArray();
+            matrix.columns = DistanceKernel.Points.of(
+                    vendors.stream().mapToDouble(Vendor::getLatitude).toArray(),
+                    vendors.stream().mapToDouble(Vendor::getLongitude).toArray());
+            matrix.names = Map.of();
+        } else {
+            List<Branch> factories = branchRepository.findByType(BranchType.FACTORY).stream()
+                    .filter(branch -> branch.getLatitude() != null && branch.getLongitude() != null)
+                    .toList();
+            matrix.colIds = factories.stream().mapToLong(Branch::getId).toArray();
+            matrix.columns = DistanceKernel.Points.of(
+                    factories.stream().mapToDouble(Branch::getLatitude).toArray(),
+                    factories.stream().mapToDouble(Branch::getLongitude).toArray());
+            Map<Long, String> names = new HashMap<>();
+            warehouses.forEach(branch -> names.put(branch.getId(), branch.getName()));
+            factories.forEach(branch -> names.put(branch.getId(), branch.getName()));
+            matrix.names = names;
+        }
+        matrix.pairsPerRow = matrix.colIds.length;
+        return matrix;
+    }
+
+    // ---------------- helper ----------------
+
+    /**
+     * 행렬 잠금 후 실행 중인 작업 확인 (호출 측 트랜잭션 안에서 실행 — 커밋 / 롤백 때 잠금 해제)
+     * - 하트비트가 살아 있는 RUNNING 작업이 있으면 충돌, 끊긴 작업은 FAILED 로 정리
+     */
+    private void acquireMatrix(DistanceTable matrix, LocalDateTime now) {
+        jobRepository.lockMatrix(MATRIX_LOCK_KEY + matrix.ordinal());
+        for (DistanceRecomputeJob job : jobRepository.findByMatrixAndStatus(matrix, DistanceRecomputeJobStatus.RUNNING)) {
+            if (!failIfStale(job, now)) {
+                throw new ConflictException(ErrorStatus.DISTANCE_RECOMPUTE_ALREADY_RUNNING);
+            }
+        }
+    }
+
+    /**
+     * 하트비트가 staleAfter(heartbeat-interval × stale-heartbeats) 이상 끊긴 작업이면 FAILED 처리
+     * @return 중단 처리했으면 true
+     */
+    private boolean failIfStale(DistanceRecomputeJob job, LocalDateTime now) {
+        if (!job.isStale(now.minus(staleAfter))) return false;
+
+        job.finish(DistanceRecomputeJobStatus.FAILED, "실행 인스턴스 응답 없음으로 중단됨 (owner=" + job.getOwner() + ")");
+        jobRepository.save(job);
+        log.warn("[DistanceRecomputeJob] 중단된 작업 표시: id={}, matrix={}, owner={}, heartbeat={}",
+                job.getId(), job.getMatrix(), job.getOwner(), job.getHeartbeatAt());
+        return true;
+    }
+
+    /**
+     * 작업 종료 기록 — 아직 이 인스턴스가 실행 중인 작업일 때만 (넘겨받은 작업을 덮어쓰지 않음)
+     */
+    private void finish(Long jobId, DistanceRecomputeJobStatus status, String error) {
+        transactionTemplate.executeWithoutResult(tx -> jobRepository.findById(jobId).ifPresent(job -> {
+            if (!job.isOwnedBy(instanceId)) {
+                log.warn("[DistanceRecomputeJob] 종료 기록 생략 (다른 인스턴스가 넘겨받은 작업): id={}, owner={}",
+                        jobId, job.getOwner());
+                return;
+            }
+            job.finish(status, error);
+            jobRepository.save(job);
+        }));
+    }
+
+    private DistanceRecomputeJob findJob(Long jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.DISTANCE_RECOMPUTE_JOB_NOT_FOUND));
+    }
+
+    private DistanceRecomputeJobResponseDTO toResponse(DistanceRecomputeJob job) {
+        return DistanceRecomputeJobResponseDTO.from(job, chunkRepository.findByJobId(job.getId()));
+    }
+
+    /**
+     * 실행 중인 작업 상태 (취소 플래그 / 첫 실패)
+     */
+    private static final class Run {
+        private final Long jobId;
+        private final DistanceTable matrix;
+        private volatile boolean cancelled;
+        private volatile RuntimeException failure;
+        private int committedChunks;
+
+        private Run(Long jobId, DistanceTable matrix) {
+            this.jobId = jobId;
+            this.matrix = matrix;
+        }
+    }
+
+    private static final class Matrix {
+        private long[] rowIds;
+        private double[] rowLat;
+        private double[] rowLon;
+        private long[] colIds;
+        private DistanceKernel.Points columns;
+        private Map<Long, String> names;
+        private int pairsPerRow;
+        private boolean vendorRows;   // 보존 정책 — 행이 거래처
+    }
+}
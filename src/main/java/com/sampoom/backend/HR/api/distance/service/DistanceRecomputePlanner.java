@@ -0,0 +1,201 @@
+package com.sampoom.backend.HR.api.distance.service;
+
+import com.sampoom.backend.HR.api.branch.entity.Branch;
+import com.sampoom.backend.HR.api.branch.repository.BranchRepository;
+import com.sampoom.backend.HR.api.distance.dto.RecomputeResult;
+import com.sampoom.backend.HR.api.vendor.entity.Vendor;
+import com.sampoom.backend.HR.api.vendor.repository.VendorRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 트랜잭션 단위 거리 재계산 계획기
+ * - 요청된 재계산 작업(기준 엔티티 + 거리 종류)을 모아 중복을 제거하고, 커밋 직전에 한 번만 실행
+ * - 실행은 같은 트랜잭션 안이므로 실패 시 원래 쓰기와 함께 롤백됨
+ * - 트랜잭션이 없으면 즉시 실행
+ */
+@Slf4j
+@Component
+public class DistanceRecomputePlanner {
+
+    /**
+     * 재계산 작업 종류
+     */
+    public enum Kind {
+        VENDOR_WAREHOUSES,      // 거래처 → 모든 창고
+        WAREHOUSE_VENDORS,      // 창고 → 모든 거래처
+        WAREHOUSE_FACTORIES,    // 창고 → 모든 공장
+        FACTORY_WAREHOUSES      // 공장 → 모든 창고
+    }
+
+    private final DistanceService distanceService;
+    private final BranchFactoryDistanceService branchFactoryDistanceService;
+    private final BranchRepository branchRepository;
+    private final VendorRepository vendorRepository;
+    private final EntityManager entityManager;
+
+    private final Counter plannedTasks;
+    private final Counter collapsedTasks;
+    private final Counter executedTasks;
+    private final Counter computedPairs;
+    private final Counter writtenPairs;
+
+    public DistanceRecomputePlanner(
+            DistanceService distanceService,
+            BranchFactoryDistanceService branchFactoryDistanceService,
+            BranchRepository branchRepository,
+            VendorRepository vendorRepository,
+            EntityManager entityManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.distanceService = distanceService;
+        this.branchFactoryDistanceService = branchFactoryDistanceService;
+        this.branchRepository = branchRepository;
+        this.vendorRepository = vendorRepository;
+        this.entityManager = entityManager;
+
+        this.plannedTasks = Counter.builder("distance.recompute.tasks").tag("result", "planned").register(meterRegistry);
+        this.collapsedTasks = Counter.builder("distance.recompute.tasks").tag("result", "collapsed").register(meterRegistry);
+        this.executedTasks = Counter.builder("distance.recompute.tasks").tag("result", "executed").register(meterRegistry);
+        this.computedPairs = Counter.builder("distance.recompute.pairs").tag("result", "computed").register(meterRegistry);
+        this.writtenPairs = Counter.builder("distance.recompute.pairs").tag("result", "written").register(meterRegistry);
+    }
+
+    /**
+     * 창고 / 공장 좌표 변경에 따른 재계산 등록
+     */
+    public void planBranch(Branch branch) {
+        switch (branch.getType()) {
+            case WAREHOUSE -> {
+                plan(Kind.WAREHOUSE_VENDORS, branch.getId());
+                plan(Kind.WAREHOUSE_FACTORIES, branch.getId());
+            }
+            case FACTORY -> plan(Kind.FACTORY_WAREHOUSES, branch.getId());
+        }
+    }
+
+    /**
+     * 거래처 좌표 변경에 따른 재계산 등록
+     */
+    public void planVendor(Vendor vendor) {
+        plan(Kind.VENDOR_WAREHOUSES, vendor.getId());
+    }
+
+    /**
+     * 재계산 작업 등록 — 같은 트랜잭션에서 같은 작업은 한 번만 실행
+     */
+    public void plan(Kind kind, Long anchorId) {
+        plannedTasks.increment();
+        Task task = new Task(kind, anchorId);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Plan plan = new Plan();
+            plan.tasks.add(task);
+            plan.execute();
+            return;
+        }
+
+        Plan plan = (Plan) TransactionSynchronizationManager.getResource(this);
+        if (plan == null) {
+            plan = new Plan();
+            TransactionSynchronizationManager.bindResource(this, plan);
+            TransactionSynchronizationManager.registerSynchronization(plan);
+        }
+        if (!plan.tasks.add(task)) {
+            plan.duplicates++;
+            collapsedTasks.increment();
+        }
+    }
+
+    private RecomputeResult run(Task task) {
+        return switch (task.kind) {
+            case VENDOR_WAREHOUSES -> vendorRepository.findById(task.anchorId)
+                    .map(distanceService::updateDistancesForNewVendor)
+                    .orElse(RecomputeResult.EMPTY);
+            case WAREHOUSE_VENDORS -> branchRepository.findById(task.anchorId)
+                    .map(distanceService::updateVendorDistancesForWarehouse)
+                    .orElse(RecomputeResult.EMPTY);
+            case WAREHOUSE_FACTORIES -> branchRepository.findById(task.anchorId)
+                    .map(branchFactoryDistanceService::updateDistancesForNewWarehouse)
+                    .orElse(RecomputeResult.EMPTY);
+            case FACTORY_WAREHOUSES -> branchRepository.findById(task.anchorId)
+                    .map(branchFactoryDistanceService::updateDistancesForNewFactory)
+                    .orElse(RecomputeResult.EMPTY);
+        };
+    }
+
+    private static final class Task {
+        private final Kind kind;
+        private final Long anchorId;
+
+        private Task(Kind kind, Long anchorId) {
+            this.kind = kind;
+            this.anchorId = anchorId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Task other)) return false;
+            return kind == other.kind && Objects.equals(anchorId, other.anchorId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, anchorId);
+        }
+
+        @Override
+        public String toString() {
+            return kind + ":" + anchorId;
+        }
+    }
+
+    /**
+     * 트랜잭션 하나에 묶인 재계산 계획
+     */
+    private final class Plan implements TransactionSynchronization {
+
+        private final Set<Task> tasks = new LinkedHashSet<>();
+        private int duplicates;
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // 엔티티 변경분을 먼저 반영해야 JDBC 로 쓰는 거리 행이 최신 좌표 / FK 를 본다
+            entityManager.flush();
+            execute();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(DistanceRecomputePlanner.this);
+        }
+
+        private void execute() {
+            int computed = 0;
+            int written = 0;
+            for (Task task : List.copyOf(tasks)) {
+                RecomputeResult result = run(task);
+                computed += result.getComputedPairs();
+                written += result.getWrittenPairs();
+            }
+
+            executedTasks.increment(tasks.size());
+            computedPairs.increment(computed);
+            writtenPairs.increment(written);
+
+            log.info("[DistanceRecomputePlanner] 재계산 작업 요청 {}건 → 실행 {}건 {}, 거리 쌍 계산 {}건 / 저장 {}건",
+                    tasks.size() + duplicates, tasks.size(), tasks, computed, written);
+        }
+    }
+}
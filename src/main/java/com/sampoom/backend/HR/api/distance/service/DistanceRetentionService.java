@@ -0,0 +1,224 @@
+package com.sampoom.backend.HR.api.distance.service;
+
+import com.sampoom.backend.HR.api.branch.entity.Branch;
+import com.sampoom.backend.HR.api.branch.repository.BranchRepository;
+import com.sampoom.backend.HR.api.distance.dto.DistancePair;
+import com.sampoom.backend.HR.api.distance.dto.DistanceReconcileResult;
+import com.sampoom.backend.HR.api.distance.dto.DistanceTable;
+import com.sampoom.backend.HR.api.distance.dto.StoredDistance;
+import com.sampoom.backend.HR.api.distance.repository.DistanceJdbcRepository;
+import com.sampoom.backend.HR.api.geo.service.GeoIndexService;
+import com.sampoom.backend.HR.api.vendor.entity.Vendor;
+import com.sampoom.backend.HR.api.vendor.repository.VendorRepository;
+import com.sampoom.backend.HR.common.geo.index.GeoEntityType;
+import com.sampoom.backend.HR.common.geo.index.Neighbor;
+import com.sampoom.backend.HR.common.util.DistanceUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 창고-거래처 거리 보존 정책 (top-K / 최대 반경)
+ * - 거래처마다 가까운 활성 창고 K 개 그리고/또는 반경 이내 창고와의 거리만 저장
+ * - 후보는 공간 인덱스(GeoIndexService)로 찾아 전체 쌍을 평가하지 않음
+ * - 인덱스는 후보 선정에만 쓰고, 저장할 거리는 DB 에서 읽은 현재 좌표로 계산 (다른 인스턴스의 변경이 인덱스에 늦게 반영돼도 틀린 거리를 쓰지 않음)
+ * - 정책에서 벗어난 기존 행은 삭제 (호출 측에서 삭제 이벤트 발행)
+ * - distance.retention.enabled=false(기본) 이면 사용되지 않음
+ */
+@Slf4j
+@Service
+public class DistanceRetentionService {
+
+    // 지구 위 두 점 사이 최대 거리보다 큰 반경 (제한 없음)
+    private static final double UNBOUNDED_KM = 20_100.0;
+
+    // 한 번에 정리하는 거래처 수
+    private static final int VENDOR_BATCH_SIZE = 1000;
+
+    // top-K 후보 여유분 (인덱스 좌표가 DB 와 조금 어긋나도 실제 top-K 를 놓치지 않도록 K 배수만큼 조회)
+    private static final int CANDIDATE_FACTOR = 2;
+
+    private static final DistanceTable TABLE = DistanceTable.BRANCH_VENDOR;
+
+    private final GeoIndexService geoIndexService;
+    private final BranchRepository branchRepository;
+    private final VendorRepository vendorRepository;
+    private final DistanceJdbcRepository distanceJdbcRepository;
+    private final DistanceBulkWriter distanceBulkWriter;
+    private final boolean enabled;
+    private final int topK;
+    private final double maxRadiusKm;
+
+    public DistanceRetentionService(
+            GeoIndexService geoIndexService,
+            BranchRepository branchRepository,
+            VendorRepository vendorRepository,
+            DistanceJdbcRepository distanceJdbcRepository,
+            DistanceBulkWriter distanceBulkWriter,
+            @Value("${distance.retention.enabled:false}") boolean enabled,
+            @Value("${distance.retention.top-k:0}") int topK,
+            @Value("${distance.retention.max-radius-km:0}") double maxRadiusKm
+    ) {
+        this.geoIndexService = geoIndexService;
+        this.branchRepository = branchRepository;
+        this.vendorRepository = vendorRepository;
+        this.distanceJdbcRepository = distanceJdbcRepository;
+        this.distanceBulkWriter = distanceBulkWriter;
+        this.topK = Math.max(0, topK);
+        this.maxRadiusKm = Math.max(0, maxRadiusKm);
+        this.enabled = enabled && (this.topK > 0 || this.maxRadiusKm > 0);
+
+        if (enabled && !this.enabled) {
+            log.warn("[DistanceRetentionService] top-k / max-radius-km 가 모두 0 이라 보존 정책을 사용하지 않습니다.");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 거래처 한 곳당 유지되는 최대 쌍 수 (작업 청크 크기 산정용)
+     */
+    public int maxPairsPerVendor() {
+        return topK > 0 ? topK : Math.max(1, geoIndexService.size(GeoEntityType.WAREHOUSE));
+    }
+
+    /**
+     * 거래처 추가 / 이동 — 해당 거래처의 유지 대상 창고만 저장
+     * - 비활성 / 좌표 없는 거래처는 기존 행을 그대로 둠
+     */
+    public DistanceReconcileResult reconcileVendor(Vendor vendor) {
+        if (!geoIndexService.isIndexable(vendor)) {
+            return new DistanceReconcileResult(0, List.of(), List.of());
+        }
+        List<StoredDistance> existing = distanceJdbcRepository.findByTargetId(TABLE, vendor.getId());
+        List<DistancePair> desired = desiredPairs(List.of(vendor), null);
+        return distanceBulkWriter.reconcile(TABLE, existing, desired);
+    }
+
+    /**
+     * 창고 추가 / 이동 / 비활성 — 유지 대상이 바뀔 수 있는 거래처만 다시 정리
+     * - 이 창고와 거리 행이 있는 거래처 (이동 / 비활성으로 빠질 수 있음)
+     * - 새 위치에서 반경 이내, 그리고 top-K 사용 시 현재 저장된 최대 거리 이내의 거래처 (새로 들어갈 수 있음)
+     * - top-K 를 아직 채우지 못한 거래처
+     */
+    public DistanceReconcileResult reconcileForWarehouse(Branch warehouse) {
+        Set<Long> candidates = new LinkedHashSet<>();
+        distanceJdbcRepository.findByBranchId(TABLE, warehouse.getId())
+                .forEach(row -> candidates.add(row.getTargetId()));
+
+        if (geoIndexService.isIndexable(warehouse)) {
+            double bound = maxRadiusKm > 0 ? maxRadiusKm : UNBOUNDED_KM;
+            int otherWarehouses = geoIndexService.size(GeoEntityType.WAREHOUSE)
+                    - (geoIndexService.coordinates(GeoEntityType.WAREHOUSE, warehouse.getId()).isPresent() ? 1 : 0);
+
+            if (topK > 0 && otherWarehouses >= topK) {
+                // 창고 W 가 거래처 v 의 top-K 에 들어가려면 d(v, W) <= v 의 K 번째 거리 <= 저장된 최대 거리
+                Double maxStored = distanceJdbcRepository.findMaxDistance(TABLE);
+                if (maxStored != null) bound = Math.min(bound, maxStored);
+                candidates.addAll(distanceJdbcRepository.findTargetIdsWithFewerRowsThan(TABLE, topK));
+            }
+
+            geoIndexService.within(GeoEntityType.VENDOR, warehouse.getLatitude(), warehouse.getLongitude(), bound, null)
+                    .forEach(vendor -> candidates.add(vendor.getId()));
+        }
+
+        log.info("[DistanceRetentionService] 창고({}) 변경 — 거래처 {}곳 재정리", warehouse.getId(), candidates.size());
+        return reconcileVendorIds(candidates, warehouse);
+    }
+
+    /**
+     * 거래처 목록 재정리 (전체 재계산 작업용)
+     */
+    public DistanceReconcileResult reconcileVendors(Collection<Long> vendorIds) {
+        return reconcileVendorIds(vendorIds, null);
+    }
+
+    // ---------------- helper ----------------
+
+    /**
+     * 활성 + 좌표 보유 거래처만 정리 (좌표는 DB 기준) — 나머지는 다음 변경 시까지 그대로 둠
+     * @param changedWarehouse 아직 커밋되지 않은 변경 창고, 없으면 null
+     */
+    private DistanceReconcileResult reconcileVendorIds(Collection<Long> vendorIds, Branch changedWarehouse) {
+        int evaluated = 0;
+        List<StoredDistance> written = new ArrayList<>();
+        List<StoredDistance> deleted = new ArrayList<>();
+
+        List<Long> ids = new ArrayList<>(vendorIds);
+        for (int from = 0; from < ids.size(); from += VENDOR_BATCH_SIZE) {
+            List<Vendor> vendors = vendorRepository.findAllById(ids.subList(from, Math.min(from + VENDOR_BATCH_SIZE, ids.size())))
+                    .stream()
+                    .filter(geoIndexService::isIndexable)
+                    .sorted(Comparator.comparing(Vendor::getId))
+                    .toList();
+            if (vendors.isEmpty()) continue;
+
+            List<Long> batch = vendors.stream().map(Vendor::getId).toList();
+            DistanceReconcileResult result = distanceBulkWriter.reconcile(
+                    TABLE, distanceJdbcRepository.findByTargetIds(TABLE, batch), desiredPairs(vendors, changedWarehouse));
+            evaluated += result.getEvaluatedPairs();
+            written.addAll(result.getWritten());
+            deleted.addAll(result.getDeleted());
+        }
+        return new DistanceReconcileResult(evaluated, written, deleted);
+    }
+
+    /**
+     * 거래처별 유지 대상 (거리순, 같은 거리면 창고 ID 순)
+     * - 인덱스로 후보 창고를 고른 뒤 DB 에서 다시 읽어 활성 창고만, 현재 좌표로 거리 계산
+     */
+    private List<DistancePair> desiredPairs(List<Vendor> vendors, Branch changedWarehouse) {
+        Long excludeId = changedWarehouse == null ? null : changedWarehouse.getId();
+
+        Map<Long, List<Neighbor>> candidates = new HashMap<>();
+        Set<Long> warehouseIds = new HashSet<>();
+        for (Vendor vendor : vendors) {
+            List<Neighbor> found = topK > 0
+                    ? geoIndexService.nearest(GeoEntityType.WAREHOUSE,
+                            vendor.getLatitude(), vendor.getLongitude(), topK * CANDIDATE_FACTOR, excludeId)
+                    : geoIndexService.within(GeoEntityType.WAREHOUSE,
+                            vendor.getLatitude(), vendor.getLongitude(), maxRadiusKm, excludeId);
+            candidates.put(vendor.getId(), found);
+            found.forEach(warehouse -> warehouseIds.add(warehouse.getId()));
+        }
+
+        Map<Long, Branch> warehouses = new HashMap<>();
+        branchRepository.findAllById(warehouseIds).stream()
+                .filter(branch -> branch.isWarehouse() && geoIndexService.isIndexable(branch))
+                .forEach(branch -> warehouses.put(branch.getId(), branch));
+
+        // 방금 바뀐 창고는 인덱스가 커밋 후 갱신되므로 현재 엔티티로 직접 평가
+        boolean includeChanged = changedWarehouse != null
+                && changedWarehouse.isWarehouse() && geoIndexService.isIndexable(changedWarehouse);
+
+        List<DistancePair> pairs = new ArrayList<>();
+        for (Vendor vendor : vendors) {
+            List<DistancePair> row = new ArrayList<>();
+            for (Neighbor candidate : candidates.get(vendor.getId())) {
+                Branch warehouse = warehouses.get(candidate.getId());
+                if (warehouse != null) row.add(pair(warehouse, vendor));
+            }
+            if (includeChanged) row.add(pair(changedWarehouse, vendor));
+
+            row.sort(Comparator.comparingDouble(DistancePair::getDistanceKm).thenComparing(DistancePair::getBranchId));
+
+            int kept = 0;
+            for (DistancePair pair : row) {
+                if (maxRadiusKm > 0 && pair.getDistanceKm() > maxRadiusKm) break;
+                if (topK > 0 && kept == topK) break;
+                pairs.add(pair);
+                kept++;
+            }
+        }
+        return pairs;
+    }
+
+    private static DistancePair pair(Branch warehouse, Vendor vendor) {
+        return new DistancePair(warehouse.getId(), vendor.getId(), DistanceUtil.calculateDistance(
+                vendor.getLatitude(), vendor.getLongitude(), warehouse.getLatitude(), warehouse.getLongitude()));
+    }
+}
@@ -4,138 +4,147 @@ import com.sampoom.backend.HR.api.branch.entity.Branch;
 import com.sampoom.backend.HR.api.branch.entity.BranchType;
 import com.sampoom.backend.HR.api.branch.event.dto.BranchEvent;
 import com.sampoom.backend.HR.api.branch.repository.BranchRepository;
-import com.sampoom.backend.HR.api.distance.entity.BranchVendorDistance;
-import com.sampoom.backend.HR.api.distance.event.dto.BranchAgencyDistanceEvent;
+import com.sampoom.backend.HR.api.distance.dto.DistancePair;
+import com.sampoom.backend.HR.api.distance.dto.DistanceReconcileResult;
+import com.sampoom.backend.HR.api.distance.dto.DistanceTable;
+import com.sampoom.backend.HR.api.distance.dto.RecomputeResult;
+import com.sampoom.backend.HR.api.distance.dto.StoredDistance;
+import com.sampoom.backend.HR.api.distance.event.service.DistanceEventPublisher;
 import com.sampoom.backend.HR.api.vendor.entity.Vendor;
 import com.sampoom.backend.HR.api.vendor.repository.VendorRepository;
-import com.sampoom.backend.HR.api.distance.repository.DistanceRepository;
 import com.sampoom.backend.HR.common.outbox.service.OutboxService;
-import com.sampoom.backend.HR.common.util.DistanceUtil;
+import com.sampoom.backend.HR.common.util.DistanceKernel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DistanceService {
 
-    private final DistanceRepository distanceRepository;
+    private final DistanceBulkWriter distanceBulkWriter;
     private final BranchRepository branchRepository;
     private final VendorRepository vendorRepository;
     private final OutboxService outboxService;
-    private final BranchFactoryDistanceService branchFactoryDistanceService;
+    private final DistanceRetentionService distanceRetentionService;
+    private final DistanceEventPublisher distanceEventPublisher;
 
     @Transactional
-    public void updateDistancesForNewVendor(Vendor vendor) {
+    public RecomputeResult updateDistancesForNewVendor(Vendor vendor) {
+        // 보존 정책 사용 시 가까운 창고만 저장
+        if (distanceRetentionService.isEnabled()) {
+            RecomputeResult result = publishReconciled(
+                    DistanceBulkWriter.Anchor.TARGET, distanceRetentionService.reconcileVendor(vendor));
+            log.info("[DistanceService] Vendor({}) 보존 정책 반영: 유지 {}건 / 변경 {}건",
+                    vendor.getName(), result.getComputedPairs(), result.getWrittenPairs());
+            return result;
+        }
+
+        if (vendor.getLatitude() == null || vendor.getLongitude() == null) {
+            log.warn("[DistanceService] Vendor({}) 좌표 없음 — 거리 계산 생략", vendor.getName());
+            return RecomputeResult.EMPTY;
+        }
+
         // 창고만 조회 (공장 제외)
         List<Branch> warehouses = branchRepository.findByType(BranchType.WAREHOUSE);
 
-        for (Branch warehouse : warehouses) {
-            if (warehouse.getLatitude() != null && warehouse.getLongitude() != null
-                    && vendor.getLatitude() != null && vendor.getLongitude() != null) {
-
-                Double distanceKm = DistanceUtil.calculateDistance(
-                        warehouse.getLatitude(), warehouse.getLongitude(),
-                        vendor.getLatitude(), vendor.getLongitude()
-                );
-
-                BranchVendorDistance distanceEntity = distanceRepository.findByBranchAndVendor(warehouse, vendor)
-                        .orElseGet(() -> BranchVendorDistance.builder()
-                                .branch(warehouse)
-                                .vendor(vendor)
-                                .build());
-
-                distanceEntity.updateDistance(distanceKm);
-                distanceRepository.save(distanceEntity);
-
-                // Payload 생성
-                BranchAgencyDistanceEvent.Payload payload = BranchAgencyDistanceEvent.Payload.builder()
-                        .distanceId(distanceEntity.getId())
-                        .branchId(warehouse.getId())
-                        .agencyId(vendor.getId())
-                        .distanceKm(distanceKm)
-                        .deleted(false)
-                        .build();
-
-                // Outbox 저장
-                outboxService.saveEvent(
-                        "BRANCH_AGENCY_DISTANCE",  // 새로운 aggregate type
-                        distanceEntity.getId(),
-                        "DistanceCalculated",
-                        distanceEntity.getVersion(),
-                        payload
-                );
-            }
+        List<Branch> located = warehouses.stream()
+                .filter(warehouse -> warehouse.getLatitude() != null && warehouse.getLongitude() != null)
+                .toList();
+        double[] distances = new double[located.size()];
+        DistanceKernel.manyToOne(
+                DistanceKernel.Points.of(
+                        located.stream().mapToDouble(Branch::getLatitude).toArray(),
+                        located.stream().mapToDouble(Branch::getLongitude).toArray()),
+                vendor.getLatitude(), vendor.getLongitude(), distances);
+
+        List<DistancePair> pairs = new ArrayList<>(located.size());
+        for (int i = 0; i < located.size(); i++) {
+            pairs.add(new DistancePair(located.get(i).getId(), vendor.getId(), distances[i]));
         }
+
+        List<StoredDistance> saved = distanceBulkWriter.write(
+                DistanceTable.BRANCH_VENDOR, DistanceBulkWriter.Anchor.TARGET, vendor.getId(), pairs);
+        distanceEventPublisher.publish(
+                DistanceTable.BRANCH_VENDOR, DistanceBulkWriter.Anchor.TARGET, saved, List.of(), Map.of());
+
         log.info("[DistanceService] Vendor({}) 거리 {}건 업데이트 및 이벤트 발행 완료",
-                vendor.getName(), warehouses.size());
+                vendor.getName(), saved.size());
+        return new RecomputeResult(pairs.size(), saved.size());
     }
 
+    /**
+     * 창고에 대한 대리점-창고 거리 계산
+     */
     @Transactional
-    public void updateDistancesForNewBranch(Branch branch) {
+    public RecomputeResult updateVendorDistancesForWarehouse(Branch warehouse) {
+        // 보존 정책 사용 시 유지 대상이 바뀔 수 있는 거래처만 재정리 (좌표 해제 / 비활성 시 기존 행 삭제 포함)
+        if (distanceRetentionService.isEnabled()) {
+            return publishReconciled(
+                    DistanceBulkWriter.Anchor.BRANCH, distanceRetentionService.reconcileForWarehouse(warehouse));
+        }
 
-        // 공장인 경우 창고-공장 거리 계산
-        if (branch.getType() == BranchType.FACTORY) {
-            branchFactoryDistanceService.updateDistancesForNewFactory(branch);
-            return;
+        if (warehouse.getLatitude() == null || warehouse.getLongitude() == null) {
+            log.warn("[DistanceService] 창고({}) 좌표 없음 — 거리 계산 생략", warehouse.getName());
+            return RecomputeResult.EMPTY;
         }
 
-        // 창고인 경우 대리점-창고 거리 계산
-        if (branch.getType() == BranchType.WAREHOUSE) {
-            // 기존 대리점-창고 거리 계산
-            updateVendorDistancesForWarehouse(branch);
-            // 창고-공장 거리 계산
-            branchFactoryDistanceService.updateDistancesForNewWarehouse(branch);
+        List<Vendor> vendors = vendorRepository.findAll();
+
+        List<Vendor> located = vendors.stream()
+                .filter(vendor -> vendor.getLatitude() != null && vendor.getLongitude() != null)
+                .toList();
+        double[] distances = new double[located.size()];
+        DistanceKernel.oneToMany(
+                warehouse.getLatitude(), warehouse.getLongitude(),
+                DistanceKernel.Points.of(
+                        located.stream().mapToDouble(Vendor::getLatitude).toArray(),
+                        located.stream().mapToDouble(Vendor::getLongitude).toArray()),
+                distances);
+
+        List<DistancePair> pairs = new ArrayList<>(located.size());
+        for (int i = 0; i < located.size(); i++) {
+            pairs.add(new DistancePair(warehouse.getId(), located.get(i).getId(), distances[i]));
         }
+
+        int saved = writeWarehouseRow(warehouse.getId(), pairs);
+        return new RecomputeResult(pairs.size(), saved);
     }
 
     /**
-     * 창고에 대한 대리점-창고 거리 계산
+     * 창고 한 행의 대리점-창고 거리 저장 (변경분만) 및 이벤트 발행
+     * @return 저장된 행 수
      */
-    private void updateVendorDistancesForWarehouse(Branch warehouse) {
-        List<Vendor> vendors = vendorRepository.findAll();
+    @Transactional
+    public int writeWarehouseRow(Long warehouseId, List<DistancePair> pairs) {
+        List<StoredDistance> saved = distanceBulkWriter.write(
+                DistanceTable.BRANCH_VENDOR, DistanceBulkWriter.Anchor.BRANCH, warehouseId, pairs);
+        distanceEventPublisher.publish(
+                DistanceTable.BRANCH_VENDOR, DistanceBulkWriter.Anchor.BRANCH, saved, List.of(), Map.of());
+        return saved.size();
+    }
 
-        for (Vendor vendor : vendors) {
-            if (warehouse.getLatitude() != null && warehouse.getLongitude() != null
-                    && vendor.getLatitude() != null && vendor.getLongitude() != null) {
-
-                double distanceKm = DistanceUtil.calculateDistance(
-                        warehouse.getLatitude(), warehouse.getLongitude(),
-                        vendor.getLatitude(), vendor.getLongitude()
-                );
-
-                BranchVendorDistance distanceEntity = distanceRepository.findByBranchAndVendor(warehouse, vendor)
-                        .orElseGet(() -> BranchVendorDistance.builder()
-                                .branch(warehouse)
-                                .vendor(vendor)
-                                .build());
-
-                distanceEntity.updateDistance(distanceKm);
-                distanceRepository.save(distanceEntity);
-
-                // Payload 생성
-                BranchAgencyDistanceEvent.Payload payload = BranchAgencyDistanceEvent.Payload.builder()
-                        .distanceId(distanceEntity.getId())
-                        .branchId(warehouse.getId())
-                        .agencyId(vendor.getId())
-                        .distanceKm(distanceKm)
-                        .deleted(false)
-                        .build();
-
-                // Outbox 저장
-                outboxService.saveEvent(
-                        "BRANCH_AGENCY_DISTANCE",  // 새로운 aggregate type
-                        distanceEntity.getId(),
-                        "DistanceCalculated",
-                        distanceEntity.getVersion(),
-                        payload
-                );
-            }
-        }
+    /**
+     * 거래처 목록의 대리점-창고 거리를 보존 정책대로 재정리 (전체 재계산 작업용)
+     */
+    @Transactional
+    public RecomputeResult reconcileVendors(List<Long> vendorIds) {
+        return publishReconciled(DistanceBulkWriter.Anchor.TARGET, distanceRetentionService.reconcileVendors(vendorIds));
+    }
+
+    /**
+     * 보존 정책 반영 결과 이벤트 발행 — 저장 행은 DistanceCalculated, 삭제 행은 DistanceDeleted
+     */
+    private RecomputeResult publishReconciled(DistanceBulkWriter.Anchor anchor, DistanceReconcileResult result) {
+        distanceEventPublisher.publish(
+                DistanceTable.BRANCH_VENDOR, anchor, result.getWritten(), result.getDeleted(), Map.of());
+        return new RecomputeResult(result.getEvaluatedPairs(), result.getWritten().size() + result.getDeleted().size());
     }
 
     @Transactional
@@ -0,0 +1,75 @@
+package com.sampoom.backend.HR.api.geo.controller;
+
+import com.sampoom.backend.HR.api.geo.dto.GeocodeBatchRequestDTO;
+import com.sampoom.backend.HR.api.geo.dto.NearestResultDTO;
+import com.sampoom.backend.HR.api.geo.service.GeoBatchService;
+import com.sampoom.backend.HR.api.geo.service.NearestService;
+import com.sampoom.backend.HR.common.geo.index.GeoEntityType;
+import com.sampoom.backend.HR.common.response.ApiResponse;
+import com.sampoom.backend.HR.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.Arrays;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/geo")
+@Tag(name = "Geo API", description = "주소 좌표 변환 API")
+public class GeoController {
+
+    private final GeoBatchService geoBatchService;
+    private final NearestService nearestService;
+
+    /**
+     * 대량 주소 좌표 변환 (JSON 목록)
+     */
+    @Operation(summary = "대량 주소 좌표 변환",
+            description = "주소 목록을 좌표로 변환합니다. 결과는 완료 순서대로 NDJSON 한 줄씩 전송되며 index 로 요청 위치를 구분합니다.")
+    @PostMapping(value = "/geocode/batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> geocodeBatch(@RequestBody GeocodeBatchRequestDTO dto) {
+        return ndjson(geoBatchService.geocode(dto.getAddresses()));
+    }
+
+    /**
+     * 대량 주소 좌표 변환 (한 줄에 주소 하나)
+     */
+    @Operation(summary = "대량 주소 좌표 변환 (텍스트)", description = "한 줄에 주소 하나씩 담긴 본문을 좌표로 변환합니다.")
+    @PostMapping(value = "/geocode/batch",
+            consumes = MediaType.TEXT_PLAIN_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> geocodeBatchLines(@RequestBody String body) {
+        List<String> addresses = Arrays.asList(body.split("\\R"));
+        return ndjson(geoBatchService.geocode(addresses));
+    }
+
+    /**
+     * 임의 좌표 기준 최근접 창고 / 공장 / 거래처 (메모리 인덱스)
+     */
+    @Operation(summary = "좌표 기준 최근접 조회",
+            description = "주어진 좌표에서 가까운 활성 창고(WAREHOUSE) / 공장(FACTORY) / 거래처(VENDOR)를 거리순으로 최대 k 개 조회합니다. radiusKm 지정 시 반경 내로 제한합니다.")
+    @GetMapping("/nearest")
+    public ResponseEntity<ApiResponse<List<NearestResultDTO>>> nearest(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam GeoEntityType type,
+            @RequestParam(defaultValue = "5") int k,
+            @RequestParam(required = false) Double radiusKm) {
+        List<NearestResultDTO> result = nearestService.nearest(lat, lng, type, k, radiusKm);
+        return ApiResponse.success(SuccessStatus.OK, result);
+    }
+
+    private static ResponseEntity<ResponseBodyEmitter> ndjson(ResponseBodyEmitter emitter) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(emitter);
+    }
+}
@@ -0,0 +1,15 @@
+package com.sampoom.backend.HR.api.geo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GeocodeBatchRequestDTO {
+
+    private List<String> addresses;
+}
@@ -0,0 +1,19 @@
+package com.sampoom.backend.HR.api.geo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GeocodeBatchResultDTO {
+
+    private int index;          // 요청 목록에서의 위치 (결과는 완료 순서대로 전송됨)
+    private String address;
+    private boolean resolved;
+    private Double latitude;    // 변환 실패 시 null
+    private Double longitude;
+}
@@ -0,0 +1,28 @@
+package com.sampoom.backend.HR.api.geo.dto;
+
+import com.sampoom.backend.HR.common.geo.index.Neighbor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NearestResultDTO {
+
+    private Long id;            // 창고/공장: branchId, 거래처: vendorId
+    private Double latitude;
+    private Double longitude;
+    private Double distanceKm;
+
+    public static NearestResultDTO from(Neighbor neighbor) {
+        return NearestResultDTO.builder()
+                .id(neighbor.getId())
+                .latitude(neighbor.getLatitude())
+                .longitude(neighbor.getLongitude())
+                .distanceKm(neighbor.getDistanceKm())
+                .build();
+    }
+}
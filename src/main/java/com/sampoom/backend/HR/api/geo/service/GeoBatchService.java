@@ -0,0 +1,241 @@
+package com.sampoom.backend.HR.api.geo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sampoom.backend.HR.api.geo.dto.GeocodeBatchResultDTO;
+import com.sampoom.backend.HR.common.exception.BadRequestException;
+import com.sampoom.backend.HR.common.geo.service.TokenBucketRateLimiter;
+import com.sampoom.backend.HR.common.response.ErrorStatus;
+import com.sampoom.backend.HR.common.util.GeoUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대량 주소 → 좌표 변환
+ * - 정규화 주소 기준으로 중복 제거 후, 요청당 concurrency 개씩만 동시에 실행
+ * - Kakao 호출은 KakaoGeocoder 의 토큰 버킷을 거치므로 캐시/지명 사전 적중분은 호출량을 쓰지 않음
+ * - 호출량 초과 / 일시 오류로 판단하지 못한 주소는 토큰이 생길 때까지 기다렸다가 max-attempts 까지 다시 시도
+ *   (실패로 내보내지 않고 호출량이 허용하는 속도로 끝까지 처리)
+ * - 결과는 완료되는 순서대로 NDJSON 한 줄씩 전송
+ */
+@Slf4j
+@Service
+public class GeoBatchService {
+
+    private final GeoUtil geoUtil;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final ThreadPoolTaskExecutor geoBatchExecutor;
+    private final ObjectMapper objectMapper;
+    private final int maxSize;
+    private final int concurrency;
+    private final Duration timeout;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+
+    private final Counter requestedAddresses;
+    private final Counter uniqueAddresses;
+    private final Counter retries;
+
+    public GeoBatchService(
+            GeoUtil geoUtil,
+            TokenBucketRateLimiter rateLimiter,
+            @Qualifier("geoBatchExecutor") ThreadPoolTaskExecutor geoBatchExecutor,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${geo.batch.max-size:5000}") int maxSize,
+            @Value("${geo.batch.concurrency:8}") int concurrency,
+            @Value("${geo.batch.timeout:PT10M}") Duration timeout,
+            @Value("${geo.batch.max-attempts:5}") int maxAttempts,
+            @Value("${geo.batch.retry-backoff:PT0.5S}") Duration retryBackoff
+    ) {
+        this.geoUtil = geoUtil;
+        this.rateLimiter = rateLimiter;
+        this.geoBatchExecutor = geoBatchExecutor;
+        this.objectMapper = objectMapper;
+        this.maxSize = maxSize;
+        this.concurrency = concurrency;
+        this.timeout = timeout;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoff = retryBackoff;
+
+        this.requestedAddresses = Counter.builder("geocode.batch.addresses")
+                .tag("kind", "requested")
+                .register(meterRegistry);
+        this.uniqueAddresses = Counter.builder("geocode.batch.addresses")
+                .tag("kind", "unique")
+                .register(meterRegistry);
+        this.retries = Counter.builder("geocode.batch.retries")
+                .description("호출량 초과 / 일시 오류로 다시 시도한 횟수")
+                .register(meterRegistry);
+    }
+
+    public ResponseBodyEmitter geocode(List<String> addresses) {
+        if (addresses == null || addresses.isEmpty()) {
+            throw new BadRequestException(ErrorStatus.GEO_BATCH_EMPTY);
+        }
+        if (addresses.size() > maxSize) {
+            throw new BadRequestException(ErrorStatus.GEO_BATCH_TOO_LARGE);
+        }
+
+        // 정규화 주소 → 해당 주소가 등장한 요청 위치들
+        Map<String, Job> jobs = new LinkedHashMap<>();
+        List<Integer> blanks = new ArrayList<>();
+        for (int i = 0; i < addresses.size(); i++) {
+            String address = addresses.get(i);
+            String key = GeoUtil.normalizeAddress(address);
+            if (key.isEmpty()) {
+                blanks.add(i);
+                continue;
+            }
+            jobs.computeIfAbsent(key, k -> new Job(address)).indexes.add(i);
+        }
+        requestedAddresses.increment(addresses.size());
+        uniqueAddresses.increment(jobs.size());
+        log.info("[GeoBatch] 주소 {}건 요청 (중복 제거 후 {}건)", addresses.size(), jobs.size());
+
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeout.toMillis());
+        BatchRun run = new BatchRun(emitter, addresses, jobs.values().iterator());
+        emitter.onTimeout(run::close);
+        emitter.onError(e -> run.close());
+        emitter.onCompletion(run::close);
+        run.start(blanks);
+        return emitter;
+    }
+
+    private static final class Job {
+        private final String address;
+        private final List<Integer> indexes = new ArrayList<>(1);
+
+        private Job(String address) {
+            this.address = address;
+        }
+    }
+
+    /**
+     * 요청 하나의 실행 상태
+     * - 작업이 끝날 때마다 결과를 전송하고 다음 작업을 제출 (별도 조율 스레드 없음)
+     */
+    private final class BatchRun {
+
+        private final ResponseBodyEmitter emitter;
+        private final List<String> addresses;
+        private final Iterator<Job> pending;
+        private int running;
+        // 타임아웃/오류 콜백은 컨테이너 스레드에서 오므로 잠금 없이 표시만 함
+        private volatile boolean closed;
+
+        private BatchRun(ResponseBodyEmitter emitter, List<String> addresses, Iterator<Job> pending) {
+            this.emitter = emitter;
+            this.addresses = addresses;
+            this.pending = pending;
+        }
+
+        private synchronized void start(List<Integer> blanks) {
+            for (int index : blanks) {
+                emit(index, addresses.get(index), null);
+            }
+            fill();
+            completeIfDone();
+        }
+
+        private void close() {
+            closed = true;
+        }
+
+        private void fill() {
+            while (!closed && running < concurrency && pending.hasNext()) {
+                Job job = pending.next();
+                running++;
+                try {
+                    geoBatchExecutor.execute(() -> run(job));
+                } catch (TaskRejectedException e) {
+                    running--;
+                    log.warn("[GeoBatch] 작업 큐 포화로 변환 생략: {}", job.address);
+                    emitAll(job, null);
+                }
+            }
+        }
+
+        private void run(Job job) {
+            double[] coords = null;
+            for (int attempt = 1; attempt <= maxAttempts && !closed; attempt++) {
+                try {
+                    coords = geoUtil.resolveLatLng(job.address);
+                } catch (Exception e) {
+                    log.error("[GeoBatch] 좌표 변환 실패 ({}): {}", job.address, e.getMessage());
+                    coords = null;
+                }
+                if (coords != null || attempt == maxAttempts || !awaitRetry(attempt)) break;
+                retries.increment();
+            }
+
+            synchronized (this) {
+                running--;
+                emitAll(job, coords);
+                fill();
+                completeIfDone();
+            }
+        }
+
+        /**
+         * 재시도 전 대기 — 호출량 토큰이 생길 때까지, 최소 retryBackoff × 시도 횟수
+         * @return 인터럽트되면 false
+         */
+        private boolean awaitRetry(int attempt) {
+            long delayNanos = Math.max(rateLimiter.nanosUntilAvailable(), retryBackoff.toNanos() * attempt);
+            try {
+                TimeUnit.NANOSECONDS.sleep(delayNanos);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private void completeIfDone() {
+            if (!closed && running == 0 && !pending.hasNext()) {
+                closed = true;
+                emitter.complete();
+            }
+        }
+
+        private void emitAll(Job job, double[] coords) {
+            for (int index : job.indexes) {
+                emit(index, addresses.get(index), coords);
+            }
+        }
+
+        private void emit(int index, String address, double[] coords) {
+            if (closed) return;
+
+            boolean resolved = GeoUtil.isValid(coords);
+            GeocodeBatchResultDTO result = GeocodeBatchResultDTO.builder()
+                    .index(index)
+                    .address(address)
+                    .resolved(resolved)
+                    .latitude(resolved ? coords[0] : null)
+                    .longitude(resolved ? coords[1] : null)
+                    .build();
+            try {
+                emitter.send(objectMapper.writeValueAsString(result) + "\n", MediaType.APPLICATION_NDJSON);
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 종료 등 — 남은 작업은 제출하지 않음
+                log.warn("[GeoBatch] 결과 전송 실패, 배치 중단: {}", e.getMessage());
+                closed = true;
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
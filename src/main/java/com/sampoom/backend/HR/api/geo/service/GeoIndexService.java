@@ -0,0 +1,258 @@
+package com.sampoom.backend.HR.api.geo.service;
+
+import com.sampoom.backend.HR.api.branch.entity.Branch;
+import com.sampoom.backend.HR.api.branch.entity.BranchStatus;
+import com.sampoom.backend.HR.api.branch.entity.BranchType;
+import com.sampoom.backend.HR.api.branch.repository.BranchRepository;
+import com.sampoom.backend.HR.api.vendor.entity.Vendor;
+import com.sampoom.backend.HR.api.vendor.entity.VendorStatus;
+import com.sampoom.backend.HR.api.vendor.repository.VendorRepository;
+import com.sampoom.backend.HR.common.geo.index.GeoEntityType;
+import com.sampoom.backend.HR.common.geo.index.GridSpatialIndex;
+import com.sampoom.backend.HR.common.geo.index.Neighbor;
+import com.sampoom.backend.HR.common.util.GeoUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 창고 / 공장 / 거래처 좌표 메모리 인덱스
+ * - 기동 완료 시 DB 에서 전체 적재, 이후 이 인스턴스의 쓰기 경로에서는 커밋 후 바로 반영
+ * - 다른 인스턴스의 변경(이동 / 비활성 포함)은 sync-interval 마다 updated_at 기준으로 가져와 반영 (커밋 지연 / 시계 오차만큼 sync-overlap 겹쳐 읽음)
+ * - updated_at 을 거치지 않는 변경(직접 SQL 등)에 대비해 full-sync-interval 마다 전체 재적재
+ * - 활성(ACTIVE) 상태이고 유효한 좌표가 있는 엔티티만 인덱싱
+ */
+@Slf4j
+@Service
+public class GeoIndexService {
+
+    private final BranchRepository branchRepository;
+    private final VendorRepository vendorRepository;
+    private final Duration syncOverlap;
+    private final Map<GeoEntityType, GridSpatialIndex> indexes = new EnumMap<>(GeoEntityType.class);
+
+    // 마지막 동기화(전체 적재 포함) 시작 시각 — null 이면 아직 적재 전
+    private volatile LocalDateTime syncedAt;
+
+    public GeoIndexService(
+            BranchRepository branchRepository,
+            VendorRepository vendorRepository,
+            MeterRegistry meterRegistry,
+            @Value("${geo.index.cell-degrees:0.1}") double cellDegrees,
+            @Value("${geo.index.sync-overlap:PT1M}") Duration syncOverlap
+    ) {
+        this.branchRepository = branchRepository;
+        this.vendorRepository = vendorRepository;
+        this.syncOverlap = syncOverlap;
+
+        for (GeoEntityType type : GeoEntityType.values()) {
+            GridSpatialIndex index = new GridSpatialIndex(cellDegrees);
+            indexes.put(type, index);
+            Gauge.builder("geo.index.size", index, GridSpatialIndex::size)
+                    .tag("type", type.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 전체 재적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        LocalDateTime pollStart = LocalDateTime.now();
+
+        List<Branch> branches = branchRepository.findAll();
+        List<Vendor> vendors = vendorRepository.findAll();
+
+        load(GeoEntityType.WAREHOUSE, branches.stream()
+                .filter(branch -> branch.getType() == BranchType.WAREHOUSE && isIndexable(branch))
+                .map(branch -> new Object[]{branch.getId(), branch.getLatitude(), branch.getLongitude()})
+                .toList());
+        load(GeoEntityType.FACTORY, branches.stream()
+                .filter(branch -> branch.getType() == BranchType.FACTORY && isIndexable(branch))
+                .map(branch -> new Object[]{branch.getId(), branch.getLatitude(), branch.getLongitude()})
+                .toList());
+        load(GeoEntityType.VENDOR, vendors.stream()
+                .filter(this::isIndexable)
+                .map(vendor -> new Object[]{vendor.getId(), vendor.getLatitude(), vendor.getLongitude()})
+                .toList());
+
+        log.info("[GeoIndexService] 공간 인덱스 적재 완료: 창고 {} / 공장 {} / 거래처 {} ({} ms)",
+                indexes.get(GeoEntityType.WAREHOUSE).size(),
+                indexes.get(GeoEntityType.FACTORY).size(),
+                indexes.get(GeoEntityType.VENDOR).size(),
+                System.currentTimeMillis() - start);
+        // 읽는 동안 커밋된 변경은 다음 변경분 동기화가 겹쳐 읽어 다시 반영
+        syncedAt = pollStart;
+    }
+
+    /**
+     * 다른 인스턴스의 변경 반영 (마지막 동기화 시각 - sync-overlap 이후 updated_at)
+     * - DB 의 현재 값을 다시 넣으므로 겹쳐 읽어도 결과는 같음
+     */
+    @Scheduled(fixedDelayString = "${geo.index.sync-interval:PT5S}")
+    @Transactional(readOnly = true)
+    public void syncRecentChanges() {
+        LocalDateTime since = syncedAt;
+        if (since == null) return;
+
+        LocalDateTime pollStart = LocalDateTime.now();
+        List<Branch> branches = branchRepository.findByUpdatedAtAfter(since.minus(syncOverlap));
+        List<Vendor> vendors = vendorRepository.findByUpdatedAtAfter(since.minus(syncOverlap));
+
+        branches.forEach(this::applyBranch);
+        vendors.forEach(this::applyVendor);
+        syncedAt = pollStart;
+
+        if (!branches.isEmpty() || !vendors.isEmpty()) {
+            log.debug("[GeoIndexService] 변경분 동기화: 지점 {} / 거래처 {}", branches.size(), vendors.size());
+        }
+    }
+
+    /**
+     * 주기적 전체 재적재
+     */
+    @Scheduled(fixedDelayString = "${geo.index.full-sync-interval:PT15M}",
+            initialDelayString = "${geo.index.full-sync-interval:PT15M}")
+    @Transactional(readOnly = true)
+    public void resync() {
+        if (syncedAt == null) return;
+        rebuild();
+    }
+
+    /**
+     * 지점 변경 반영 (현재 트랜잭션 커밋 후)
+     */
+    public void onBranchChanged(Branch branch) {
+        long id = branch.getId();
+        GeoEntityType type = typeOf(branch);
+        boolean indexable = isIndexable(branch);
+        double lat = indexable ? branch.getLatitude() : 0.0;
+        double lon = indexable ? branch.getLongitude() : 0.0;
+
+        afterCommit(() -> apply(type, id, indexable, lat, lon));
+    }
+
+    /**
+     * 거래처 변경 반영 (현재 트랜잭션 커밋 후)
+     */
+    public void onVendorChanged(Vendor vendor) {
+        long id = vendor.getId();
+        boolean indexable = isIndexable(vendor);
+        double lat = indexable ? vendor.getLatitude() : 0.0;
+        double lon = indexable ? vendor.getLongitude() : 0.0;
+
+        afterCommit(() -> apply(GeoEntityType.VENDOR, id, indexable, lat, lon));
+    }
+
+    /**
+     * k-최근접
+     */
+    public List<Neighbor> nearest(GeoEntityType type, double lat, double lon, int k, Long excludeId) {
+        return indexes.get(type).nearest(lat, lon, k, excludeId);
+    }
+
+    /**
+     * 반경 내 전체
+     */
+    public List<Neighbor> within(GeoEntityType type, double lat, double lon, double radiusKm, Long excludeId) {
+        return indexes.get(type).within(lat, lon, radiusKm, excludeId);
+    }
+
+    /**
+     * 인덱스에 있는 좌표 ({위도, 경도})
+     */
+    public Optional<double[]> coordinates(GeoEntityType type, Long id) {
+        return indexes.get(type).get(id);
+    }
+
+    /**
+     * 인덱스 항목 수
+     */
+    public int size(GeoEntityType type) {
+        return indexes.get(type).size();
+    }
+
+    private void load(GeoEntityType type, List<Object[]> rows) {
+        long[] ids = new long[rows.size()];
+        double[] lat = new double[rows.size()];
+        double[] lon = new double[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            ids[i] = (Long) rows.get(i)[0];
+            lat[i] = (Double) rows.get(i)[1];
+            lon[i] = (Double) rows.get(i)[2];
+        }
+        indexes.get(type).replaceAll(ids, lat, lon);
+    }
+
+    private void applyBranch(Branch branch) {
+        boolean indexable = isIndexable(branch);
+        apply(typeOf(branch), branch.getId(), indexable,
+                indexable ? branch.getLatitude() : 0.0, indexable ? branch.getLongitude() : 0.0);
+    }
+
+    private void applyVendor(Vendor vendor) {
+        boolean indexable = isIndexable(vendor);
+        apply(GeoEntityType.VENDOR, vendor.getId(), indexable,
+                indexable ? vendor.getLatitude() : 0.0, indexable ? vendor.getLongitude() : 0.0);
+    }
+
+    private static GeoEntityType typeOf(Branch branch) {
+        return branch.getType() == BranchType.FACTORY ? GeoEntityType.FACTORY : GeoEntityType.WAREHOUSE;
+    }
+
+    private void apply(GeoEntityType type, long id, boolean indexable, double lat, double lon) {
+        GridSpatialIndex index = indexes.get(type);
+        if (indexable) {
+            index.put(id, lat, lon);
+        } else {
+            index.remove(id);
+        }
+    }
+
+    public boolean isIndexable(Branch branch) {
+        return branch.getStatus() == BranchStatus.ACTIVE
+                && hasCoordinates(branch.getLatitude(), branch.getLongitude());
+    }
+
+    public boolean isIndexable(Vendor vendor) {
+        return vendor.getStatus() == VendorStatus.ACTIVE
+                && hasCoordinates(vendor.getLatitude(), vendor.getLongitude());
+    }
+
+    // 좌표 변환 실패 시 (0.0, 0.0) 이 저장되므로 null 과 함께 제외
+    private static boolean hasCoordinates(Double lat, Double lon) {
+        return lat != null && lon != null && GeoUtil.isValid(new double[]{lat, lon});
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,126 @@
+package com.sampoom.backend.HR.api.geo.service;
+
+import com.sampoom.backend.HR.api.branch.repository.BranchRepository;
+import com.sampoom.backend.HR.api.geo.dto.NearestResultDTO;
+import com.sampoom.backend.HR.api.vendor.repository.VendorRepository;
+import com.sampoom.backend.HR.common.exception.BadRequestException;
+import com.sampoom.backend.HR.common.exception.NotFoundException;
+import com.sampoom.backend.HR.common.geo.index.GeoEntityType;
+import com.sampoom.backend.HR.common.geo.index.Neighbor;
+import com.sampoom.backend.HR.common.response.ErrorStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 최근접 창고 / 공장 / 거래처 조회
+ * - 거리 테이블 대신 GeoIndexService 의 메모리 인덱스로 응답
+ * - DB 는 인덱스에 없는 id 의 존재 여부(404 판별)에만 사용
+ */
+@Service
+public class NearestService {
+
+    private final GeoIndexService geoIndexService;
+    private final BranchRepository branchRepository;
+    private final VendorRepository vendorRepository;
+    private final int maxK;
+    private final Map<GeoEntityType, Timer> timers = new EnumMap<>(GeoEntityType.class);
+
+    public NearestService(
+            GeoIndexService geoIndexService,
+            BranchRepository branchRepository,
+            VendorRepository vendorRepository,
+            MeterRegistry meterRegistry,
+            @Value("${geo.nearest.max-k:100}") int maxK
+    ) {
+        this.geoIndexService = geoIndexService;
+        this.branchRepository = branchRepository;
+        this.vendorRepository = vendorRepository;
+        this.maxK = maxK;
+
+        for (GeoEntityType type : GeoEntityType.values()) {
+            timers.put(type, Timer.builder("geo.nearest")
+                    .tag("type", type.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 거래처 기준 최근접 창고
+     */
+    public List<NearestResultDTO> nearestWarehousesForVendor(Long vendorId, int k) {
+        validateK(k);
+        Optional<double[]> origin = geoIndexService.coordinates(GeoEntityType.VENDOR, vendorId);
+        if (origin.isEmpty()) {
+            // 비활성 / 좌표 없는 거래처는 빈 결과, 존재하지 않으면 404
+            if (!vendorRepository.existsById(vendorId)) {
+                throw new NotFoundException(ErrorStatus.VENDOR_NOT_FOUND);
+            }
+            return List.of();
+        }
+
+        double[] coords = origin.get();
+        return query(GeoEntityType.WAREHOUSE, () ->
+                geoIndexService.nearest(GeoEntityType.WAREHOUSE, coords[0], coords[1], k, null));
+    }
+
+    /**
+     * 지점(창고 또는 공장) 기준 최근접 공장 — 자기 자신은 제외
+     */
+    public List<NearestResultDTO> nearestFactoriesForBranch(Long branchId, int k) {
+        validateK(k);
+        Optional<double[]> origin = geoIndexService.coordinates(GeoEntityType.WAREHOUSE, branchId)
+                .or(() -> geoIndexService.coordinates(GeoEntityType.FACTORY, branchId));
+        if (origin.isEmpty()) {
+            if (!branchRepository.existsById(branchId)) {
+                throw new NotFoundException(ErrorStatus.BRANCH_NOT_FOUND);
+            }
+            return List.of();
+        }
+
+        double[] coords = origin.get();
+        return query(GeoEntityType.FACTORY, () ->
+                geoIndexService.nearest(GeoEntityType.FACTORY, coords[0], coords[1], k, branchId));
+    }
+
+    /**
+     * 임의 좌표 기준 최근접 (radiusKm 지정 시 반경 내에서 가까운 순으로 최대 k 개)
+     */
+    public List<NearestResultDTO> nearest(double lat, double lng, GeoEntityType type, int k, Double radiusKm) {
+        validateK(k);
+        if (!Double.isFinite(lat) || !Double.isFinite(lng) || Math.abs(lat) > 90 || Math.abs(lng) > 180) {
+            throw new BadRequestException(ErrorStatus.GEO_INVALID_COORDINATE);
+        }
+        if (radiusKm != null && !(radiusKm >= 0)) {
+            throw new BadRequestException(ErrorStatus.GEO_INVALID_RADIUS);
+        }
+
+        return query(type, () -> {
+            if (radiusKm == null) {
+                return geoIndexService.nearest(type, lat, lng, k, null);
+            }
+            List<Neighbor> within = geoIndexService.within(type, lat, lng, radiusKm, null);
+            return within.size() > k ? within.subList(0, k) : within;
+        });
+    }
+
+    private List<NearestResultDTO> query(GeoEntityType type, Supplier<List<Neighbor>> search) {
+        List<Neighbor> neighbors = timers.get(type).record(search);
+        return neighbors.stream()
+                .map(NearestResultDTO::from)
+                .toList();
+    }
+
+    private void validateK(int k) {
+        if (k < 1 || k > maxK) {
+            throw new BadRequestException(ErrorStatus.GEO_NEAREST_INVALID_K);
+        }
+    }
+}
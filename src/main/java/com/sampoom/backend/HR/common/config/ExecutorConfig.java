@@ -0,0 +1,102 @@
+package com.sampoom.backend.HR.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * 지오코딩 병렬(hedge) 시도용 스레드 풀
+     * - 풀이 가득 차면 호출 스레드에서 직접 실행 (순차 실행으로 자연스럽게 후퇴)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor geoExecutor(
+            @Value("${geo.executor.core-size:8}") int coreSize,
+            @Value("${geo.executor.max-size:32}") int maxSize,
+            @Value("${geo.executor.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("geo-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * 비동기 지오코딩 파이프라인 워커 풀
+     * - 큐가 가득 차면 거절 (엔티티는 PENDING 으로 남고 주기적 재시도 대상이 됨)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor geocodePipelineExecutor(
+            @Value("${geo.async.workers:4}") int workers,
+            @Value("${geo.async.queue-capacity:1000}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("geocode-pipeline-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * 대량 지오코딩 API 워커 풀
+     * - 요청별 동시 실행 수는 GeoBatchService 가 제한, 풀 크기는 전체 동시 실행 상한
+     */
+    @Bean
+    public ThreadPoolTaskExecutor geoBatchExecutor(
+            @Value("${geo.batch.concurrency:8}") int concurrency,
+            @Value("${geo.batch.queue-capacity:1000}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("geo-batch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * 거리 행렬 전체 재계산 풀
+     * - 청크마다 DB 커넥션을 하나씩 쓰므로 병렬도는 커넥션 풀 크기보다 작게 유지
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ForkJoinPool distanceRecomputePool(
+            @Value("${distance.recompute.parallelism:4}") int parallelism
+    ) {
+        return new ForkJoinPool(parallelism, pool -> {
+            var worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            worker.setName("distance-recompute-" + worker.getPoolIndex());
+            return worker;
+        }, null, false);
+    }
+
+    /**
+     * 거리 재계산 작업 하트비트 전용 스케줄러
+     * - 기본 스케줄러(스레드 1개)는 Outbox 발행 / 거리 캐시 동기화 / 보존 정리가 길게 점유할 수 있으므로 분리
+     */
+    @Bean
+    public ThreadPoolTaskScheduler distanceHeartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("distance-heartbeat-");
+        scheduler.setDaemon(true);
+        scheduler.setWaitForTasksToCompleteOnShutdown(false);
+        return scheduler;
+    }
+}
@@ -0,0 +1,47 @@
+package com.sampoom.backend.HR.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+@Configuration
+public class KafkaProducerConfig {
+
+    /**
+     * Outbox 파이프라인 발행용 프로듀서 설정
+     * - linger / batch / 압축으로 여러 이벤트를 한 요청에 묶음
+     * - 멱등 프로듀서 + acks=all + in-flight 5 이하: 재전송이 있어도 파티션(키) 내 순서 유지
+     * - spring.kafka.producer.* 로 이미 지정한 값은 덮어쓰지 않음
+     */
+    @Bean
+    public DefaultKafkaProducerFactoryCustomizer outboxProducerCustomizer(
+            @Value("${outbox.kafka.linger-ms:20}") int lingerMs,
+            @Value("${outbox.kafka.batch-size:131072}") int batchSize,
+            @Value("${outbox.kafka.compression-type:lz4}") String compressionType
+    ) {
+        return producerFactory -> {
+            Map<String, Object> current = producerFactory.getConfigurationProperties();
+            Map<String, Object> defaults = new HashMap<>();
+            defaults.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+            defaults.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+            defaults.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+            defaults.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+            defaults.put(ProducerConfig.ACKS_CONFIG, "all");
+            defaults.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION_CONFIG, 5);
+
+            Map<String, Object> updates = new HashMap<>();
+            defaults.forEach((key, value) -> {
+                if (!current.containsKey(key)) updates.put(key, value);
+            });
+            producerFactory.updateConfigs(updates);
+            log.info("[KafkaProducerConfig] 프로듀서 기본 설정 적용: {}", updates);
+        };
+    }
+}
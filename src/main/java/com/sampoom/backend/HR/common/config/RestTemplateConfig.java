@@ -1,15 +1,88 @@
-// com.sampoom.backend.HR.config.RestTemplateConfig.java
-package com.sampoom.backend.HR.config;
+package com.sampoom.backend.HR.common.config;
 
+import com.sampoom.backend.HR.common.geo.geocoder.AbortableRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.time.Duration;
+
 @Configuration
 public class RestTemplateConfig {
 
+    /**
+     * Kakao 지오코딩 전용 커넥션 풀 (keep-alive 로 TLS 핸드셰이크 재사용)
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager kakaoConnectionManager(
+            MeterRegistry meterRegistry,
+            @Value("${geo.http.max-total:20}") int maxTotal,
+            @Value("${geo.http.max-per-route:20}") int maxPerRoute,
+            @Value("${geo.http.connect-timeout:PT1S}") Duration connectTimeout,
+            @Value("${geo.http.read-timeout:PT2S}") Duration readTimeout,
+            @Value("${geo.http.time-to-live:PT5M}") Duration timeToLive
+    ) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(timeToLive))
+                        .build())
+                .build();
+
+        // httpcomponents.httpclient.pool.* (leased / available / pending / max) 노출
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "kakao").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient kakaoHttpClient(
+            @Qualifier("kakaoConnectionManager") PoolingHttpClientConnectionManager kakaoConnectionManager,
+            @Value("${geo.http.connection-request-timeout:PT0.5S}") Duration connectionRequestTimeout,
+            @Value("${geo.http.read-timeout:PT2S}") Duration readTimeout,
+            @Value("${geo.http.keep-alive:PT30S}") Duration keepAlive
+    ) {
+        return HttpClients.custom()
+                .setConnectionManager(kakaoConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // 풀이 가득 찼을 때 대기 상한 (요청 스레드가 무한정 묶이지 않도록)
+                        .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.of(keepAlive))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(keepAlive))
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate kakaoRestTemplate(@Qualifier("kakaoHttpClient") CloseableHttpClient kakaoHttpClient) {
+        // hedge 로 진 시도의 요청을 abort 할 수 있도록 만든 요청을 시도 핸들에 등록
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(kakaoHttpClient) {
+            @Override
+            protected ClassicHttpRequest createHttpUriRequest(HttpMethod httpMethod, URI uri) {
+                ClassicHttpRequest request = super.createHttpUriRequest(httpMethod, uri);
+                AbortableRequest.attachToCurrent(request);
+                return request;
+            }
+        });
     }
 }
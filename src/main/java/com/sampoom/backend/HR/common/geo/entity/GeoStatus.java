@@ -0,0 +1,7 @@
+package com.sampoom.backend.HR.common.geo.entity;
+
+public enum GeoStatus {
+    PENDING,    // 좌표 변환 대기 (비동기 지오코딩)
+    RESOLVED,   // 좌표 변환 완료
+    FAILED      // 좌표 변환 실패
+}
@@ -0,0 +1,24 @@
+package com.sampoom.backend.HR.common.geo.entity;
+
+import com.sampoom.backend.HR.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "geocode_cache")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class GeocodeCache extends BaseTimeEntity {
+
+    @Id
+    @Column(length = 255)
+    private String normalizedAddress;   // GeoUtil.normalizeAddress 결과 (캐시 키)
+
+    @Column(nullable = false)
+    private Double latitude;
+
+    @Column(nullable = false)
+    private Double longitude;
+}
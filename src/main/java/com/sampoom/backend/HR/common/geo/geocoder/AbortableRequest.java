@@ -0,0 +1,70 @@
+package com.sampoom.backend.HR.common.geo.geocoder;
+
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+
+import java.util.concurrent.Callable;
+
+/**
+ * hedge 시도 하나가 보내는 HTTP 요청의 중단 핸들
+ * - future.cancel(true) 의 인터럽트로는 HttpClient5 의 블로킹 소켓 읽기가 풀리지 않으므로 요청 자체를 abort 해야 커넥션이 바로 반환된다.
+ * - 시도를 실행하는 스레드에 핸들을 바인딩하고, kakaoRestTemplate 의 요청 팩토리가 요청을 만들 때 attachToCurrent 로 등록한다.
+ */
+public final class AbortableRequest {
+
+    private static final ThreadLocal<AbortableRequest> CURRENT = new ThreadLocal<>();
+
+    private HttpUriRequestBase request;
+    private boolean aborted;
+
+    /**
+     * 현재 스레드에 이 핸들을 바인딩한 채 시도 실행
+     */
+    public <T> T call(Callable<T> attempt) throws Exception {
+        CURRENT.set(this);
+        try {
+            return attempt.call();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * 요청 팩토리에서 호출 — 현재 스레드에 핸들이 있으면 만든 요청을 등록 (이미 중단됐으면 바로 abort)
+     */
+    public static void attachToCurrent(ClassicHttpRequest request) {
+        AbortableRequest handle = CURRENT.get();
+        if (handle != null && request instanceof HttpUriRequestBase base) {
+            handle.attach(base);
+        }
+    }
+
+    /**
+     * 현재 스레드의 시도가 중단됐는지 (중단으로 난 I/O 예외를 장애로 집계하지 않기 위함)
+     */
+    public static boolean isCurrentAborted() {
+        AbortableRequest handle = CURRENT.get();
+        return handle != null && handle.isAborted();
+    }
+
+    /**
+     * 진행 중인 요청 중단
+     * @return 이미 보낸 요청을 중단했으면 true (호출량은 이미 사용됨)
+     */
+    public synchronized boolean abort() {
+        if (aborted) return false;
+        aborted = true;
+        if (request == null) return false;
+        request.abort();
+        return true;
+    }
+
+    public synchronized boolean isAborted() {
+        return aborted;
+    }
+
+    private synchronized void attach(HttpUriRequestBase request) {
+        this.request = request;
+        if (aborted) request.abort();
+    }
+}
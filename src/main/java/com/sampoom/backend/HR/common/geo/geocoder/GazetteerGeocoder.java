@@ -0,0 +1,128 @@
+package com.sampoom.backend.HR.common.geo.geocoder;
+
+import com.sampoom.backend.HR.common.util.GeoUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 로컬 지명 사전(gazetteer) 기반 변환기
+ * - "시도 시군구" 단위 주소 → 대표 좌표 (번들 TSV 파일에서 로드)
+ * - 주소 전체가 사전의 시군구 항목과 일치할 때만 답함 (예: "경기도 수원시 영통구")
+ *   뒤에 도로명/지번이 붙은 상세 주소에 시군구 대표 좌표를 돌려주면 거리가 수십 km 까지 틀어지므로 '결과 없음' 처리
+ * - 네트워크 호출이 없으므로 조회 비용은 해시 조회 한 번 수준
+ */
+@Slf4j
+@Component
+public class GazetteerGeocoder implements Geocoder {
+
+    // 약칭/구 명칭 → 행정구역 정식 명칭
+    private static final Map<String, String> PROVINCE_ALIASES = Map.ofEntries(
+            Map.entry("서울", "서울특별시"), Map.entry("서울시", "서울특별시"),
+            Map.entry("부산", "부산광역시"), Map.entry("부산시", "부산광역시"),
+            Map.entry("대구", "대구광역시"), Map.entry("대구시", "대구광역시"),
+            Map.entry("인천", "인천광역시"), Map.entry("인천시", "인천광역시"),
+            Map.entry("광주", "광주광역시"),  // "광주시"는 경기도 광주시와 겹치므로 제외
+            Map.entry("대전", "대전광역시"), Map.entry("대전시", "대전광역시"),
+            Map.entry("울산", "울산광역시"), Map.entry("울산시", "울산광역시"),
+            Map.entry("세종", "세종특별자치시"), Map.entry("세종시", "세종특별자치시"),
+            Map.entry("경기", "경기도"),
+            Map.entry("강원", "강원특별자치도"), Map.entry("강원도", "강원특별자치도"),
+            Map.entry("충북", "충청북도"),
+            Map.entry("충남", "충청남도"),
+            Map.entry("전북", "전북특별자치도"), Map.entry("전라북도", "전북특별자치도"),
+            Map.entry("전남", "전라남도"),
+            Map.entry("경북", "경상북도"),
+            Map.entry("경남", "경상남도"),
+            Map.entry("제주", "제주특별자치도"), Map.entry("제주도", "제주특별자치도")
+    );
+
+    // 시도 + 시군구 + (일반구) 보다 긴 주소는 시군구 단위가 아님
+    private static final int MAX_DISTRICT_TOKENS = 3;
+
+    private final Map<String, double[]> index;
+
+    public GazetteerGeocoder(
+            ResourceLoader resourceLoader,
+            @Value("${geo.gazetteer.location:classpath:geo/gazetteer.tsv}") String location
+    ) {
+        this.index = load(resourceLoader.getResource(location));
+    }
+
+    @Override
+    public String name() {
+        return "gazetteer";
+    }
+
+    /**
+     * 시군구 단위 주소의 대표 좌표 (상세 주소이거나 사전에 없으면 {0.0, 0.0})
+     */
+    @Override
+    public double[] geocode(String address) {
+        String[] tokens = tokenize(address);
+        if (tokens.length == 0 || tokens.length > MAX_DISTRICT_TOKENS) return new double[]{0.0, 0.0};
+
+        double[] match = index.get(String.join(" ", tokens));
+        return match != null ? match.clone() : new double[]{0.0, 0.0};
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    private static String[] tokenize(String address) {
+        String normalized = GeoUtil.normalizeAddress(address);
+        if (normalized.isEmpty()) return new String[0];
+
+        String[] tokens = normalized.split("\\s+");
+        tokens[0] = PROVINCE_ALIASES.getOrDefault(tokens[0], tokens[0]);
+        return tokens;
+    }
+
+    /**
+     * TSV 로드: "시군구 주소<TAB>위도<TAB>경도", '#' 으로 시작하는 줄은 주석
+     */
+    private static Map<String, double[]> load(Resource resource) {
+        Map<String, double[]> entries = new HashMap<>();
+        if (!resource.exists()) {
+            log.warn("[Gazetteer] 지명 사전 파일 없음 — 로컬 변환 비활성: {}", resource);
+            return entries;
+        }
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNo = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank() || line.startsWith("#")) continue;
+
+                String[] cols = line.split("\t");
+                if (cols.length != 3) {
+                    log.warn("[Gazetteer] 잘못된 형식 무시 (line {}): {}", lineNo, line);
+                    continue;
+                }
+                try {
+                    String key = String.join(" ", tokenize(cols[0]));
+                    entries.put(key, new double[]{Double.parseDouble(cols[1]), Double.parseDouble(cols[2])});
+                } catch (NumberFormatException e) {
+                    log.warn("[Gazetteer] 좌표 파싱 실패 무시 (line {}): {}", lineNo, line);
+                }
+            }
+        } catch (IOException e) {
+            log.error("[Gazetteer] 지명 사전 로드 실패: {}", e.getMessage(), e);
+        }
+
+        log.info("[Gazetteer] 지명 사전 로드 완료: {}건", entries.size());
+        return entries;
+    }
+}
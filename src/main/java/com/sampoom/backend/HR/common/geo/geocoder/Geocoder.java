@@ -0,0 +1,18 @@
+package com.sampoom.backend.HR.common.geo.geocoder;
+
+/**
+ * 주소 → 좌표 변환기
+ * 반환값 규칙 (GeoUtil 캐시/부정 캐시 판단에 사용)
+ * - {위도, 경도}: 변환 성공
+ * - {0.0, 0.0}: 조회는 정상이나 결과 없음
+ * - null: 오류/차단/시간초과 등으로 판단 불가
+ */
+public interface Geocoder {
+
+    /**
+     * 메트릭/로그용 이름
+     */
+    String name();
+
+    double[] geocode(String address);
+}
@@ -0,0 +1,96 @@
+package com.sampoom.backend.HR.common.geo.geocoder;
+
+import com.sampoom.backend.HR.common.util.GeoUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 변환기 체인
+ * - geo.gazetteer.mode 에 따라 로컬 지명 사전과 Kakao 의 순서를 결정
+ *   FALLBACK: Kakao 우선, 실패 시 지명 사전 (기본값)
+ *   FIRST: 지명 사전 우선, 없으면 Kakao
+ *   OFF: Kakao 만 사용
+ *   ONLY: 지명 사전만 사용 (네트워크 없는 통합/부하 테스트용)
+ * - 지명 사전은 주소 자체가 시군구 단위일 때만 답하므로(GazetteerGeocoder) 상세 주소는 어느 모드에서도 Kakao 가 변환
+ */
+@Slf4j
+@Component
+public class GeocoderChain {
+
+    public enum GazetteerMode {
+        FIRST, FALLBACK, OFF, ONLY
+    }
+
+    private final List<Geocoder> localFirst;
+    private final List<Geocoder> remaining;
+    private final MeterRegistry meterRegistry;
+
+    public GeocoderChain(
+            KakaoGeocoder kakaoGeocoder,
+            GazetteerGeocoder gazetteerGeocoder,
+            MeterRegistry meterRegistry,
+            @Value("${geo.gazetteer.mode:FALLBACK}") GazetteerMode mode
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.localFirst = new ArrayList<>();
+        this.remaining = new ArrayList<>();
+
+        switch (mode) {
+            case FIRST -> {
+                localFirst.add(gazetteerGeocoder);
+                remaining.add(kakaoGeocoder);
+            }
+            case FALLBACK -> {
+                remaining.add(kakaoGeocoder);
+                remaining.add(gazetteerGeocoder);
+            }
+            case OFF -> remaining.add(kakaoGeocoder);
+            case ONLY -> localFirst.add(gazetteerGeocoder);
+        }
+        log.info("[GeocoderChain] mode={}, 지명 사전 {}건", mode, gazetteerGeocoder.size());
+    }
+
+    /**
+     * 캐시 미스 후 외부 호출 전에 시도하는 로컬 변환 (성공 시에만 좌표, 아니면 null)
+     */
+    public double[] resolveLocally(String address) {
+        for (Geocoder geocoder : localFirst) {
+            double[] coords = geocoder.geocode(address);
+            if (GeoUtil.isValid(coords)) {
+                record(geocoder);
+                return coords;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 나머지 변환기를 순서대로 시도
+     * - 좌표 / {0.0, 0.0} (모두 '결과 없음') / null (하나라도 판단 불가)
+     */
+    public double[] resolve(String address) {
+        boolean inconclusive = false;
+        for (Geocoder geocoder : remaining) {
+            double[] coords = geocoder.geocode(address);
+            if (GeoUtil.isValid(coords)) {
+                record(geocoder);
+                return coords;
+            }
+            if (coords == null) inconclusive = true;
+        }
+        return inconclusive ? null : new double[]{0.0, 0.0};
+    }
+
+    private void record(Geocoder geocoder) {
+        Counter.builder("geocode.resolved")
+                .tag("source", geocoder.name())
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,309 @@
+package com.sampoom.backend.HR.common.geo.geocoder;
+
+import com.sampoom.backend.HR.common.geo.service.KakaoCircuitBreaker;
+import com.sampoom.backend.HR.common.geo.service.TokenBucketRateLimiter;
+import com.sampoom.backend.HR.common.util.DistanceUtil;
+import com.sampoom.backend.HR.common.util.GeoUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.*;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Kakao 로컬 API 기반 변환기 (주소 → 정규화 주소 → 키워드 → 정규화 키워드)
+ * - 각 호출은 커넥션 풀의 connect/read timeout 으로, 전체 시도는 totalDeadline 으로 제한
+ * - SEQUENTIAL: 우선순위 순서대로 하나씩 시도
+ * - PARALLEL: 첫 시도가 hedgeDelay 안에 끝나지 않으면 나머지를 동시에 발사하고 우선순위가 가장 높은 성공 결과 채택
+ *   (진 시도는 진행 중인 HTTP 요청을 abort — 이미 보낸 요청은 호출량 토큰을 쓴 그대로 둠)
+ */
+@Slf4j
+@Component
+public class KakaoGeocoder implements Geocoder {
+
+    private static final String KAKAO_DOMAIN = "https://dapi.kakao.com";
+    private static final String KAKAO_ADDRESS_PATH = "/v2/local/search/address.json";
+    private static final String KAKAO_KEYWORD_PATH = "/v2/local/search/keyword.json";
+
+    public enum Strategy {
+        SEQUENTIAL,  // 한 번에 하나씩 (호출 수 최소)
+        PARALLEL     // hedge 후 동시 호출 (지연 최소)
+    }
+
+    private final KakaoCircuitBreaker circuitBreaker;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final RestTemplate kakaoRestTemplate;
+    private final HttpEntity<String> kakaoRequestEntity;
+    private final AsyncTaskExecutor geoExecutor;
+    private final Duration totalDeadline;
+    private final Strategy strategy;
+    private final Duration hedgeDelay;
+
+    private final Counter hedgeAborted;
+
+    public KakaoGeocoder(
+            KakaoCircuitBreaker circuitBreaker,
+            TokenBucketRateLimiter rateLimiter,
+            @Qualifier("kakaoRestTemplate") RestTemplate kakaoRestTemplate,
+            @Qualifier("geoExecutor") AsyncTaskExecutor geoExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${kakao.api.key}") String kakaoApiKey,
+            @Value("${geo.http.total-deadline:PT5S}") Duration totalDeadline,
+            @Value("${geo.strategy:SEQUENTIAL}") Strategy strategy,
+            @Value("${geo.hedge-delay:PT0.15S}") Duration hedgeDelay
+    ) {
+        this.circuitBreaker = circuitBreaker;
+        this.rateLimiter = rateLimiter;
+        this.kakaoRestTemplate = kakaoRestTemplate;
+        this.geoExecutor = geoExecutor;
+        this.totalDeadline = totalDeadline;
+        this.strategy = strategy;
+        this.hedgeDelay = hedgeDelay;
+        this.hedgeAborted = Counter.builder("geocode.hedge.aborted")
+                .description("hedge 로 진 뒤 중단한 Kakao 요청 수 (호출량은 이미 사용됨)")
+                .register(meterRegistry);
+
+        // 인증 헤더는 매 호출마다 만들 필요가 없으므로 한 번만 생성
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AUTHORIZATION,
+                kakaoApiKey.startsWith("KakaoAK ") ? kakaoApiKey : "KakaoAK " + kakaoApiKey);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        this.kakaoRequestEntity = new HttpEntity<>(headers);
+    }
+
+    @Override
+    public String name() {
+        return "kakao";
+    }
+
+    @Override
+    public double[] geocode(String address) {
+        long deadline = System.nanoTime() + totalDeadline.toNanos();
+        // 트랜잭션 안의 요청 스레드는 호출량 토큰을 기다리지 않음 (DB 커넥션 / 잠금을 쥔 채 잠들지 않도록)
+        // hedge 시도는 다른 스레드에서 실행되므로 여기서 한 번 판단해 넘김
+        boolean mayWait = !TransactionSynchronizationManager.isActualTransactionActive();
+        List<Callable<double[]>> attempts = buildAttempts(address, mayWait);
+
+        return strategy == Strategy.PARALLEL && attempts.size() > 1
+                ? requestHedged(address, attempts, deadline)
+                : requestSequential(address, attempts, deadline);
+    }
+
+    /**
+     * 우선순위 순서의 시도 목록 생성
+     */
+    private List<Callable<double[]>> buildAttempts(String address, boolean mayWait) {
+        String simplified = GeoUtil.normalizeAddress(address);
+        boolean simplifiable = !simplified.equals(address);
+
+        List<Callable<double[]>> attempts = new ArrayList<>(4);
+        // 1) 도로명/주소 검색 (address API) — analyze_type=similar 로 시도
+        attempts.add(() -> requestAddress(address, mayWait));
+        // 2) 괄호 및 일부 특수문자 제거 후 재시도
+        if (simplifiable) attempts.add(() -> requestAddress(simplified, mayWait));
+        // 3) 키워드 검색으로 시도 (keyword API) — 길이 제한 고려
+        attempts.add(() -> requestKeyword(address, mayWait));
+        if (simplifiable) attempts.add(() -> requestKeyword(simplified, mayWait));
+        return attempts;
+    }
+
+    private double[] requestSequential(String address, List<Callable<double[]>> attempts, long deadline) {
+        boolean inconclusive = false;
+        try {
+            for (int i = 0; i < attempts.size(); i++) {
+                if (i > 0 && isExpired(deadline, address)) return null;
+                double[] coords = attempts.get(i).call();
+                if (GeoUtil.isValid(coords)) return coords;
+                if (coords == null) inconclusive = true;
+            }
+        } catch (Exception e) {
+            log.error("❌ 주소 → 좌표 변환 중 오류 ({}): {}", address, e.getMessage());
+            return null;
+        }
+        return inconclusive ? null : new double[]{0.0, 0.0};
+    }
+
+    private double[] requestHedged(String address, List<Callable<double[]>> attempts, long deadline) {
+        List<Future<double[]>> futures = new ArrayList<>(attempts.size());
+        List<AbortableRequest> requests = new ArrayList<>(attempts.size());
+        boolean inconclusive = false;
+        try {
+            futures.add(submitAbortable(attempts.get(0), requests));
+
+            // 첫 시도가 hedgeDelay 안에 성공하면 fan-out 없이 종료
+            double[] first = awaitAttempt(futures.get(0), Math.min(hedgeDelay.toNanos(), deadline - System.nanoTime()));
+            if (GeoUtil.isValid(first)) return first;
+
+            for (int i = 1; i < attempts.size(); i++) {
+                futures.add(submitAbortable(attempts.get(i), requests));
+            }
+
+            // 우선순위 순서대로 결과 확인 — 상위 시도가 성공하면 하위 시도는 취소
+            for (Future<double[]> future : futures) {
+                if (isExpired(deadline, address)) return null;
+                double[] coords = awaitAttempt(future, deadline - System.nanoTime());
+                if (GeoUtil.isValid(coords)) return coords;
+                if (coords == null) inconclusive = true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            log.error("❌ 주소 → 좌표 병렬 변환 중 오류 ({}): {}", address, e.getMessage());
+            return null;
+        } finally {
+            // 아직 시작하지 않은 시도는 취소, 이미 보낸 요청은 abort 로 소켓 대기를 끊어 커넥션 반환
+            for (int i = 0; i < futures.size(); i++) {
+                Future<double[]> future = futures.get(i);
+                if (future.isDone()) continue;
+                future.cancel(true);
+                if (requests.get(i).abort()) hedgeAborted.increment();
+            }
+        }
+        return inconclusive ? null : new double[]{0.0, 0.0};
+    }
+
+    private Future<double[]> submitAbortable(Callable<double[]> attempt, List<AbortableRequest> requests) {
+        AbortableRequest request = new AbortableRequest();
+        requests.add(request);
+        return geoExecutor.submit(() -> request.call(attempt));
+    }
+
+    /**
+     * 제한시간 안에 끝난 시도의 결과 (실패/시간초과는 null)
+     */
+    private static double[] awaitAttempt(Future<double[]> future, long timeoutNanos) throws InterruptedException {
+        try {
+            return future.get(Math.max(timeoutNanos, 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException | CancellationException e) {
+            return null;
+        }
+    }
+
+    private boolean isExpired(long deadline, String address) {
+        if (System.nanoTime() - deadline < 0) return false;
+        log.warn("⏱️ 좌표 변환 전체 제한시간({}) 초과 — 남은 시도 중단: {}", totalDeadline, address);
+        return true;
+    }
+
+    // ---------------- helper ----------------
+
+    /**
+     * 안전한 UriComponents 생성 (SSRF 방지 + 한글 인코딩 포함)
+     * - query: 먼저 안전성 검사 및 truncate 한 뒤 URLEncoder로 인코딩하고 build(true) 사용
+     */
+    private static UriComponents buildSafeUri(String path, String rawQuery) {
+        if (rawQuery == null) rawQuery = "";
+        if (!GeoUtil.isSafeQuery(rawQuery)) {
+            throw new IllegalArgumentException("Unsafe query string detected");
+        }
+
+        String truncated = GeoUtil.truncateQuery(rawQuery);
+        log.debug("KakaoGeocoder: truncated query='{}' ({} bytes)",
+                truncated, truncated.getBytes(StandardCharsets.UTF_8).length);
+
+        return UriComponentsBuilder
+                .fromHttpUrl(KAKAO_DOMAIN)
+                .path(path)
+                .queryParam("query", truncated)  // 원본(잘린) 문자열 그대로 전달
+                .build(false); // true = 이미 안전한 문자열로 간주
+    }
+
+    /**
+     * address (도로명/주소) 검색 — analyze_type=similar 추가
+     */
+    private double[] requestAddress(String query, boolean mayWait) {
+        UriComponents uc;
+        try {
+            uc = buildSafeUri(KAKAO_ADDRESS_PATH, query);
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️ Kakao 주소검색 불가 쿼리 ({}): {}", query, e.getMessage());
+            return new double[]{0.0, 0.0};
+        }
+        // analyze_type 파라미터는 원문(잘린 뒤)에 대해 추가 — encode 처리 동일하게 하려면 param 자체를 encoding해 넣음
+        String encodedAnalyze = URLEncoder.encode("similar", StandardCharsets.UTF_8);
+        return requestKakao(uc.toUriString() + "&analyze_type=" + encodedAnalyze, "주소검색", query, mayWait);
+    }
+
+    /**
+     * keyword 검색 (키워드 검색 시에도 쿼리 잘라서 전달)
+     */
+    private double[] requestKeyword(String query, boolean mayWait) {
+        UriComponents uc;
+        try {
+            uc = buildSafeUri(KAKAO_KEYWORD_PATH, query);
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️ Kakao 키워드검색 불가 쿼리 ({}): {}", query, e.getMessage());
+            return new double[]{0.0, 0.0};
+        }
+        return requestKakao(uc.toUriString(), "키워드검색", query, mayWait);
+    }
+
+    /**
+     * Kakao 호출 (서킷 브레이커 → 호출량 제한 경유)
+     * - 서킷이 열려 있으면 호출량 토큰을 쓰거나 기다리지 않고 바로 null
+     * - 결과 있음: 좌표 / 결과 없음: {0.0, 0.0} / 오류·차단·호출량 초과: null (결과를 알 수 없음 — 호출 측이 재시도)
+     * @param mayWait false 면 호출량 토큰이 없을 때 기다리지 않고 null
+     */
+    private double[] requestKakao(String uri, String api, String query, boolean mayWait) {
+        if (!circuitBreaker.tryAcquire()) {
+            log.debug("Kakao {} 차단 (서킷 OPEN): {}", api, query);
+            return null;
+        }
+        if (!rateLimiter.tryAcquire(mayWait)) {
+            // 호출하지 않았으므로 HALF_OPEN 시험 호출 자리를 돌려줌
+            circuitBreaker.onSkipped();
+            log.warn("⚠️ Kakao {} 호출량 제한으로 생략: {}", api, query);
+            return null;
+        }
+
+        try {
+            ResponseEntity<String> res = kakaoRestTemplate.exchange(uri, HttpMethod.GET, kakaoRequestEntity, String.class);
+            if (res.getStatusCode() != HttpStatus.OK) {
+                circuitBreaker.onFailure();
+                log.warn("⚠️ Kakao {} 응답 오류: {} (query={})", api, res.getStatusCode(), query);
+                return null;
+            }
+            circuitBreaker.onSuccess();
+
+            JSONObject json = new JSONObject(res.getBody());
+            JSONArray docs = json.optJSONArray("documents");
+            if (docs == null || docs.length() == 0) return new double[]{0.0, 0.0};
+
+            JSONObject first = docs.getJSONObject(0);
+            // Kakao returns x=lon, y=lat
+            double lat = DistanceUtil.roundToTwoDecimalPlaces(first.getDouble("y"));
+            double lon = DistanceUtil.roundToTwoDecimalPlaces(first.getDouble("x"));
+            return new double[]{lat, lon};
+        } catch (HttpClientErrorException.BadRequest e) {
+            // 쿼리 자체가 거절된 경우 — 제공자 장애가 아님
+            circuitBreaker.onSuccess();
+            log.warn("⚠️ Kakao {} 쿼리 거절 ({}): {}", api, query, e.getMessage());
+            return new double[]{0.0, 0.0};
+        } catch (Exception e) {
+            // hedge 로 진 뒤 중단된 요청은 장애로 집계하지 않음
+            if (!AbortableRequest.isCurrentAborted() && !Thread.currentThread().isInterrupted()) {
+                circuitBreaker.onFailure();
+            }
+            log.error("❌ Kakao {} 중 예외 ({}): {}", api, query, e.getMessage());
+            return null;
+        }
+    }
+}
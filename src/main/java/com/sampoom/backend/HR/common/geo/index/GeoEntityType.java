@@ -0,0 +1,7 @@
+package com.sampoom.backend.HR.common.geo.index;
+
+public enum GeoEntityType {
+    WAREHOUSE,  // 창고 (Branch)
+    FACTORY,    // 공장 (Branch)
+    VENDOR      // 거래처/대리점 (Vendor)
+}
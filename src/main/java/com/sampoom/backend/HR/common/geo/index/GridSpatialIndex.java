@@ -0,0 +1,272 @@
+package com.sampoom.backend.HR.common.geo.index;
+
+import com.sampoom.backend.HR.common.util.DistanceKernel;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 위경도 격자 기반 공간 인덱스
+ * - 좌표를 cellDegrees 크기의 격자 칸에 나눠 담고, 조회 시 주변 칸만 확인
+ * - k-최근접: 기준 칸에서 한 겹씩 넓혀 가며, 아직 안 본 칸의 최소 거리가 k번째 거리보다 멀어지면 종료
+ * - 반경: 반경을 덮는 칸 범위만 확인
+ * - 메모리는 엔티티 수에 비례 (빈 칸은 저장하지 않음)
+ * 읽기는 동시에, 쓰기는 배타적으로 수행된다.
+ */
+public class GridSpatialIndex {
+
+    private static final double KM_PER_DEGREE = 6371.0 * Math.PI / 180;
+    // 거리는 0.01km 단위로 반올림되어 있으므로 하한 비교 시 여유를 둠
+    private static final double ROUNDING_SLACK_KM = 0.01;
+
+    private static final class Entry {
+        private final long id;
+        private final double lat;
+        private final double lon;
+        private final double cosLat;
+        private final long cell;
+
+        private Entry(long id, double lat, double lon, long cell) {
+            this.id = id;
+            this.lat = lat;
+            this.lon = lon;
+            this.cosLat = Math.cos(Math.toRadians(lat));
+            this.cell = cell;
+        }
+    }
+
+    private final double cellDegrees;
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<Long, List<Entry>> cells = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 값이 들어 있는 칸 범위 (k-최근접 탐색 종료 조건)
+    private int minRow = Integer.MAX_VALUE;
+    private int maxRow = Integer.MIN_VALUE;
+    private int minCol = Integer.MAX_VALUE;
+    private int maxCol = Integer.MIN_VALUE;
+
+    public GridSpatialIndex(double cellDegrees) {
+        if (cellDegrees <= 0) {
+            throw new IllegalArgumentException("격자 크기는 0보다 커야 합니다: " + cellDegrees);
+        }
+        this.cellDegrees = cellDegrees;
+    }
+
+    public void put(long id, double lat, double lon) {
+        lock.writeLock().lock();
+        try {
+            putInternal(id, lat, lon);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 교체 (시작 시 적재 / 재구성)
+     */
+    public void replaceAll(long[] ids, double[] lat, double[] lon) {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            cells.clear();
+            minRow = minCol = Integer.MAX_VALUE;
+            maxRow = maxCol = Integer.MIN_VALUE;
+            for (int i = 0; i < ids.length; i++) {
+                putInternal(ids[i], lat[i], lon[i]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<double[]> get(long id) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(id);
+            return entry == null ? Optional.empty() : Optional.of(new double[]{entry.lat, entry.lon});
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * k-최근접 (거리 오름차순, 같은 거리면 id 오름차순)
+     * @param excludeId 결과에서 제외할 id (자기 자신 등, 없으면 null)
+     */
+    public List<Neighbor> nearest(double lat, double lon, int k, Long excludeId) {
+        if (k <= 0) return List.of();
+        double cosLat = Math.cos(Math.toRadians(lat));
+
+        lock.readLock().lock();
+        try {
+            if (entries.isEmpty()) return List.of();
+
+            // 최대 힙: 지금까지의 k개 중 가장 먼 것이 맨 위
+            PriorityQueue<Neighbor> best = new PriorityQueue<>(k + 1, BY_DISTANCE.reversed());
+            int row = row(lat);
+            int col = col(lon);
+            int maxRing = Math.max(
+                    Math.max(Math.abs(row - minRow), Math.abs(maxRow - row)),
+                    Math.max(Math.abs(col - minCol), Math.abs(maxCol - col)));
+
+            for (int ring = 0; ring <= maxRing; ring++) {
+                // 값이 있는 칸 범위 밖은 건너뜀
+                for (int r = Math.max(row - ring, minRow); r <= Math.min(row + ring, maxRow); r++) {
+                    if (r == row - ring || r == row + ring) {
+                        // 가장자리 행은 전체
+                        for (int c = Math.max(col - ring, minCol); c <= Math.min(col + ring, maxCol); c++) {
+                            scanCell(r, c, lat, lon, cosLat, k, excludeId, best);
+                        }
+                    } else {
+                        // 나머지 행은 양 끝 칸만 (안쪽은 이전 겹에서 이미 확인)
+                        scanCell(r, col - ring, lat, lon, cosLat, k, excludeId, best);
+                        scanCell(r, col + ring, lat, lon, cosLat, k, excludeId, best);
+                    }
+                }
+
+                if (best.size() == k && best.peek().getDistanceKm() + ROUNDING_SLACK_KM <= outsideLowerBoundKm(lat, lon, row, col, ring)) {
+                    break;
+                }
+            }
+
+            List<Neighbor> result = new ArrayList<>(best);
+            result.sort(BY_DISTANCE);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 반경 내 전체 (거리 오름차순)
+     */
+    public List<Neighbor> within(double lat, double lon, double radiusKm, Long excludeId) {
+        if (radiusKm < 0) return List.of();
+        double cosLat = Math.cos(Math.toRadians(lat));
+
+        // 반경을 덮는 위도/경도 범위 (경도는 고위도 쪽 cos 로 넉넉하게)
+        double latSpan = radiusKm / KM_PER_DEGREE;
+        double maxAbsLat = Math.min(89.0, Math.abs(lat) + latSpan);
+        double lonSpan = Math.min(180.0, latSpan / Math.cos(Math.toRadians(maxAbsLat)));
+
+        lock.readLock().lock();
+        try {
+            List<Neighbor> result = new ArrayList<>();
+            int fromRow = Math.max(row(lat - latSpan), minRow);
+            int toRow = Math.min(row(lat + latSpan), maxRow);
+            int fromCol = Math.max(col(lon - lonSpan), minCol);
+            int toCol = Math.min(col(lon + lonSpan), maxCol);
+
+            for (int r = fromRow; r <= toRow; r++) {
+                for (int c = fromCol; c <= toCol; c++) {
+                    List<Entry> cell = cells.get(cellKey(r, c));
+                    if (cell == null) continue;
+                    for (Entry entry : cell) {
+                        if (excludeId != null && entry.id == excludeId) continue;
+                        double distanceKm = distance(lat, lon, cosLat, entry);
+                        if (distanceKm <= radiusKm) {
+                            result.add(new Neighbor(entry.id, entry.lat, entry.lon, distanceKm));
+                        }
+                    }
+                }
+            }
+            result.sort(BY_DISTANCE);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static final Comparator<Neighbor> BY_DISTANCE =
+            Comparator.comparingDouble(Neighbor::getDistanceKm).thenComparing(Neighbor::getId);
+
+    private void scanCell(int r, int c, double lat, double lon, double cosLat,
+                          int k, Long excludeId, PriorityQueue<Neighbor> best) {
+        List<Entry> cell = cells.get(cellKey(r, c));
+        if (cell == null) return;
+
+        for (Entry entry : cell) {
+            if (excludeId != null && entry.id == excludeId) continue;
+            Neighbor candidate = new Neighbor(entry.id, entry.lat, entry.lon, distance(lat, lon, cosLat, entry));
+            if (best.size() < k) {
+                best.add(candidate);
+            } else if (BY_DISTANCE.compare(candidate, best.peek()) < 0) {
+                best.poll();
+                best.add(candidate);
+            }
+        }
+    }
+
+    /**
+     * 확인한 정사각형(ring 겹) 바깥에 있는 점까지의 최소 거리 하한(km)
+     */
+    private double outsideLowerBoundKm(double lat, double lon, int row, int col, int ring) {
+        double latGap = Math.min(lat - (row - ring) * cellDegrees, (row + ring + 1) * cellDegrees - lat);
+        double lonGap = Math.min(lon - (col - ring) * cellDegrees, (col + ring + 1) * cellDegrees - lon);
+        // 경도 1도의 길이는 고위도일수록 짧으므로 바깥 영역에서 가장 높은 위도 기준으로 계산
+        double maxAbsLat = Math.min(90.0, Math.abs(lat) + (ring + 1) * cellDegrees);
+        return Math.min(latGap * KM_PER_DEGREE, lonGap * KM_PER_DEGREE * Math.cos(Math.toRadians(maxAbsLat)));
+    }
+
+    private static double distance(double lat, double lon, double cosLat, Entry entry) {
+        return DistanceKernel.distance(lat, lon, cosLat, entry.lat, entry.lon, entry.cosLat);
+    }
+
+    private void putInternal(long id, double lat, double lon) {
+        removeInternal(id);
+
+        int row = row(lat);
+        int col = col(lon);
+        Entry entry = new Entry(id, lat, lon, cellKey(row, col));
+        entries.put(id, entry);
+        cells.computeIfAbsent(entry.cell, key -> new ArrayList<>(4)).add(entry);
+
+        minRow = Math.min(minRow, row);
+        maxRow = Math.max(maxRow, row);
+        minCol = Math.min(minCol, col);
+        maxCol = Math.max(maxCol, col);
+    }
+
+    private void removeInternal(long id) {
+        Entry previous = entries.remove(id);
+        if (previous == null) return;
+
+        List<Entry> cell = cells.get(previous.cell);
+        if (cell != null) {
+            cell.remove(previous);
+            if (cell.isEmpty()) cells.remove(previous.cell);
+        }
+    }
+
+    private int row(double lat) {
+        return (int) Math.floor(lat / cellDegrees);
+    }
+
+    private int col(double lon) {
+        return (int) Math.floor(lon / cellDegrees);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xFFFFFFFFL);
+    }
+}
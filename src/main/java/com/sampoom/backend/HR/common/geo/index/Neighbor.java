@@ -0,0 +1,17 @@
+package com.sampoom.backend.HR.common.geo.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 공간 인덱스 조회 결과
+ */
+@Getter
+@AllArgsConstructor
+public class Neighbor {
+
+    private Long id;
+    private double latitude;
+    private double longitude;
+    private double distanceKm;  // 소수점 둘째자리 반올림 (거리 테이블과 동일한 값)
+}
@@ -0,0 +1,26 @@
+package com.sampoom.backend.HR.common.geo.repository;
+
+import com.sampoom.backend.HR.common.geo.entity.GeocodeCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface GeocodeCacheRepository extends JpaRepository<GeocodeCache, String> {
+
+    // 동시에 같은 주소가 저장되어도 호출 트랜잭션이 깨지지 않도록 UPSERT 사용
+    @Modifying
+    @Query(value = """
+    INSERT INTO geocode_cache (normalized_address, latitude, longitude, created_at, updated_at)
+    VALUES (:address, :latitude, :longitude, now(), now())
+    ON CONFLICT (normalized_address)
+    DO UPDATE SET latitude = EXCLUDED.latitude,
+                  longitude = EXCLUDED.longitude,
+                  updated_at = EXCLUDED.updated_at
+    """, nativeQuery = true)
+    void upsert(
+            @Param("address") String address,
+            @Param("latitude") double latitude,
+            @Param("longitude") double longitude
+    );
+}
@@ -0,0 +1,178 @@
+package com.sampoom.backend.HR.common.geo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sampoom.backend.HR.common.geo.entity.GeocodeCache;
+import com.sampoom.backend.HR.common.geo.repository.GeocodeCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 지오코딩 결과 2단 캐시
+ * - L1: 프로세스 내 LRU/TTL 캐시 (Caffeine)
+ * - L2: geocode_cache 테이블 (재시작 후에도 유지)
+ * - 부정 캐시: 변환 불가로 확인된 주소 (프로세스 내, 짧은 TTL)
+ * 키는 GeoUtil.normalizeAddress 결과를 사용한다. (L2 컬럼 길이를 넘는 키는 앞부분 + SHA-256 으로 줄여 저장)
+ * L2 저장은 호출 트랜잭션과 분리 — 캐시 저장 실패가 지점/거래처 저장을 롤백시키지 않음
+ */
+@Slf4j
+@Service
+public class GeocodeCacheService {
+
+    // GeocodeCache.normalizedAddress 컬럼 길이
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final int HASHED_PREFIX_LENGTH = MAX_KEY_LENGTH - 65;   // "#" + SHA-256 hex 64자
+
+    private final GeocodeCacheRepository geocodeCacheRepository;
+    private final TransactionTemplate writeTransaction;
+    private final Cache<String, double[]> localCache;
+    private final Cache<String, Boolean> unresolvableCache;
+    private final Duration persistentTtl;
+
+    private final Counter persistentHits;
+    private final Counter persistentMisses;
+
+    public GeocodeCacheService(
+            GeocodeCacheRepository geocodeCacheRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${geo.cache.max-size:10000}") long maxSize,
+            @Value("${geo.cache.ttl:PT24H}") Duration localTtl,
+            @Value("${geo.cache.persistent-ttl:P180D}") Duration persistentTtl,
+            @Value("${geo.cache.negative-ttl:PT10M}") Duration negativeTtl
+    ) {
+        this.geocodeCacheRepository = geocodeCacheRepository;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.persistentTtl = persistentTtl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        this.unresolvableCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(negativeTtl)
+                .recordStats()
+                .build();
+
+        // hit / miss / eviction 수치는 cache.gets, cache.evictions 등으로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "geocode");
+        CaffeineCacheMetrics.monitor(meterRegistry, unresolvableCache, "geocode-negative");
+        this.persistentHits = Counter.builder("geocode.cache.persistent")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.persistentMisses = Counter.builder("geocode.cache.persistent")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회 (L1 → L2 순서, L2 적중 시 L1 으로 승격)
+     */
+    @Transactional(readOnly = true)
+    public Optional<double[]> get(String key) {
+        if (key == null || key.isBlank()) return Optional.empty();
+
+        double[] local = localCache.getIfPresent(key);
+        if (local != null) return Optional.of(local.clone());
+
+        Optional<GeocodeCache> persisted = geocodeCacheRepository.findById(persistentKey(key))
+                .filter(this::isFresh);
+        if (persisted.isEmpty()) {
+            persistentMisses.increment();
+            return Optional.empty();
+        }
+
+        persistentHits.increment();
+        double[] coords = {persisted.get().getLatitude(), persisted.get().getLongitude()};
+        localCache.put(key, coords);
+        return Optional.of(coords.clone());
+    }
+
+    /**
+     * 유효한 좌표만 L1, L2 에 모두 저장
+     * - L2 는 호출 트랜잭션이 있으면 커밋 후, 없으면 즉시 별도 트랜잭션으로 저장 (실패는 로그만 남김)
+     */
+    public void put(String key, double[] coords) {
+        if (key == null || key.isBlank() || coords == null || coords.length != 2) return;
+
+        double[] copy = coords.clone();
+        localCache.put(key, copy);
+        unresolvableCache.invalidate(key);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    persist(key, copy);
+                }
+            });
+        } else {
+            persist(key, copy);
+        }
+    }
+
+    private void persist(String key, double[] coords) {
+        try {
+            writeTransaction.executeWithoutResult(status ->
+                    geocodeCacheRepository.upsert(persistentKey(key), coords[0], coords[1]));
+            log.debug("[GeocodeCache] 저장: {} -> ({}, {})", key, coords[0], coords[1]);
+        } catch (Exception e) {
+            log.warn("[GeocodeCache] 영구 캐시 저장 실패 (무시): {} ({})", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 최근에 변환 불가로 확인된 주소인지 여부
+     */
+    public boolean isKnownUnresolvable(String key) {
+        if (key == null || key.isBlank()) return false;
+        return unresolvableCache.getIfPresent(key) != null;
+    }
+
+    /**
+     * 변환 불가 주소 기록 (일시 오류가 아닌, 모든 시도가 '결과 없음'인 경우에만 호출)
+     */
+    public void markUnresolvable(String key) {
+        if (key == null || key.isBlank()) return;
+        unresolvableCache.put(key, Boolean.TRUE);
+        log.debug("[GeocodeCache] 변환 불가 주소 기록: {}", key);
+    }
+
+    /**
+     * L2 키 (컬럼 길이를 넘으면 앞부분 + "#" + 전체 키의 SHA-256)
+     */
+    static String persistentKey(String key) {
+        if (key.length() <= MAX_KEY_LENGTH) return key;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return key.substring(0, HASHED_PREFIX_LENGTH) + "#" + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean isFresh(GeocodeCache entry) {
+        LocalDateTime updatedAt = entry.getUpdatedAt();
+        return updatedAt == null || updatedAt.isAfter(LocalDateTime.now().minus(persistentTtl));
+    }
+}
@@ -0,0 +1,108 @@
+package com.sampoom.backend.HR.common.geo.service;
+
+import com.sampoom.backend.HR.common.util.GeoUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * 비동기 지오코딩 파이프라인
+ * - 쓰기 트랜잭션이 커밋된 뒤 작업을 큐에 넣고, 워커가 좌표 변환 후 콜백을 호출한다.
+ * - 워커는 변환 전에 claim 으로 DB 행을 점유하고, 점유하지 못하면(다른 인스턴스 / 다른 작업이 진행 중) 건너뛴다.
+ * - 호출량 초과 / 일시 오류로 판단하지 못하면 콜백을 부르지 않음 — 행은 PENDING 으로 남고 점유 기한이 지나면 재시도
+ */
+@Slf4j
+@Component
+public class GeocodePipeline {
+
+    private final GeoUtil geoUtil;
+    private final ThreadPoolTaskExecutor executor;
+
+    private final Counter completed;
+    private final Counter deferred;
+    private final Counter skipped;
+    private final Counter failed;
+    private final Counter rejected;
+
+    public GeocodePipeline(
+            GeoUtil geoUtil,
+            @Qualifier("geocodePipelineExecutor") ThreadPoolTaskExecutor executor,
+            MeterRegistry meterRegistry
+    ) {
+        this.geoUtil = geoUtil;
+        this.executor = executor;
+
+        this.completed = Counter.builder("geocode.pipeline.tasks").tag("result", "completed").register(meterRegistry);
+        this.deferred = Counter.builder("geocode.pipeline.tasks").tag("result", "deferred").register(meterRegistry);
+        this.skipped = Counter.builder("geocode.pipeline.tasks").tag("result", "skipped").register(meterRegistry);
+        this.failed = Counter.builder("geocode.pipeline.tasks").tag("result", "failed").register(meterRegistry);
+        this.rejected = Counter.builder("geocode.pipeline.tasks").tag("result", "rejected").register(meterRegistry);
+        Gauge.builder("geocode.pipeline.queue.size", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 작업 등록 (트랜잭션이 없으면 즉시 등록)
+     */
+    public void submitAfterCommit(String key, String address, BooleanSupplier claim, Consumer<double[]> onResolved) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(key, address, claim, onResolved);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(key, address, claim, onResolved);
+            }
+        });
+    }
+
+    /**
+     * 작업 등록 — 큐가 가득 차면 false
+     * @param claim 변환 전에 DB 행을 점유 (false 면 이미 다른 곳에서 진행 중이거나 더 이상 대기 상태가 아님)
+     */
+    public boolean submit(String key, String address, BooleanSupplier claim, Consumer<double[]> onResolved) {
+        try {
+            executor.execute(() -> run(key, address, claim, onResolved));
+            return true;
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            log.warn("[GeocodePipeline] 큐 포화로 작업 거절 — PENDING 유지 후 재시도 예정: {}", key);
+            return false;
+        }
+    }
+
+    private void run(String key, String address, BooleanSupplier claim, Consumer<double[]> onResolved) {
+        try {
+            if (!claim.getAsBoolean()) {
+                skipped.increment();
+                log.debug("[GeocodePipeline] 이미 점유됐거나 변경된 작업: {}", key);
+                return;
+            }
+
+            double[] coords = geoUtil.resolveLatLng(address);
+            if (coords == null) {
+                deferred.increment();
+                log.info("[GeocodePipeline] 일시 오류로 변환 보류 — 점유 기한 후 재시도: {}", key);
+                return;
+            }
+
+            onResolved.accept(coords);
+            completed.increment();
+        } catch (Exception e) {
+            failed.increment();
+            log.error("[GeocodePipeline] 좌표 변환 작업 실패 ({}): {}", key, e.getMessage(), e);
+        }
+    }
+}
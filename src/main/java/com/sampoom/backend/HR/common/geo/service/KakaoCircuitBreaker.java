@@ -0,0 +1,111 @@
+package com.sampoom.backend.HR.common.geo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Kakao 지오코딩 호출용 서킷 브레이커
+ * - CLOSED: 연속 실패가 임계치에 도달하면 OPEN
+ * - OPEN: openDuration 동안 호출 차단 후 HALF_OPEN
+ * - HALF_OPEN: 한 번의 시험 호출만 허용, 성공 시 CLOSED / 실패 시 다시 OPEN
+ */
+@Slf4j
+@Component
+public class KakaoCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+    private long probeStartedAt;
+
+    private final Counter rejected;
+
+    public KakaoCircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${geo.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${geo.circuit.open-duration:PT30S}") Duration openDuration
+    ) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+
+        this.rejected = Counter.builder("geocode.circuit.rejected").register(meterRegistry);
+        // 0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN
+        Gauge.builder("geocode.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 가능 여부 (false 면 호출하지 않고 즉시 실패 처리)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+            log.info("[KakaoCircuitBreaker] HALF_OPEN — 시험 호출 허용");
+        }
+
+        switch (state) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                // 시험 호출 결과가 openDuration 안에 오지 않으면(취소 등) 다시 한 번 허용
+                if (!probeInFlight || System.nanoTime() - probeStartedAt >= openDurationNanos) {
+                    probeInFlight = true;
+                    probeStartedAt = System.nanoTime();
+                    return true;
+                }
+                break;
+            default:
+                break;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("[KakaoCircuitBreaker] CLOSED — Kakao 응답 정상화");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    /**
+     * 허용받았지만 호출하지 않은 경우 (호출량 제한 등) — HALF_OPEN 시험 호출 자리 반환
+     */
+    public synchronized void onSkipped() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+            probeInFlight = false;
+            log.warn("[KakaoCircuitBreaker] OPEN — 연속 실패 {}회, {}ms 동안 호출 차단",
+                    consecutiveFailures, Duration.ofNanos(openDurationNanos).toMillis());
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,117 @@
+package com.sampoom.backend.HR.common.geo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kakao API 호출량 제한용 토큰 버킷
+ * - 초당 permitsPerSecond 개 토큰이 채워지고 최대 burst 개까지 쌓인다.
+ * - 토큰이 없으면 예약 방식으로 대기 (먼저 온 호출이 먼저 나감), 대기 시간이 maxWait 를 넘으면 거절
+ * - 트랜잭션 안의 요청 스레드는 대기하지 않음 (tryAcquire(false)) — 대기는 배치 / 비동기 워커만
+ */
+@Slf4j
+@Component
+public class TokenBucketRateLimiter {
+
+    private final double permitsPerNano;
+    private final double burst;
+    private final long maxWaitNanos;
+
+    private double tokens;
+    private long lastRefill;
+
+    private final Counter acquired;
+    private final Counter rejected;
+    private final Timer waitTimer;
+
+    public TokenBucketRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${geo.rate-limit.permits-per-second:20}") double permitsPerSecond,
+            @Value("${geo.rate-limit.burst:20}") int burst,
+            @Value("${geo.rate-limit.max-wait:PT2S}") Duration maxWait
+    ) {
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = burst;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.tokens = burst;
+        this.lastRefill = System.nanoTime();
+
+        this.acquired = Counter.builder("geocode.ratelimit").tag("result", "acquired").register(meterRegistry);
+        this.rejected = Counter.builder("geocode.ratelimit").tag("result", "rejected").register(meterRegistry);
+        this.waitTimer = Timer.builder("geocode.ratelimit.wait")
+                .description("토큰 대기 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 1개 획득 (필요하면 maxWait 까지 대기)
+     * @return 획득 여부 (false 면 호출하지 않아야 함)
+     */
+    public boolean tryAcquire() {
+        return tryAcquire(true);
+    }
+
+    /**
+     * 토큰 1개 획득
+     * @param mayWait false 면 지금 남은 토큰이 없을 때 바로 거절
+     * @return 획득 여부 (false 면 호출하지 않아야 함)
+     */
+    public boolean tryAcquire(boolean mayWait) {
+        long waitNanos = reserve(mayWait ? maxWaitNanos : 0);
+        if (waitNanos < 0) {
+            rejected.increment();
+            return false;
+        }
+
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+        acquired.increment();
+        return true;
+    }
+
+    /**
+     * 지금 예약하면 기다려야 할 시간(ns) — 토큰을 쓰지 않음 (거절된 호출의 재시도 간격 계산용)
+     */
+    public synchronized long nanosUntilAvailable() {
+        refill();
+        double deficit = 1.0 - tokens;
+        return deficit <= 0 ? 0 : (long) Math.ceil(deficit / permitsPerNano);
+    }
+
+    /**
+     * 토큰 예약 — 대기해야 할 시간(ns), 허용 대기 시간을 넘으면 -1
+     */
+    private synchronized long reserve(long allowedWaitNanos) {
+        refill();
+
+        // 남은 토큰이 음수면 앞선 예약이 가져간 만큼 뒤에서 기다림
+        double deficit = 1.0 - tokens;
+        long waitNanos = deficit <= 0 ? 0 : (long) Math.ceil(deficit / permitsPerNano);
+        if (waitNanos > allowedWaitNanos) {
+            return -1;
+        }
+
+        tokens -= 1.0;
+        return waitNanos;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefill) * permitsPerNano);
+        lastRefill = now;
+    }
+}
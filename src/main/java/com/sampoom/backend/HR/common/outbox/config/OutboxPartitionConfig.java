@@ -0,0 +1,19 @@
+package com.sampoom.backend.HR.common.outbox.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OutboxPartitionConfig {
+
+    /**
+     * ddl-auto=update 가 파티션 테이블(outbox)을 기존 테이블로 인식하도록 설정
+     * - 설정이 없으면 Hibernate 가 outbox 를 없는 테이블로 보고 다시 만들려고 시도함
+     */
+    @Bean
+    public HibernatePropertiesCustomizer partitionedTableTypeCustomizer() {
+        return properties -> properties.putIfAbsent(
+                "hibernate.hbm2ddl.extra_physical_table_types", "PARTITIONED TABLE");
+    }
+}
@@ -0,0 +1,67 @@
+package com.sampoom.backend.HR.common.outbox.config;
+
+import com.sampoom.backend.HR.common.outbox.service.OutboxPartitionManager;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outbox 테이블 보조 스키마 (ddl-auto=update 가 처리하지 않는 부분)
+ * - Hibernate 가 테이블 생성 시 만든 status CHECK 제약에는 IN_FLIGHT 가 없으므로 제거
+ * - 발행 대상 / 재시도 시각 / aggregate 별 미발행 행 조회용 부분 인덱스 (PUBLISHED 행은 인덱스에서 제외)
+ * - 보존 기간 정리용 PUBLISHED 부분 인덱스, event_id 유일 인덱스 (일반 테이블만)
+ * - 파티션 사용 시 먼저 파티션 테이블로 전환 (부모 테이블에 만든 인덱스는 각 파티션에 자동 생성)
+ * - JPA 스키마 반영 이후, 스케줄러가 시작되기 전에 실행
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class OutboxSchemaInitializer {
+
+    private static final String[] STATEMENTS = {
+            "ALTER TABLE outbox DROP CONSTRAINT IF EXISTS outbox_status_check",
+            "CREATE INDEX IF NOT EXISTS idx_outbox_pending ON outbox (status, created_at)"
+                    + " WHERE status IN ('READY', 'FAILED')",
+            "CREATE INDEX IF NOT EXISTS idx_outbox_in_flight ON outbox (lease_expires_at)"
+                    + " WHERE status = 'IN_FLIGHT'",
+            "CREATE INDEX IF NOT EXISTS idx_outbox_retry_due ON outbox (next_attempt_at)"
+                    + " WHERE status = 'FAILED'",
+            // 점유 시 같은 aggregate 의 앞선 미발행 행 확인 (키별 순서 보장)
+            "CREATE INDEX IF NOT EXISTS idx_outbox_aggregate_unpublished"
+                    + " ON outbox (aggregate_type, aggregate_id, created_at, id) WHERE status <> 'PUBLISHED'",
+            // 보존 기간 정리 (OutboxRetentionService) — 오래된 PUBLISHED 행을 생성 순으로 limit 건씩 삭제
+            "CREATE INDEX IF NOT EXISTS idx_outbox_published ON outbox (created_at) WHERE status = 'PUBLISHED'",
+            // event_id 유일성 — 일반 테이블에만 (파티션 테이블은 (event_id, created_at) 유일 인덱스, 전환 시 생성)
+            // 엔티티에 unique 를 두면 ddl-auto=update 가 파티션 테이블에 매번 추가를 시도하다 실패하므로 여기서 관리
+            "DO $$ BEGIN"
+                    + " IF (SELECT relkind FROM pg_class WHERE oid = 'outbox'::regclass) = 'r'"
+                    + " AND NOT EXISTS ("
+                    + "   SELECT 1 FROM pg_index i"
+                    + "   JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = i.indkey[0]"
+                    + "   WHERE i.indrelid = 'outbox'::regclass AND i.indisunique AND i.indnatts = 1"
+                    + "     AND a.attname = 'event_id')"
+                    + " THEN CREATE UNIQUE INDEX outbox_event_id_key ON outbox (event_id);"
+                    + " END IF; END $$"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxPartitionManager outboxPartitionManager;
+
+    @PostConstruct
+    public void initialize() {
+        outboxPartitionManager.ensurePartitioned();
+
+        for (String sql : STATEMENTS) {
+            try {
+                jdbcTemplate.execute(sql);
+            } catch (Exception e) {
+                log.warn("[OutboxSchemaInitializer] 스키마 보정 실패 — 계속 진행: {} ({})", sql, e.getMessage());
+            }
+        }
+        log.info("[OutboxSchemaInitializer] Outbox 인덱스 / 제약 확인 완료");
+    }
+}
@@ -0,0 +1,42 @@
+package com.sampoom.backend.HR.common.outbox.controller;
+
+import com.sampoom.backend.HR.common.outbox.dto.OutboxParkedCountDTO;
+import com.sampoom.backend.HR.common.outbox.dto.OutboxResetResponseDTO;
+import com.sampoom.backend.HR.common.outbox.service.OutboxAdminService;
+import com.sampoom.backend.HR.common.response.ApiResponse;
+import com.sampoom.backend.HR.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/outbox")
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Outbox Admin API", description = "Outbox 이벤트 발행 관리 API")
+public class OutboxAdminController {
+
+    private final OutboxAdminService outboxAdminService;
+
+    @Operation(summary = "재시도 한계 도달 이벤트 수",
+            description = "재시도 횟수를 모두 소진해 더 이상 발행되지 않는 이벤트 수를 aggregateType / eventType 별로 조회합니다.")
+    @GetMapping("/parked")
+    public ResponseEntity<ApiResponse<List<OutboxParkedCountDTO>>> getParkedCounts() {
+        return ApiResponse.success(SuccessStatus.OK, outboxAdminService.getParkedCounts());
+    }
+
+    @Operation(summary = "재시도 한계 도달 이벤트 일괄 복구",
+            description = "재시도 횟수를 초기화하고 READY 로 되돌려 즉시 다시 발행합니다. aggregateType / eventType 을 생략하면 전체가 대상입니다.")
+    @PostMapping("/parked/reset")
+    public ResponseEntity<ApiResponse<OutboxResetResponseDTO>> resetParked(
+            @RequestParam(required = false) String aggregateType,
+            @RequestParam(required = false) String eventType
+    ) {
+        return ApiResponse.success(SuccessStatus.OK, outboxAdminService.resetParked(aggregateType, eventType));
+    }
+}
@@ -0,0 +1,15 @@
+package com.sampoom.backend.HR.common.outbox.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxParkedCountDTO {
+
+    private String aggregateType;
+    private String eventType;
+    private long count;
+}
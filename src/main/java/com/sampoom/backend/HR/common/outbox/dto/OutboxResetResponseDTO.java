@@ -0,0 +1,13 @@
+package com.sampoom.backend.HR.common.outbox.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxResetResponseDTO {
+
+    private int resetCount;     // READY 로 되돌린 이벤트 수
+}
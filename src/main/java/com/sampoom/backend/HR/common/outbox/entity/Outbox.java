@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.util.UUID;
@@ -35,9 +36,17 @@ public class Outbox extends BaseTimeEntity {
 
     private int retryCount;
 
+    private LocalDateTime nextAttemptAt;    // FAILED 재시도 가능 시각 (지수 백오프, null 이면 즉시)
+
     private LocalDateTime publishedAt;
 
-    @Column(nullable = false, updatable = false, unique = true)
+    @Column(length = 100)
+    private String leaseOwner;              // IN_FLIGHT 로 점유한 인스턴스
+
+    private LocalDateTime leaseExpiresAt;   // 점유 만료 시각 (지나면 다른 인스턴스가 다시 가져감)
+
+    // 유일 인덱스는 OutboxSchemaInitializer 가 관리 (파티션 테이블은 (event_id, created_at) 단위로만 유일)
+    @Column(nullable = false, updatable = false)
     private String eventId;         // 이벤트 고유 ID (UUID)
 
     @Column(nullable = false)
@@ -46,14 +55,11 @@ public class Outbox extends BaseTimeEntity {
     @Column(nullable = false)
     private OffsetDateTime occurredAt; // 이벤트 발생 시간 (ISO-8601)
 
-    public void markPublished() {
-        this.status = OutboxStatus.PUBLISHED;
-        this.publishedAt = LocalDateTime.now();
-    }
-
-    public void markFailed() {
-        this.status = OutboxStatus.FAILED;
-        this.retryCount += 1;
+    /**
+     * 점유가 만료되기 전에 발행을 끝낼 수 있는지 (margin: 발행 최대 소요 시간)
+     */
+    public boolean isLeaseValidFor(Duration margin) {
+        return leaseExpiresAt == null || LocalDateTime.now().plus(margin).isBefore(leaseExpiresAt);
     }
 
     @PrePersist
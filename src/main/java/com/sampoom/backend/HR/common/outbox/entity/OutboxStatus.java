@@ -2,6 +2,7 @@ package com.sampoom.backend.HR.common.outbox.entity;
 
 public enum OutboxStatus {
     READY,
+    IN_FLIGHT,  // 발행 인스턴스가 점유 중 (leaseOwner / leaseExpiresAt)
     PUBLISHED,
     FAILED
 }
\ No newline at end of file
@@ -0,0 +1,157 @@
+package com.sampoom.backend.HR.common.outbox.repository;
+
+import com.sampoom.backend.HR.common.outbox.dto.OutboxParkedCountDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outbox 점유(claim) 및 발행 결과 일괄 반영 — 여러 인스턴스가 같은 행을 중복 발행하지 않도록 DB 에서 직접 잠금
+ * - FOR UPDATE SKIP LOCKED: 다른 인스턴스가 잠근 행은 건너뛰고 다음 행을 가져옴
+ * - 점유와 IN_FLIGHT 표시를 한 문장(UPDATE ... RETURNING)으로 처리하므로 별도 트랜잭션 불필요
+ * - 결과 반영은 아직 같은 인스턴스가 점유 중인 행만 갱신 (만료 후 다른 인스턴스가 가져간 행은 건드리지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxClaimRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 발행 대상(READY, 재시도 시각이 된 재시도 한계 미만 FAILED) 을 생성 순으로 limit 건 점유
+     * - 같은 aggregate(aggregate_type, aggregate_id) 에 아직 발행되지 않은 앞선 행이 있으면 건너뜀
+     *   (앞선 행이 실패 후 재시도 대기 중이거나 다른 인스턴스가 점유 중이어도 뒤 행이 먼저 나가지 않도록 — 키별 순서 보장)
+     * - 단, 재시도 한계에 도달한(parked) 앞선 행은 기다리지 않음 — 발행할 수 없는 이벤트 하나가 그 aggregate 의
+     *   이후 이벤트를 영원히 막지 않도록. parked 행은 GET /admin/outbox/parked 로 확인하고, 복구(reset) 후에는 뒤 행보다
+     *   늦게 발행되므로 소비 측은 version 으로 오래된 이벤트를 걸러야 함
+     * - 따라서 한 번의 점유에는 aggregate 별로 가장 앞선 미발행(parked 제외) 행 하나만 포함됨
+     * @return 점유한 Outbox ID
+     */
+    public List<Long> claim(String owner, LocalDateTime now, LocalDateTime leaseExpiresAt, int maxRetryCount, int limit) {
+        String sql = "UPDATE outbox SET status = 'IN_FLIGHT', lease_owner = ?, lease_expires_at = ?"
+                + " WHERE id IN ("
+                + "   SELECT o.id FROM outbox o"
+                + "   WHERE (o.status = 'READY'"
+                + "      OR (o.status = 'FAILED' AND o.retry_count < ?"
+                + "          AND (o.next_attempt_at IS NULL OR o.next_attempt_at <= ?)))"
+                + "     AND NOT EXISTS ("
+                + "       SELECT 1 FROM outbox prev"
+                + "       WHERE prev.aggregate_type = o.aggregate_type AND prev.aggregate_id = o.aggregate_id"
+                + "         AND prev.status <> 'PUBLISHED'"
+                + "         AND (prev.status <> 'FAILED' OR prev.retry_count < ?)"
+                + "         AND (prev.created_at, prev.id) < (o.created_at, o.id)"
+                + "     )"
+                + "   ORDER BY o.created_at, o.id"
+                + "   LIMIT ?"
+                + "   FOR UPDATE SKIP LOCKED"
+                + " )"
+                + " RETURNING id";
+        return jdbcTemplate.queryForList(sql, Long.class,
+                owner, Timestamp.valueOf(leaseExpiresAt), maxRetryCount, Timestamp.valueOf(now), maxRetryCount, limit);
+    }
+
+    /**
+     * 점유 만료 행 반환 (인스턴스 종료 / 장애로 발행이 끝나지 않은 행)
+     * - 재시도 이력이 있으면 FAILED, 없으면 READY 로 되돌림
+     * @return 반환한 행 수
+     */
+    public int releaseExpiredLeases(LocalDateTime now) {
+        String sql = "UPDATE outbox"
+                + " SET status = CASE WHEN retry_count > 0 THEN 'FAILED' ELSE 'READY' END,"
+                + "     lease_owner = NULL, lease_expires_at = NULL"
+                + " WHERE status = 'IN_FLIGHT' AND lease_expires_at < ?";
+        return jdbcTemplate.update(sql, Timestamp.valueOf(now));
+    }
+
+    /**
+     * 발행 성공 일괄 반영
+     */
+    public int markPublished(List<Long> ids, String owner) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return updateOwned("status = 'PUBLISHED', published_at = ?, updated_at = ?", ids, owner, now, now);
+    }
+
+    /**
+     * 발행 실패 일괄 반영 (재시도 횟수 + 1)
+     * - 다음 재시도 시각: min(base × 2^이전 재시도 횟수, max) 에 50~100% 무작위 배율 (동시 재시도 분산)
+     * - 재시도 시각 전까지는 같은 aggregate 의 뒤 행도 점유되지 않음 (claim 의 앞선 미발행 행 확인)
+     */
+    public int markFailed(List<Long> ids, String owner, Duration baseDelay, Duration maxDelay) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return updateOwned("status = 'FAILED', retry_count = retry_count + 1, updated_at = ?,"
+                        + " next_attempt_at = ? + make_interval(secs => LEAST(?::double precision * power(2, retry_count),"
+                        + " ?::double precision) * (0.5 + random() * 0.5))",
+                ids, owner, now, now, baseDelay.toMillis() / 1000.0, maxDelay.toMillis() / 1000.0);
+    }
+
+    /**
+     * 재시도 한계 도달 — 더 이상 점유되지 않도록 FAILED 로 되돌림 (재시도 횟수 유지)
+     */
+    public int markRetryExhausted(List<Long> ids, String owner) {
+        return updateOwned("status = 'FAILED', updated_at = ?", ids, owner, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 보내지 않은 행 점유 해제 (재시도 이력이 있으면 FAILED, 없으면 READY)
+     */
+    public int release(List<Long> ids, String owner) {
+        return updateOwned("status = CASE WHEN retry_count > 0 THEN 'FAILED' ELSE 'READY' END", ids, owner);
+    }
+
+    private int updateOwned(String assignments, List<Long> ids, String owner, Object... args) {
+        if (ids.isEmpty()) return 0;
+        String sql = "UPDATE outbox SET " + assignments + ", lease_owner = NULL, lease_expires_at = NULL"
+                + " WHERE id = ANY (?) AND status = 'IN_FLIGHT' AND lease_owner = ?";
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            int index = 1;
+            for (Object arg : args) {
+                ps.setObject(index++, arg);
+            }
+            ps.setArray(index++, con.createArrayOf("bigint", ids.toArray()));
+            ps.setString(index, owner);
+            return ps;
+        });
+    }
+
+    /**
+     * 재시도 한계에 도달한(parked) 이벤트 수 — aggregateType / eventType 별
+     */
+    public List<OutboxParkedCountDTO> countParked(int maxRetryCount) {
+        String sql = "SELECT aggregate_type, event_type, COUNT(*) AS cnt FROM outbox"
+                + " WHERE status = 'FAILED' AND retry_count >= ?"
+                + " GROUP BY aggregate_type, event_type"
+                + " ORDER BY aggregate_type, event_type";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new OutboxParkedCountDTO(
+                rs.getString("aggregate_type"), rs.getString("event_type"), rs.getLong("cnt")), maxRetryCount);
+    }
+
+    /**
+     * 재시도 한계에 도달한 이벤트를 READY 로 일괄 복구 (재시도 횟수 / 재시도 시각 초기화)
+     * @param aggregateType null 이면 전체
+     * @param eventType     null 이면 전체
+     * @return 복구한 행 수
+     */
+    public int resetParked(int maxRetryCount, String aggregateType, String eventType) {
+        StringBuilder sql = new StringBuilder("UPDATE outbox SET status = 'READY', retry_count = 0,"
+                + " next_attempt_at = NULL, updated_at = ?"
+                + " WHERE status = 'FAILED' AND retry_count >= ?");
+        List<Object> args = new ArrayList<>(List.of(Timestamp.valueOf(LocalDateTime.now()), maxRetryCount));
+        if (aggregateType != null) {
+            sql.append(" AND aggregate_type = ?");
+            args.add(aggregateType);
+        }
+        if (eventType != null) {
+            sql.append(" AND event_type = ?");
+            args.add(eventType);
+        }
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
@@ -0,0 +1,236 @@
+package com.sampoom.backend.HR.common.outbox.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Outbox 파티션 DDL / 보존 정리용 JDBC 처리 (PostgreSQL 전용)
+ * - 파티션 이름은 이 클래스에서만 만들고(outbox_pYYYYMMDD), 외부 입력은 SQL 에 넣지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxPartitionRepository {
+
+    public static final String LEGACY_PARTITION = "outbox_p_legacy";
+    public static final String DEFAULT_PARTITION = "outbox_p_default";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('([^']+)'\\)");
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // 여러 인스턴스가 동시에 파티션 DDL 을 실행하지 않도록 잡는 advisory lock 키
+    private static final long DDL_LOCK_KEY = 0x6f7574626f78L;   // "outbox"
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * outbox 가 파티션 테이블인지
+     */
+    public boolean isPartitioned() {
+        List<String> kinds = jdbcTemplate.queryForList(
+                "SELECT c.relkind::text FROM pg_class c"
+                        + " WHERE c.oid = to_regclass('outbox')", String.class);
+        return !kinds.isEmpty() && "p".equals(kinds.get(0));
+    }
+
+    /**
+     * 트랜잭션 범위 advisory lock (다른 인스턴스가 잡고 있으면 대기)
+     */
+    public void lockDdl() {
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(?)::text", String.class, DDL_LOCK_KEY);
+    }
+
+    /**
+     * 트랜잭션 범위 advisory lock 시도
+     */
+    public boolean tryLockDdl() {
+        return Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, DDL_LOCK_KEY));
+    }
+
+    /**
+     * 일반 테이블 outbox 를 created_at 범위 파티션 테이블로 전환 (호출 측 트랜잭션 안에서 실행)
+     * - 기존 행은 legacy 파티션(~ firstDay) 으로 복사, 범위 밖 행은 default 파티션이 받음
+     * - 파티션 테이블은 PK 에 파티션 키가 포함돼야 하므로 (id, created_at) / (event_id, created_at) 로 변경
+     *   (event_id 단독 전역 유일성은 DB 가 보장하지 않음 — 무작위 UUID 로 충돌 가능성은 사실상 없고 소비 측은 eventId 로 중복 제거)
+     * - PostgreSQL 16 이하는 파티션 테이블에 IDENTITY 를 둘 수 없으므로 시퀀스 기본값으로 대체
+     * @return 복사한 행 수
+     */
+    public int migrateToPartitioned(LocalDate firstDay) {
+        jdbcTemplate.execute("LOCK TABLE outbox IN ACCESS EXCLUSIVE MODE");
+        // 파티션 키는 NULL 일 수 없으므로 감사 시각이 비어 있던 행은 발생 시각으로 채움
+        jdbcTemplate.update("UPDATE outbox SET created_at = COALESCE(occurred_at::timestamp, now())"
+                + " WHERE created_at IS NULL");
+        jdbcTemplate.execute("ALTER TABLE outbox RENAME TO outbox_legacy");
+
+        jdbcTemplate.execute("CREATE TABLE outbox (LIKE outbox_legacy INCLUDING DEFAULTS)"
+                + " PARTITION BY RANGE (created_at)");
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS outbox_partitioned_id_seq");
+        jdbcTemplate.execute("SELECT setval('outbox_partitioned_id_seq',"
+                + " GREATEST((SELECT COALESCE(MAX(id), 0) FROM outbox_legacy), 1))");
+        jdbcTemplate.execute("ALTER TABLE outbox ALTER COLUMN id SET DEFAULT nextval('outbox_partitioned_id_seq')");
+        jdbcTemplate.execute("ALTER SEQUENCE outbox_partitioned_id_seq OWNED BY outbox.id");
+        jdbcTemplate.execute("ALTER TABLE outbox ALTER COLUMN created_at SET NOT NULL");
+        // 기존 테이블의 제약 / 인덱스 이름(outbox_pkey 등)과 겹치지 않도록 이름을 따로 지정
+        jdbcTemplate.execute("ALTER TABLE outbox ADD CONSTRAINT outbox_part_pkey PRIMARY KEY (id, created_at)");
+        jdbcTemplate.execute("CREATE UNIQUE INDEX outbox_part_event_id_key ON outbox (event_id, created_at)");
+
+        jdbcTemplate.execute("CREATE TABLE " + LEGACY_PARTITION + " PARTITION OF outbox"
+                + " FOR VALUES FROM (MINVALUE) TO ('" + firstDay.atStartOfDay().format(BOUND_FORMAT) + "')");
+        jdbcTemplate.execute("CREATE TABLE " + DEFAULT_PARTITION + " PARTITION OF outbox DEFAULT");
+
+        int copied = jdbcTemplate.update("INSERT INTO outbox SELECT * FROM outbox_legacy");
+        jdbcTemplate.execute("DROP TABLE outbox_legacy");
+        return copied;
+    }
+
+    /**
+     * 하루 단위 파티션 생성 (이미 있으면 무시)
+     * @return 새로 만들었으면 true
+     */
+    public boolean createDailyPartition(LocalDate day) {
+        String name = partitionName(day);
+        if (exists(name)) return false;
+
+        jdbcTemplate.execute("CREATE TABLE " + name + " PARTITION OF outbox"
+                + " FOR VALUES FROM ('" + day.atStartOfDay().format(BOUND_FORMAT) + "')"
+                + " TO ('" + day.plusDays(1).atStartOfDay().format(BOUND_FORMAT) + "')");
+        return true;
+    }
+
+    /**
+     * 범위가 정해진 파티션 목록 (default 파티션 제외)
+     */
+    public List<PartitionInfo> findRangePartitions() {
+        return jdbcTemplate.query(
+                "SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) AS bound"
+                        + " FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid"
+                        + " WHERE i.inhparent = 'outbox'::regclass"
+                        + " ORDER BY c.relname",
+                (rs, rowNum) -> new PartitionInfo(rs.getString("relname"), upperBound(rs.getString("bound"))))
+                .stream()
+                .filter(partition -> partition.getUpperBound() != null)
+                .toList();
+    }
+
+    /**
+     * 파티션에 PUBLISHED 가 아닌 행이 남아 있는지
+     */
+    public boolean hasUnpublishedRows(String partition) {
+        // 발행 대상 / 점유 부분 인덱스를 타도록 상태를 나열 (재시도 한계에 걸린 FAILED 도 포함 — 운영자 복구 전까지 보존)
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + partition + " WHERE status IN ('READY', 'FAILED', 'IN_FLIGHT'))",
+                Boolean.class));
+    }
+
+    /**
+     * 이 트랜잭션의 잠금 대기 상한 (DETACH 가 발행 폴러를 오래 막지 않도록)
+     */
+    public void setLocalLockTimeout(long millis) {
+        jdbcTemplate.execute("SET LOCAL lock_timeout = " + Math.max(1, millis));
+    }
+
+    public long countRows(String partition) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + partition, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 파티션 전체를 CSV 로 출력 (COPY TO STDOUT)
+     * @return 출력한 행 수
+     */
+    public long copyPartitionOut(String partition, OutputStream out) {
+        return copyOut("COPY " + partition + " TO STDOUT WITH (FORMAT csv, HEADER)", out);
+    }
+
+    public void detachPartition(String partition) {
+        jdbcTemplate.execute("ALTER TABLE outbox DETACH PARTITION " + partition);
+    }
+
+    public void dropTable(String partition) {
+        jdbcTemplate.execute("DROP TABLE " + partition);
+    }
+
+    /**
+     * 기준 시각 이전의 PUBLISHED 행 limit 건 삭제 (파티션을 쓰지 않을 때는 outbox, 쓸 때는 default 파티션)
+     * - idx_outbox_published(created_at) WHERE status = 'PUBLISHED' 를 순서대로 읽어 limit 건에서 멈춤
+     * @return 삭제한 행 수
+     */
+    public int deletePublishedBefore(String table, LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update("DELETE FROM " + table + " WHERE id IN ("
+                        + " SELECT id FROM " + table + " WHERE status = 'PUBLISHED' AND created_at < ?"
+                        + " ORDER BY created_at LIMIT ?"
+                        + ")",
+                Timestamp.valueOf(cutoff), limit);
+    }
+
+    /**
+     * 기준 시각 이전의 PUBLISHED 행 limit 건 삭제하면서 CSV 로 출력 (호출 측 트랜잭션 안에서 실행)
+     * @return 삭제한 행 수
+     */
+    public long deletePublishedBeforeAndCopyOut(String table, LocalDateTime cutoff, int limit, OutputStream out) {
+        // COPY 는 바인드 변수를 받지 않으므로 직접 만든 값(시각 / 정수)만 넣음
+        String sql = "COPY (DELETE FROM " + table + " WHERE id IN ("
+                + " SELECT id FROM " + table + " WHERE status = 'PUBLISHED'"
+                + " AND created_at < '" + cutoff.format(BOUND_FORMAT) + "'"
+                + " ORDER BY created_at LIMIT " + limit
+                + ") RETURNING *) TO STDOUT WITH (FORMAT csv, HEADER)";
+        return copyOut(sql, out);
+    }
+
+    // ---------------- helper ----------------
+
+    public static String partitionName(LocalDate day) {
+        return "outbox_p" + day.format(PARTITION_SUFFIX);
+    }
+
+    private boolean exists(String table) {
+        return Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table));
+    }
+
+    private long copyOut(String sql, OutputStream out) {
+        Long rows = jdbcTemplate.execute((Connection con) -> {
+            try {
+                return con.unwrap(PGConnection.class).getCopyAPI().copyOut(sql, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return rows == null ? 0 : rows;
+    }
+
+    private static LocalDateTime upperBound(String bound) {
+        if (bound == null) return null;
+        Matcher matcher = UPPER_BOUND.matcher(bound);
+        if (!matcher.find()) return null;
+        String value = matcher.group(1);
+        return LocalDateTime.parse(value.length() > 19 ? value.substring(0, 19) : value, BOUND_FORMAT);
+    }
+
+    /**
+     * 범위 파티션 (상한은 미포함)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PartitionInfo {
+        private String name;
+        private LocalDateTime upperBound;
+    }
+}
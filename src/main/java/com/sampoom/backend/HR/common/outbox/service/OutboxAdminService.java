@@ -0,0 +1,48 @@
+package com.sampoom.backend.HR.common.outbox.service;
+
+import com.sampoom.backend.HR.common.outbox.dto.OutboxParkedCountDTO;
+import com.sampoom.backend.HR.common.outbox.dto.OutboxResetResponseDTO;
+import com.sampoom.backend.HR.common.outbox.repository.OutboxClaimRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 재시도 한계에 도달한(parked) Outbox 이벤트 조회 / 일괄 복구
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxAdminService {
+
+    private final OutboxClaimRepository outboxClaimRepository;
+    private final OutboxService outboxService;
+
+    @Transactional(readOnly = true)
+    public List<OutboxParkedCountDTO> getParkedCounts() {
+        return outboxClaimRepository.countParked(OutboxEventProcessor.MAX_RETRY_COUNT);
+    }
+
+    /**
+     * parked 이벤트를 READY 로 되돌리고 발행 폴러를 깨움
+     */
+    @Transactional
+    public OutboxResetResponseDTO resetParked(String aggregateType, String eventType) {
+        int reset = outboxClaimRepository.resetParked(
+                OutboxEventProcessor.MAX_RETRY_COUNT, blankToNull(aggregateType), blankToNull(eventType));
+        if (reset > 0) {
+            outboxService.requestPublish();
+        }
+
+        log.info("[OutboxAdminService] parked 이벤트 {}건 복구 (aggregateType={}, eventType={})",
+                reset, aggregateType, eventType);
+        return new OutboxResetResponseDTO(reset);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -4,164 +4,313 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sampoom.backend.HR.api.branch.event.dto.BranchEvent;
 import com.sampoom.backend.HR.api.distance.event.dto.BranchAgencyDistanceEvent;
 import com.sampoom.backend.HR.api.distance.event.dto.BranchFactoryDistanceEvent;
+import com.sampoom.backend.HR.api.distance.event.dto.DistanceBatchEvent;
 import com.sampoom.backend.HR.api.vendor.event.dto.VendorEvent;
 import com.sampoom.backend.HR.common.outbox.entity.Outbox;
-import com.sampoom.backend.HR.common.outbox.repository.OutboxRepository;
-import lombok.RequiredArgsConstructor;
+import com.sampoom.backend.HR.common.outbox.repository.OutboxClaimRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
 
+/**
+ * 점유한 Outbox 배치를 Kafka 로 파이프라인 발행
+ * - 생성 순으로 비동기 전송하고 동시에 대기 중인 전송 수는 max-in-flight 로 제한
+ * - 같은 키(aggregateId)는 같은 파티션으로 가고, 멱등 프로듀서가 전송 순서를 유지 (KafkaProducerConfig)
+ * - 배치 사이의 키별 순서는 점유 단계에서 보장 (OutboxClaimRepository.claim — 앞선 미발행 행이 있는 aggregate 는 점유하지 않음, 재시도 한계에 도달한 행은 예외)
+ * - 배치 안에서 실패가 확인된 aggregate 의 뒤 이벤트는 보내지 않고 보류 (이미 보낸 뒤 실패하면 version 으로 소비 측이 판별)
+ * - 결과는 성공 / 실패 / 보류별로 한 번의 UPDATE 로 반영
+ * - 실패한 이벤트는 지수 백오프(outbox.retry.base-delay ~ max-delay, 무작위 분산) 후 재시도
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class OutboxEventProcessor {
 
     // Kafka 토픽 이름 정의
     private static final String TOPIC_BRANCH = "branch-events";
-    private static final String TOPIC_BRANCH_DISTANCE = "branch-distance-events";
+    public static final String TOPIC_BRANCH_DISTANCE = "branch-distance-events";
     private static final String TOPIC_VENDOR = "vendor-events";
     private static final String TOPIC_BRANCH_FACTORY = "factory-branch-events";
+    public static final String TOPIC_BRANCH_FACTORY_DISTANCE = "branch-factory-distance-events";
 
-    private final OutboxRepository outboxRepository;
+    // 최대 재시도 횟수
+    public static final int MAX_RETRY_COUNT = 10;
+
+    private final OutboxClaimRepository outboxClaimRepository;
     private final KafkaTemplate<String, Object> kafkaTemplate;
     private final ObjectMapper objectMapper;
+    private final int maxInFlight;
+    private final Duration sendTimeout;
+    private final Duration retryBaseDelay;
+    private final Duration retryMaxDelay;
+
+    private final Counter published;
+    private final Counter failed;
+    private final Counter deferred;
+    private final Timer batchTimer;
+
+    public OutboxEventProcessor(
+            OutboxClaimRepository outboxClaimRepository,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.publish.max-in-flight:500}") int maxInFlight,
+            @Value("${outbox.publish.send-timeout:PT30S}") Duration sendTimeout,
+            @Value("${outbox.retry.base-delay:PT5S}") Duration retryBaseDelay,
+            @Value("${outbox.retry.max-delay:PT10M}") Duration retryMaxDelay
+    ) {
+        this.outboxClaimRepository = outboxClaimRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.sendTimeout = sendTimeout;
+        this.retryBaseDelay = retryBaseDelay;
+        this.retryMaxDelay = retryMaxDelay;
+
+        this.published = Counter.builder("outbox.publish").tag("result", "published").register(meterRegistry);
+        this.failed = Counter.builder("outbox.publish").tag("result", "failed").register(meterRegistry);
+        this.deferred = Counter.builder("outbox.publish").tag("result", "deferred").register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.publish.batch").register(meterRegistry);
+    }
 
     /**
-     * 개별 Outbox 이벤트 발행
+     * 점유한 Outbox 배치 발행 (생성 순으로 정렬된 목록)
+     * @param owner 점유 인스턴스 — 점유가 넘어간 행은 상태를 덮어쓰지 않음
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void processAndPublishEvent(Outbox outbox) {
-        String topicName;
-        Object eventToSend; // Kafka로 보낼 최종 이벤트 DTO
-        String eventKey = outbox.getAggregateId().toString();
+    public void publishBatch(List<Outbox> events, String owner) {
+        long start = System.nanoTime();
+
+        List<Long> exhaustedIds = new ArrayList<>();
+        List<Long> deferredIds = new ArrayList<>();
+        Queue<Long> publishedIds = new ConcurrentLinkedQueue<>();
+        Queue<Long> failedIds = new ConcurrentLinkedQueue<>();
+        Set<String> failedKeys = ConcurrentHashMap.newKeySet();
+        Map<Long, CompletableFuture<?>> pending = new LinkedHashMap<>();
+        Semaphore window = new Semaphore(maxInFlight);
+
+        try {
+            for (Outbox outbox : events) {
+                String eventKey = outbox.getAggregateId().toString();
+                String orderingKey = outbox.getAggregateType() + ":" + eventKey;
+
+                // 최대 재시도 횟수 체크
+                if (outbox.getRetryCount() >= MAX_RETRY_COUNT) {
+                    log.warn("[OutboxEvent] 최대 재시도 횟수 초과로 발행 중단: eventId={}, retryCount={}",
+                            outbox.getEventId(), outbox.getRetryCount());
+                    exhaustedIds.add(outbox.getId());
+                    continue;
+                }
+
+                // 발행 도중 점유가 만료되면 다른 인스턴스가 다시 가져가 중복 발행될 수 있으므로 보류
+                // 같은 키의 앞선 이벤트가 실패했으면 순서를 지키기 위해 보류
+                if (!outbox.isLeaseValidFor(sendTimeout) || failedKeys.contains(orderingKey)) {
+                    deferredIds.add(outbox.getId());
+                    continue;
+                }
 
-        // 최대 재시도 횟수 체크
-        if (outbox.getRetryCount() >= 10) {
-            log.warn("[OutboxEvent] 최대 재시도 횟수 초과로 발행 중단: eventId={}, retryCount={}",
-                    outbox.getEventId(), outbox.getRetryCount());
-            return;
+                Message message;
+                try {
+                    message = toMessage(outbox);
+                } catch (Exception e) {
+                    log.warn("[OutboxEvent] 이벤트 변환 실패: eventId={}, reason={}", outbox.getEventId(), e.getMessage());
+                    failedKeys.add(orderingKey);
+                    failedIds.add(outbox.getId());
+                    continue;
+                }
+
+                window.acquire();
+                try {
+                    CompletableFuture<?> future = kafkaTemplate.send(message.topic, eventKey, message.event)
+                            .whenComplete((result, error) -> {
+                                window.release();
+                                if (error == null) {
+                                    publishedIds.add(outbox.getId());
+                                } else {
+                                    failedKeys.add(orderingKey);
+                                    failedIds.add(outbox.getId());
+                                    log.warn("[OutboxEvent] 발행 실패 (재시도 예정): eventId={}, retryCount={}, reason={}",
+                                            outbox.getEventId(), outbox.getRetryCount(), error.getMessage());
+                                }
+                            });
+                    pending.put(outbox.getId(), future);
+                } catch (RuntimeException e) {
+                    window.release();
+                    failedKeys.add(orderingKey);
+                    failedIds.add(outbox.getId());
+                    log.warn("[OutboxEvent] 발행 요청 실패: eventId={}, reason={}", outbox.getEventId(), e.getMessage());
+                }
+            }
+
+            awaitAll(pending.values());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[OutboxEvent] 발행 대기 중 인터럽트 — 결과가 확인된 이벤트만 반영");
         }
 
+        // 제한시간 안에 결과를 받지 못한 이벤트는 점유 상태로 남겨 만료 후 재발행 (성공했을 수 있으므로 실패로 세지 않음)
+        List<Long> publishedList = new ArrayList<>(publishedIds);
+        List<Long> failedList = new ArrayList<>(failedIds);
+        outboxClaimRepository.markPublished(publishedList, owner);
+        outboxClaimRepository.markFailed(failedList, owner, retryBaseDelay, retryMaxDelay);
+        outboxClaimRepository.markRetryExhausted(exhaustedIds, owner);
+        outboxClaimRepository.release(deferredIds, owner);
+
+        published.increment(publishedList.size());
+        failed.increment(failedList.size() + exhaustedIds.size());
+        deferred.increment(deferredIds.size());
+        long elapsedNanos = System.nanoTime() - start;
+        batchTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        log.info("[OutboxEvent] Kafka 배치 발행: 성공 {} / 실패 {} / 보류 {} / 재시도 한계 {} ({} ms)",
+                publishedList.size(), failedList.size(), deferredIds.size(), exhaustedIds.size(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    private void awaitAll(Collection<CompletableFuture<?>> futures) throws InterruptedException {
         try {
-            // AggregateType에 따라 DTO 역질렬화 및 토픽/이벤트 구성
-            switch (outbox.getAggregateType()) {
-                case "BRANCH":
-                case "FACTORY":
-                    BranchEvent.Payload branchPayload =
-                            objectMapper.readValue(outbox.getPayload(), BranchEvent.Payload.class);
-                    eventToSend = BranchEvent.builder()
-                            .eventId(outbox.getEventId())
-                            .eventType(outbox.getEventType())
-                            .version(outbox.getVersion())
-                            .occurredAt(outbox.getOccurredAt().toString())
-                            .payload(branchPayload)
-                            .build();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // 개별 실패는 whenComplete 에서 처리
+        } catch (TimeoutException e) {
+            long unfinished = futures.stream().filter(future -> !future.isDone()).count();
+            log.warn("[OutboxEvent] 발행 결과 대기 시간 초과: {}건 미확인", unfinished);
+        }
+    }
+
+    /**
+     * AggregateType 에 따라 토픽과 Kafka 로 보낼 최종 이벤트 DTO 구성
+     */
+    private Message toMessage(Outbox outbox) throws Exception {
+        String topicName;
+        Object eventToSend; // Kafka로 보낼 최종 이벤트 DTO
+
+        // AggregateType에 따라 DTO 역질렬화 및 토픽/이벤트 구성
+        switch (outbox.getAggregateType()) {
+            case "BRANCH":
+            case "FACTORY":
+                BranchEvent.Payload branchPayload =
+                        objectMapper.readValue(outbox.getPayload(), BranchEvent.Payload.class);
+                eventToSend = BranchEvent.builder()
+                        .eventId(outbox.getEventId())
+                        .eventType(outbox.getEventType())
+                        .version(outbox.getVersion())
+                        .occurredAt(outbox.getOccurredAt().toString())
+                        .payload(branchPayload)
+                        .build();
+
+                // FACTORY면 factory-events로 보냄, 아니면 branch-events로
+                topicName = outbox.getAggregateType().equals("FACTORY")
+                        ? TOPIC_BRANCH_FACTORY : TOPIC_BRANCH;
+                break;
 
-                    // FACTORY면 factory-events로 보냄, 아니면 branch-events로
-                    topicName = outbox.getAggregateType().equals("FACTORY")
-                            ? TOPIC_BRANCH_FACTORY : TOPIC_BRANCH;
-                    break;
+            // 창고-공장 거리 이벤트
+            case "BRANCH_FACTORY_DISTANCE":
+                BranchFactoryDistanceEvent.Payload factoryDistancePayload =
+                        objectMapper.readValue(outbox.getPayload(), BranchFactoryDistanceEvent.Payload.class);
+                eventToSend = BranchFactoryDistanceEvent.builder()
+                        .eventId(outbox.getEventId())
+                        .eventType(outbox.getEventType())
+                        .version(outbox.getVersion())
+                        .occurredAt(outbox.getOccurredAt().toString())
+                        .payload(factoryDistancePayload)
+                        .build();
+                topicName = TOPIC_BRANCH_FACTORY_DISTANCE;
+                break;
 
-                // 창고-공장 거리 이벤트
-                case "BRANCH_FACTORY_DISTANCE":
-                    BranchFactoryDistanceEvent.Payload factoryDistancePayload =
+            // 창고-대리점 거리 이벤트
+            case "BRANCH_AGENCY_DISTANCE":
+                BranchAgencyDistanceEvent.Payload agencyDistancePayload =
+                        objectMapper.readValue(outbox.getPayload(), BranchAgencyDistanceEvent.Payload.class);
+                eventToSend = BranchAgencyDistanceEvent.builder()
+                        .eventId(outbox.getEventId())
+                        .eventType(outbox.getEventType())
+                        .version(outbox.getVersion())
+                        .occurredAt(outbox.getOccurredAt().toString())
+                        .payload(agencyDistancePayload)
+                        .build();
+                topicName = TOPIC_BRANCH_DISTANCE;
+                break;
+
+            // 거리 변경분 묶음 이벤트 (outbox.batch-topics 로 켠 토픽)
+            case "BRANCH_AGENCY_DISTANCE_BATCH":
+            case "BRANCH_FACTORY_DISTANCE_BATCH":
+                DistanceBatchEvent.Payload batchPayload =
+                        objectMapper.readValue(outbox.getPayload(), DistanceBatchEvent.Payload.class);
+                eventToSend = DistanceBatchEvent.builder()
+                        .eventId(outbox.getEventId())
+                        .eventType(outbox.getEventType())
+                        .version(outbox.getVersion())
+                        .occurredAt(outbox.getOccurredAt().toString())
+                        .payload(batchPayload)
+                        .build();
+                topicName = outbox.getAggregateType().equals("BRANCH_AGENCY_DISTANCE_BATCH")
+                        ? TOPIC_BRANCH_DISTANCE : TOPIC_BRANCH_FACTORY_DISTANCE;
+                break;
+
+            // 기존 DISTANCE 타입 (하위 호환성)
+            case "DISTANCE":
+                // BranchAgencyDistanceEvent와 BranchFactoryDistanceEvent 구분
+                if (outbox.getEventType().equals("BranchFactoryDistanceCalculated")) {
+                    BranchFactoryDistanceEvent.Payload legacyFactoryDistancePayload =
                             objectMapper.readValue(outbox.getPayload(), BranchFactoryDistanceEvent.Payload.class);
                     eventToSend = BranchFactoryDistanceEvent.builder()
                             .eventId(outbox.getEventId())
                             .eventType(outbox.getEventType())
                             .version(outbox.getVersion())
                             .occurredAt(outbox.getOccurredAt().toString())
-                            .payload(factoryDistancePayload)
+                            .payload(legacyFactoryDistancePayload)
                             .build();
-                    topicName = "branch-factory-distance-events";
-                    break;
-
-                // 창고-대리점 거리 이벤트
-                case "BRANCH_AGENCY_DISTANCE":
-                    BranchAgencyDistanceEvent.Payload agencyDistancePayload =
+                    topicName = TOPIC_BRANCH_FACTORY_DISTANCE;
+                } else {
+                    // 기존 BranchAgencyDistanceEvent 처리
+                    BranchAgencyDistanceEvent.Payload legacyDistancePayload =
                             objectMapper.readValue(outbox.getPayload(), BranchAgencyDistanceEvent.Payload.class);
                     eventToSend = BranchAgencyDistanceEvent.builder()
                             .eventId(outbox.getEventId())
                             .eventType(outbox.getEventType())
                             .version(outbox.getVersion())
                             .occurredAt(outbox.getOccurredAt().toString())
-                            .payload(agencyDistancePayload)
+                            .payload(legacyDistancePayload)
                             .build();
                     topicName = TOPIC_BRANCH_DISTANCE;
-                    break;
-
-                // 기존 DISTANCE 타입 (하위 호환성)
-                case "DISTANCE":
-                    // BranchAgencyDistanceEvent와 BranchFactoryDistanceEvent 구분
-                    if (outbox.getEventType().equals("BranchFactoryDistanceCalculated")) {
-                        BranchFactoryDistanceEvent.Payload legacyFactoryDistancePayload =
-                                objectMapper.readValue(outbox.getPayload(), BranchFactoryDistanceEvent.Payload.class);
-                        eventToSend = BranchFactoryDistanceEvent.builder()
-                                .eventId(outbox.getEventId())
-                                .eventType(outbox.getEventType())
-                                .version(outbox.getVersion())
-                                .occurredAt(outbox.getOccurredAt().toString())
-                                .payload(legacyFactoryDistancePayload)
-                                .build();
-                        topicName = "branch-factory-distance-events";
-                    } else {
-                        // 기존 BranchAgencyDistanceEvent 처리
-                        BranchAgencyDistanceEvent.Payload legacyDistancePayload =
-                                objectMapper.readValue(outbox.getPayload(), BranchAgencyDistanceEvent.Payload.class);
-                        eventToSend = BranchAgencyDistanceEvent.builder()
-                                .eventId(outbox.getEventId())
-                                .eventType(outbox.getEventType())
-                                .version(outbox.getVersion())
-                                .occurredAt(outbox.getOccurredAt().toString())
-                                .payload(legacyDistancePayload)
-                                .build();
-                        topicName = TOPIC_BRANCH_DISTANCE;
-                    }
-                    break;
-
-                case "VENDOR":
-                    VendorEvent.Payload vendorPayload =
-                            objectMapper.readValue(outbox.getPayload(), VendorEvent.Payload.class);
-                    eventToSend = VendorEvent.builder()
-                            .eventId(outbox.getEventId())
-                            .eventType(outbox.getEventType())
-                            .version(outbox.getVersion())
-                            .occurredAt(outbox.getOccurredAt().toString())
-                            .payload(vendorPayload)
-                            .build();
-                    topicName = TOPIC_VENDOR;
-                    break;
+                }
+                break;
 
-                default:
-                    throw new IllegalStateException("알 수 없는 AggregateType: " + outbox.getAggregateType());
-            }
+            case "VENDOR":
+                VendorEvent.Payload vendorPayload =
+                        objectMapper.readValue(outbox.getPayload(), VendorEvent.Payload.class);
+                eventToSend = VendorEvent.builder()
+                        .eventId(outbox.getEventId())
+                        .eventType(outbox.getEventType())
+                        .version(outbox.getVersion())
+                        .occurredAt(outbox.getOccurredAt().toString())
+                        .payload(vendorPayload)
+                        .build();
+                topicName = TOPIC_VENDOR;
+                break;
 
-            // Kafka 발행 (동기식 처리)
-            kafkaTemplate.send(topicName, eventKey, eventToSend).get(30, TimeUnit.SECONDS);
-
-            // 발행 성공 시 처리 (같은 트랜잭션)
-            outbox.markPublished();
-            outboxRepository.save(outbox);
-            log.info("[OutboxEvent] Kafka 발행 성공: {} ({})", outbox.getEventType(), outbox.getEventId());
-
-        } catch (Exception e) {
-            // Kafka 발행 실패 또는 DB 업데이트 실패 시
-            outbox.markFailed();
-            outboxRepository.save(outbox);
-
-            // 재시도 횟수에 따른 로그 레벨 조정
-            if (outbox.getRetryCount() >= 10) {
-                log.error("[OutboxEvent] 최종 발행 실패 (재시도 한계 도달): eventId={}, retryCount={}, reason={}",
-                        outbox.getEventId(), outbox.getRetryCount(), e.getMessage());
-            } else {
-                log.warn("[OutboxEvent] 발행 실패 (재시도 예정): eventId={}, retryCount={}, reason={}",
-                        outbox.getEventId(), outbox.getRetryCount(), e.getMessage());
-            }
+            default:
+                throw new IllegalStateException("알 수 없는 AggregateType: " + outbox.getAggregateType());
+        }
+
+        return new Message(topicName, eventToSend);
+    }
+
+    private static final class Message {
+        private final String topic;
+        private final Object event;
+
+        private Message(String topic, Object event) {
+            this.topic = topic;
+            this.event = event;
         }
     }
 }
@@ -0,0 +1,175 @@
+package com.sampoom.backend.HR.common.outbox.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Outbox 저장 알림(LISTEN/NOTIFY) 수신 — 알림을 받으면 즉시 OutboxPublisher 를 깨움
+ * - 커넥션 풀과 별도의 전용 커넥션을 데몬 스레드에서 계속 유지
+ * - 연결이 끊기면 재연결하고, 끊긴 동안의 이벤트는 재연결 직후 한 번 발행 + 폴링(안전망)으로 처리
+ * - 알림은 OutboxService 가 트랜잭션마다 한 번 보내며, 커밋될 때만 전달됨
+ */
+@Slf4j
+@Component
+public class OutboxNotificationListener {
+
+    public static final String CHANNEL = "outbox_ready";
+
+    private static final Duration MAX_RECONNECT_DELAY = Duration.ofSeconds(30);
+
+    private final DataSourceProperties dataSourceProperties;
+    private final OutboxPublisher outboxPublisher;
+    private final boolean enabled;
+    private final int pollTimeoutMs;
+
+    private final Counter notifications;
+    private volatile boolean listening;
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread thread;
+
+    public OutboxNotificationListener(
+            DataSourceProperties dataSourceProperties,
+            OutboxPublisher outboxPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.notify.enabled:true}") boolean enabled,
+            @Value("${outbox.notify.poll-timeout-ms:10000}") int pollTimeoutMs
+    ) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.outboxPublisher = outboxPublisher;
+        this.enabled = enabled;
+        this.pollTimeoutMs = pollTimeoutMs;
+
+        this.notifications = Counter.builder("outbox.notify.received").register(meterRegistry);
+        Gauge.builder("outbox.notify.listening", this, listener -> listener.listening ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("[OutboxNotificationListener] 비활성 — 폴링만 사용");
+            return;
+        }
+
+        running = true;
+        thread = new Thread(this::run, "outbox-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (thread != null) thread.interrupt();
+        closeQuietly();
+    }
+
+    private void run() {
+        long delayMs = 1000;
+        while (running) {
+            try {
+                listen();
+                delayMs = 1000;
+            } catch (SQLException e) {
+                if (!running) return;
+                log.warn("[OutboxNotificationListener] 수신 연결 오류 — {} ms 후 재연결: {}", delayMs, e.getMessage());
+            } catch (RuntimeException e) {
+                // 드라이버 등의 예상치 못한 오류로 수신 스레드가 종료되지 않도록 재연결
+                if (!running) return;
+                log.error("[OutboxNotificationListener] 수신 중 예외 — {} ms 후 재연결: {}", delayMs, e.getMessage(), e);
+            } finally {
+                listening = false;
+                outboxPublisher.setNotificationsActive(false);
+                closeQuietly();
+            }
+
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException e) {
+                return;
+            }
+            delayMs = Math.min(delayMs * 2, MAX_RECONNECT_DELAY.toMillis());
+        }
+    }
+
+    /**
+     * 연결 후 알림이 올 때마다 발행 (연결이 끊기면 SQLException)
+     */
+    private void listen() throws SQLException {
+        connection = DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+        listening = true;
+        outboxPublisher.setNotificationsActive(true);
+        log.info("[OutboxNotificationListener] '{}' 채널 수신 시작", CHANNEL);
+
+        // 연결되지 않은 동안 쌓인 이벤트 처리
+        drainBacklog();
+
+        while (running) {
+            // 알림이 없으면 timeout 후 빈 배열 — 서버가 끊었으면 SQLException
+            PGNotification[] received = pgConnection.getNotifications(pollTimeoutMs);
+            if (received != null && received.length > 0) {
+                notifications.increment(received.length);
+                drainBacklog();
+            } else {
+                // 조용히 끊긴 연결 감지
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+            }
+        }
+    }
+
+    /**
+     * 남은 이벤트가 없을 때까지 발행 (이 스레드는 수신 전용이라 길게 점유해도 됨 — 그동안 온 알림은 합쳐짐)
+     * - 발행 오류(DB / Kafka)는 수신 연결 문제가 아니므로 여기서 처리하고 수신은 계속
+     * - 실패한 동안에는 알림 수신을 비활성으로 표시해 폴러가 interval-ms 주기로 다시 시도하게 함
+     */
+    private void drainBacklog() {
+        try {
+            while (running && outboxPublisher.wakeUp()) {
+                // 다음 배치
+            }
+            outboxPublisher.setNotificationsActive(true);
+        } catch (RuntimeException e) {
+            outboxPublisher.setNotificationsActive(false);
+            log.error("[OutboxNotificationListener] 알림 후 발행 실패 — 폴링으로 재시도: {}", e.getMessage(), e);
+        }
+    }
+
+    private void closeQuietly() {
+        Connection current = connection;
+        connection = null;
+        if (current == null) return;
+        try {
+            current.close();
+        } catch (SQLException e) {
+            log.debug("[OutboxNotificationListener] 연결 종료 실패: {}", e.getMessage());
+        }
+    }
+}
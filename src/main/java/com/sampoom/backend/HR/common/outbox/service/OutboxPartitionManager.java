@@ -0,0 +1,96 @@
+package com.sampoom.backend.HR.common.outbox.service;
+
+import com.sampoom.backend.HR.common.outbox.repository.OutboxPartitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * Outbox 일 단위 파티션 관리 (outbox.partitioning.enabled=true 일 때만 동작)
+ * - 시작 시 일반 테이블이면 created_at 범위 파티션 테이블로 한 번 전환 (기존 행은 legacy 파티션으로 이동)
+ * - premake-days 만큼 앞날 파티션을 미리 만들어 default 파티션에 행이 쌓이지 않도록 유지
+ * - 오래된 파티션 정리는 OutboxRetentionService 가 담당
+ */
+@Slf4j
+@Component
+public class OutboxPartitionManager {
+
+    private final OutboxPartitionRepository outboxPartitionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int premakeDays;
+
+    public OutboxPartitionManager(
+            OutboxPartitionRepository outboxPartitionRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${outbox.partitioning.enabled:false}") boolean enabled,
+            @Value("${outbox.partitioning.premake-days:7}") int premakeDays
+    ) {
+        this.outboxPartitionRepository = outboxPartitionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.premakeDays = Math.max(1, premakeDays);
+    }
+
+    /**
+     * 파티션 테이블로 전환 + 앞날 파티션 생성 (OutboxSchemaInitializer 가 인덱스 보정 전에 호출)
+     * - 전환은 한 트랜잭션으로 실행되므로 실패하면 기존 테이블 그대로 남음
+     */
+    public void ensurePartitioned() {
+        if (!enabled) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                outboxPartitionRepository.lockDdl();
+                if (outboxPartitionRepository.isPartitioned()) return;
+
+                // 오늘 행까지 legacy 파티션에 담고, 내일부터 일 단위 파티션 사용
+                long start = System.nanoTime();
+                int copied = outboxPartitionRepository.migrateToPartitioned(LocalDate.now().plusDays(1));
+                log.info("[OutboxPartitionManager] outbox 를 파티션 테이블로 전환: {}행 이동, {}ms",
+                        copied, (System.nanoTime() - start) / 1_000_000);
+            });
+        } catch (Exception e) {
+            log.error("[OutboxPartitionManager] 파티션 테이블 전환 실패 — 일반 테이블로 계속 진행: {}", e.getMessage(), e);
+            return;
+        }
+
+        premakePartitions();
+    }
+
+    /**
+     * 앞날 파티션 미리 생성 (이미 있으면 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${outbox.partitioning.maintenance-interval:PT1H}",
+            initialDelayString = "${outbox.partitioning.maintenance-interval:PT1H}")
+    public void premakePartitions() {
+        if (!enabled) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 다른 인스턴스가 DDL 실행 중이면 다음 주기에 다시 시도
+                if (!outboxPartitionRepository.tryLockDdl()) return;
+                if (!outboxPartitionRepository.isPartitioned()) return;
+
+                LocalDate today = LocalDate.now();
+                int created = 0;
+                // 오늘 파티션은 전환 시 legacy 파티션 또는 이전 주기에서 이미 만들어짐
+                for (int day = 1; day <= premakeDays; day++) {
+                    if (outboxPartitionRepository.createDailyPartition(today.plusDays(day))) created++;
+                }
+                if (created > 0) {
+                    log.info("[OutboxPartitionManager] 일 단위 파티션 {}개 생성 (~{})",
+                            created, OutboxPartitionRepository.partitionName(today.plusDays(premakeDays)));
+                }
+            });
+        } catch (Exception e) {
+            // default 파티션에 같은 범위의 행이 이미 있으면 생성이 거절됨 — 해당 범위는 default 에 남음
+            log.warn("[OutboxPartitionManager] 파티션 생성 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,53 +1,157 @@
 package com.sampoom.backend.HR.common.outbox.service;
 
 import com.sampoom.backend.HR.common.outbox.entity.Outbox;
-import com.sampoom.backend.HR.common.outbox.entity.OutboxStatus;
+import com.sampoom.backend.HR.common.outbox.repository.OutboxClaimRepository;
 import com.sampoom.backend.HR.common.outbox.repository.OutboxRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
 
+/**
+ * Outbox 발행 폴러
+ * - 발행 대상을 batch-size 건씩 점유(IN_FLIGHT)한 뒤 배치 단위로 파이프라인 발행하므로 여러 인스턴스가 동시에 실행돼도 중복 발행하지 않음
+ * - 점유할 행이 없을 때까지 max-batches-per-poll 까지 이어서 처리
+ *   (aggregate 별로 가장 앞선 행만 점유되므로, 앞 행이 발행되면 다음 배치에서 뒤 행이 점유됨)
+ * - 점유가 만료된 행(인스턴스 종료 등)은 다음 폴링에서 다시 발행 대상으로 되돌림
+ * - 평소에는 저장 알림(OutboxNotificationListener)으로 즉시 실행되고, 폴링은 safety-net-interval 마다 한 번만 실행
+ *   (알림 수신이 끊긴 동안에는 interval-ms 마다 폴링)
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class OutboxPublisher {
 
     private final OutboxRepository outboxRepository;
+    private final OutboxClaimRepository outboxClaimRepository;
     private final OutboxEventProcessor outboxEventProcessor;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final Duration leaseDuration;
+    private final long safetyNetIntervalNanos;
 
-    // 최대 재시도 횟수
-    private static final int MAX_RETRY_COUNT = 10;
+    // 실행 요청 병합 — 실행 중에 들어온 요청은 실행 중인 스레드가 한 번 더 처리
+    private final AtomicBoolean wakeRequested = new AtomicBoolean();
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private volatile boolean notificationsActive;
+    private volatile long lastDrainNanos = System.nanoTime();
+
+    // 이 인스턴스 식별자 (pid@host + 임의값 — 같은 호스트의 재시작도 구분)
+    private final String instanceId = ManagementFactory.getRuntimeMXBean().getName()
+            + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    private final Counter claimed;
+    private final Counter leasesExpired;
+
+    public OutboxPublisher(
+            OutboxRepository outboxRepository,
+            OutboxClaimRepository outboxClaimRepository,
+            OutboxEventProcessor outboxEventProcessor,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.poll.batch-size:100}") int batchSize,
+            @Value("${outbox.poll.max-batches-per-poll:10}") int maxBatchesPerPoll,
+            @Value("${outbox.lease-duration:PT5M}") Duration leaseDuration,
+            @Value("${outbox.poll.safety-net-interval:PT60S}") Duration safetyNetInterval
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.outboxClaimRepository = outboxClaimRepository;
+        this.outboxEventProcessor = outboxEventProcessor;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatchesPerPoll = Math.max(1, maxBatchesPerPoll);
+        this.leaseDuration = leaseDuration;
+        this.safetyNetIntervalNanos = safetyNetInterval.toNanos();
+
+        this.claimed = Counter.builder("outbox.claimed")
+                .description("이 인스턴스가 점유한 Outbox 이벤트 수")
+                .register(meterRegistry);
+        this.leasesExpired = Counter.builder("outbox.lease.expired")
+                .description("점유 만료로 발행 대상으로 되돌린 Outbox 이벤트 수")
+                .register(meterRegistry);
+    }
 
     /**
-     * READY와 FAILED 상태 Outbox를 5초마다 Kafka로 발행 (최대 10번 재시도)
+     * READY와 재시도 시각이 된 FAILED 상태 Outbox를 점유해 Kafka로 발행 (최대 10번 재시도)
+     * - 알림 수신 중이면 마지막 실행 후 safety-net-interval 이 지났을 때만 실행
      */
-    @Scheduled(fixedDelay = 5000)
+    @Scheduled(fixedDelayString = "${outbox.poll.interval-ms:5000}")
     public void publishReadyAndFailedEvents() {
-        // READY 상태와 재시도 횟수가 10회 미만인 FAILED 상태 이벤트 조회
-        List<Outbox> events = outboxRepository.findTop10ByStatusReadyOrFailedWithRetryLimitOrderByCreatedAtAsc(MAX_RETRY_COUNT);
-
-        if (events.isEmpty()) return;
-
-        log.info("[OutboxPublisher] 발행할 이벤트 {}개 발견 (READY + FAILED 재시도 대상)", events.size());
+        if (notificationsActive && System.nanoTime() - lastDrainNanos < safetyNetIntervalNanos) return;
+        wakeUp();
+    }
 
-        for (Outbox outbox : events) {
+    /**
+     * 즉시 발행 요청 (이미 실행 중이면 그 실행이 끝난 뒤 한 번 더 실행)
+     * @return max-batches-per-poll 까지 배치를 처리해 아직 남은 이벤트가 있을 수 있으면 true
+     */
+    public boolean wakeUp() {
+        boolean backlog = false;
+        wakeRequested.set(true);
+        while (wakeRequested.get()) {
+            if (!drainLock.tryLock()) return false;
             try {
-                // 재시도 로그 출력
-                if (outbox.getStatus() == OutboxStatus.FAILED) {
-                    log.info("[OutboxPublisher] FAILED 이벤트 재시도: eventId={}, retryCount={}/{}",
-                            outbox.getEventId(), outbox.getRetryCount(), MAX_RETRY_COUNT);
-                }
-
-                // 개별 트랜잭션으로 처리하기 위해 public 메서드 호출
-                outboxEventProcessor.processAndPublishEvent(outbox);
-            } catch (Exception e) {
-                log.error("[OutboxPublisher] 이벤트 처리 중 심각한 오류 발생 (트랜잭션 롤백됨): eventId={}, reason={}",
-                        outbox.getEventId(), e.getMessage());
+                wakeRequested.set(false);
+                backlog = drain();
+            } finally {
+                drainLock.unlock();
             }
         }
+        return backlog;
+    }
+
+    public void setNotificationsActive(boolean notificationsActive) {
+        this.notificationsActive = notificationsActive;
+    }
+
+    private boolean drain() {
+        lastDrainNanos = System.nanoTime();
+
+        int released = outboxClaimRepository.releaseExpiredLeases(LocalDateTime.now());
+        if (released > 0) {
+            leasesExpired.increment(released);
+            log.warn("[OutboxPublisher] 점유 만료 이벤트 {}개를 발행 대상으로 되돌림", released);
+        }
+
+        for (int batch = 0; batch < maxBatchesPerPoll; batch++) {
+            if (publishBatch() == 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 한 배치 점유 후 발행
+     * @return 점유한 이벤트 수
+     */
+    private int publishBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = outboxClaimRepository.claim(
+                instanceId, now, now.plus(leaseDuration), OutboxEventProcessor.MAX_RETRY_COUNT, batchSize);
+        if (ids.isEmpty()) return 0;
+
+        claimed.increment(ids.size());
+        log.info("[OutboxPublisher] 발행할 이벤트 {}개 점유 (READY + FAILED 재시도 대상)", ids.size());
+
+        List<Outbox> events = outboxRepository.findAllById(ids).stream()
+                .sorted(Comparator.comparing(Outbox::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(Outbox::getId))
+                .toList();
+
+        try {
+            outboxEventProcessor.publishBatch(events, instanceId);
+        } catch (Exception e) {
+            // 반영되지 않은 행은 점유 상태로 남아 만료 후 다시 발행 대상이 됨
+            log.error("[OutboxPublisher] 배치 처리 중 심각한 오류 발생: {}개, reason={}", events.size(), e.getMessage(), e);
+        }
+        return ids.size();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,244 @@
+package com.sampoom.backend.HR.common.outbox.service;
+
+import com.sampoom.backend.HR.common.outbox.repository.OutboxPartitionRepository;
+import com.sampoom.backend.HR.common.outbox.repository.OutboxPartitionRepository.PartitionInfo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.ToLongFunction;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 발행 완료(PUBLISHED) Outbox 보존 기간 정리
+ * - 파티션 테이블이면 상한이 published-ttl 보다 오래됐고 미발행 행이 없는 파티션을 통째로 분리(DETACH) 후 삭제
+ * - 일반 테이블(또는 default 파티션)이면 delete-batch-size 건씩 나눠 삭제해 긴 잠금 / 대량 WAL 을 피함
+ * - archive-dir 이 설정되면 삭제 전에 gzip CSV 로 보관 (보관 실패 시 삭제하지 않음)
+ *   보관 파일은 삭제 트랜잭션이 커밋된 뒤에 최종 이름으로 바뀌고, 롤백되면 지워짐 (남은 행을 다음 실행에서 중복 보관하지 않도록)
+ */
+@Slf4j
+@Service
+public class OutboxRetentionService {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final OutboxPartitionRepository outboxPartitionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration publishedTtl;
+    private final int deleteBatchSize;
+    private final int maxBatchesPerRun;
+    private final String archiveDir;
+    private final boolean keepDetached;
+    private final Duration detachLockTimeout;
+
+    private final Counter rowsDeleted;
+    private final Counter rowsArchived;
+    private final Counter partitionsDropped;
+
+    public OutboxRetentionService(
+            OutboxPartitionRepository outboxPartitionRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.retention.enabled:true}") boolean enabled,
+            @Value("${outbox.retention.published-ttl:P7D}") Duration publishedTtl,
+            @Value("${outbox.retention.delete-batch-size:5000}") int deleteBatchSize,
+            @Value("${outbox.retention.max-batches-per-run:200}") int maxBatchesPerRun,
+            @Value("${outbox.retention.archive-dir:}") String archiveDir,
+            @Value("${outbox.retention.keep-detached:false}") boolean keepDetached,
+            @Value("${outbox.retention.detach-lock-timeout:PT5S}") Duration detachLockTimeout
+    ) {
+        this.outboxPartitionRepository = outboxPartitionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.publishedTtl = publishedTtl;
+        this.deleteBatchSize = Math.max(1, deleteBatchSize);
+        this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
+        this.archiveDir = archiveDir == null ? "" : archiveDir.trim();
+        this.keepDetached = keepDetached;
+        this.detachLockTimeout = detachLockTimeout;
+
+        this.rowsDeleted = Counter.builder("outbox.retention.rows")
+                .description("보존 기간이 지나 삭제한 Outbox 이벤트 수")
+                .tag("action", "deleted")
+                .register(meterRegistry);
+        this.rowsArchived = Counter.builder("outbox.retention.rows")
+                .description("보존 기간이 지나 삭제한 Outbox 이벤트 수")
+                .tag("action", "archived")
+                .register(meterRegistry);
+        this.partitionsDropped = Counter.builder("outbox.retention.partitions")
+                .description("보존 기간이 지나 분리한 Outbox 파티션 수")
+                .tag("action", keepDetached ? "detached" : "dropped")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.retention.interval:PT1H}",
+            initialDelayString = "${outbox.retention.initial-delay:PT5M}")
+    public void purgeExpired() {
+        if (!enabled) return;
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(publishedTtl);
+        long start = System.nanoTime();
+        try {
+            if (outboxPartitionRepository.isPartitioned()) {
+                int partitions = purgePartitions(cutoff);
+                long rows = purgeRows(OutboxPartitionRepository.DEFAULT_PARTITION, cutoff);
+                log.info("[OutboxRetentionService] 파티션 {}개 정리, default 파티션 {}행 삭제 (cutoff={}, {}ms)",
+                        partitions, rows, cutoff, (System.nanoTime() - start) / 1_000_000);
+            } else {
+                long rows = purgeRows("outbox", cutoff);
+                log.info("[OutboxRetentionService] PUBLISHED 이벤트 {}행 삭제 (cutoff={}, {}ms)",
+                        rows, cutoff, (System.nanoTime() - start) / 1_000_000);
+            }
+        } catch (Exception e) {
+            log.error("[OutboxRetentionService] 보존 기간 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 상한이 cutoff 이전인 파티션 정리
+     * @return 정리한 파티션 수
+     */
+    private int purgePartitions(LocalDateTime cutoff) {
+        int purged = 0;
+        for (PartitionInfo partition : outboxPartitionRepository.findRangePartitions()) {
+            if (partition.getUpperBound().isAfter(cutoff)) continue;
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> purgePartition(partition.getName())))) {
+                purged++;
+            }
+        }
+        return purged;
+    }
+
+    private boolean purgePartition(String partition) {
+        // 다른 인스턴스가 파티션 DDL 실행 중이면 다음 주기에 다시 시도
+        if (!outboxPartitionRepository.tryLockDdl()) return false;
+
+        if (outboxPartitionRepository.hasUnpublishedRows(partition)) {
+            log.warn("[OutboxRetentionService] 미발행(READY / FAILED / IN_FLIGHT) 이벤트가 남아 있어 파티션 보존: {}", partition);
+            return false;
+        }
+
+        long rows = archiving()
+                ? archive(partition, out -> outboxPartitionRepository.copyPartitionOut(partition, out))
+                : outboxPartitionRepository.countRows(partition);
+
+        outboxPartitionRepository.setLocalLockTimeout(detachLockTimeout.toMillis());
+        outboxPartitionRepository.detachPartition(partition);
+        if (!keepDetached) {
+            outboxPartitionRepository.dropTable(partition);
+        }
+
+        partitionsDropped.increment();
+        (archiving() ? rowsArchived : rowsDeleted).increment(rows);
+        log.info("[OutboxRetentionService] 파티션 {} {} ({}행)", partition, keepDetached ? "분리" : "삭제", rows);
+        return true;
+    }
+
+    /**
+     * PUBLISHED 행을 delete-batch-size 건씩 삭제 (배치마다 트랜잭션 분리)
+     * @return 삭제한 행 수
+     */
+    private long purgeRows(String table, LocalDateTime cutoff) {
+        long total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Long deleted = transactionTemplate.execute(status -> archiving()
+                    ? archive(table, out -> outboxPartitionRepository.deletePublishedBeforeAndCopyOut(
+                            table, cutoff, deleteBatchSize, out))
+                    : outboxPartitionRepository.deletePublishedBefore(table, cutoff, deleteBatchSize));
+            long count = deleted == null ? 0 : deleted;
+            total += count;
+            if (count < deleteBatchSize) break;
+        }
+
+        if (total > 0) {
+            (archiving() ? rowsArchived : rowsDeleted).increment(total);
+        }
+        return total;
+    }
+
+    // ---------------- helper ----------------
+
+    private boolean archiving() {
+        return !archiveDir.isEmpty();
+    }
+
+    /**
+     * 임시 파일에 gzip CSV 로 쓴 뒤 트랜잭션 커밋 후 이름 변경 (호출 측 트랜잭션 안에서 실행)
+     * - 쓰기에 실패하면 예외로 트랜잭션 롤백 — 삭제되지 않음
+     * @return 보관한 행 수
+     */
+    private long archive(String name, ToLongFunction<OutputStream> copy) {
+        Path dir = Path.of(archiveDir);
+        Path target = dir.resolve(name + "_" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".csv.gz");
+        Path temp = dir.resolve(target.getFileName() + ".part");
+        try {
+            Files.createDirectories(dir);
+            long rows;
+            try (OutputStream out = new GZIPOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_SIZE), BUFFER_SIZE)) {
+                rows = copy.applyAsLong(out);
+            }
+            if (rows == 0) {
+                Files.deleteIfExists(temp);
+                return 0;
+            }
+            finalizeAfterCommit(temp, target);
+            return rows;
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * 커밋되면 임시 파일을 최종 이름으로, 롤백되면 임시 파일 삭제
+     * - 커밋 후 이름 변경에 실패해도 행은 이미 삭제됐으므로 임시 파일(.part)을 남겨 둠
+     */
+    private static void finalizeAfterCommit(Path temp, Path target) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    log.error("[OutboxRetentionService] 보관 파일 이름 변경 실패 — 임시 파일 유지: {}", temp, e);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) deleteQuietly(temp);
+            }
+        });
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[OutboxRetentionService] 임시 보관 파일 삭제 실패: {}", path);
+        }
+    }
+}
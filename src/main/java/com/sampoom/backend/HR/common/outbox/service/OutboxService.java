@@ -7,19 +7,38 @@ import com.sampoom.backend.HR.common.outbox.entity.Outbox;
 import com.sampoom.backend.HR.common.outbox.entity.OutboxStatus;
 import com.sampoom.backend.HR.common.outbox.repository.OutboxRepository;
 import com.sampoom.backend.HR.common.response.ErrorStatus;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class OutboxService {
 
+    // 트랜잭션별 알림 여부 표시 (TransactionSynchronizationManager 리소스 키)
+    private static final Object NOTIFY_KEY = new Object();
+
     private final OutboxRepository outboxRepository;
     private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean notifyEnabled;
+
+    public OutboxService(
+            OutboxRepository outboxRepository,
+            ObjectMapper objectMapper,
+            JdbcTemplate jdbcTemplate,
+            @Value("${outbox.notify.enabled:true}") boolean notifyEnabled
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.notifyEnabled = notifyEnabled;
+    }
 
     /**
      * Outbox 테이블에 이벤트 저장 (트랜잭션 내)
@@ -48,9 +67,30 @@ public class OutboxService {
             // 3. Outbox 테이블에 저장
             outboxRepository.save(outbox);
 
+            // 4. 발행 폴러 깨우기 (트랜잭션당 한 번, 커밋 시 전달)
+            requestPublish();
+
         } catch (Exception e) {
             log.error("Outbox 이벤트 저장 실패 (메인 트랜잭션 롤백됨): {}", e.getMessage(), e);
             throw new BadRequestException(ErrorStatus.INTERNAL_SERVER_ERROR);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 발행 폴러 깨우기 — 현재 트랜잭션에서 처음 요청할 때만 NOTIFY
+     * - PostgreSQL 은 커밋될 때만 알림을 전달하므로 롤백된 저장은 알리지 않음
+     */
+    public void requestPublish() {
+        if (!notifyEnabled || !TransactionSynchronizationManager.isSynchronizationActive()) return;
+        if (TransactionSynchronizationManager.hasResource(NOTIFY_KEY)) return;
+
+        TransactionSynchronizationManager.bindResource(NOTIFY_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(NOTIFY_KEY);
+            }
+        });
+        jdbcTemplate.execute("NOTIFY " + OutboxNotificationListener.CHANNEL);
+    }
+}
@@ -42,6 +42,13 @@ public enum ErrorStatus {
     INVALID_EMPSTATUS_TYPE(HttpStatus.BAD_REQUEST,"유효하지 않은 직원 상태(EmployeeStatus) 타입입니다.",11404),
     INVALID_PUBLIC_KEY(HttpStatus.BAD_REQUEST,"서명용 공개키가 유효하지 않거나 불러오는데 실패했습니다.",12406),
     INVALID_WORKSPACE_TYPE(HttpStatus.BAD_REQUEST, "유효하지 않은 조직(workspace) 타입입니다.", 12408),
+    GEO_BATCH_EMPTY(HttpStatus.BAD_REQUEST, "변환할 주소 목록이 비어 있습니다.", 14401),
+    GEO_BATCH_TOO_LARGE(HttpStatus.BAD_REQUEST, "한 번에 변환할 수 있는 주소 수를 초과했습니다.", 14402),
+    GEO_NEAREST_INVALID_K(HttpStatus.BAD_REQUEST, "조회 개수(k)가 허용 범위를 벗어났습니다.", 14403),
+    GEO_INVALID_COORDINATE(HttpStatus.BAD_REQUEST, "위도/경도 값이 올바르지 않습니다.", 14404),
+    GEO_INVALID_RADIUS(HttpStatus.BAD_REQUEST, "반경(radiusKm)은 0 이상이어야 합니다.", 14405),
+    DISTANCE_RECOMPUTE_NOT_RESUMABLE(HttpStatus.BAD_REQUEST, "실패 또는 취소된 재계산 작업만 재개할 수 있습니다.", 14406),
+    DISTANCE_RECOMPUTE_NOT_RUNNING(HttpStatus.BAD_REQUEST, "실행 중인 재계산 작업이 아닙니다.", 14407),
 
     // 401 UNAUTHORIZED
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다.", 12410),
@@ -63,9 +70,12 @@ public enum ErrorStatus {
     NOT_FOUND_MEMBER_SALES(HttpStatus.NOT_FOUND,"판매 관리에서 해당 직원을 찾을 수 없습니다.",13445),
     NOT_FOUND_MEMBER_MD(HttpStatus.NOT_FOUND,"기준 정보 관리에서 해당 직원을 찾을 수 없습니다.",13446),
     NOT_FOUND_MEMBER_HR(HttpStatus.NOT_FOUND,"인사 관리에서 해당 직원을 찾을 수 없습니다.",13447),
+    DISTANCE_RECOMPUTE_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "거리 재계산 작업을 찾을 수 없습니다.", 14440),
+    DISTANCE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 지점 간 거리 정보가 없습니다.", 14441),
 
     // 409 CONFLICT
     DUPLICATED_USER_ID(HttpStatus.CONFLICT, "이미 존재하는 유저의 ID입니다.", 11491),
+    DISTANCE_RECOMPUTE_ALREADY_RUNNING(HttpStatus.CONFLICT, "같은 거리 행렬의 재계산 작업이 이미 실행 중입니다.", 14491),
 
     // 500 INTERNAL_SERVER_ERROR
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다.", 10500),
@@ -74,6 +84,9 @@ public enum ErrorStatus {
     EVENT_PROCESSING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "Kafka 이벤트 처리 중 예외가 발생했습니다.",10504),
     OUTBOX_SERIALIZATION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR,"Outbox 직렬화에 실패했습니다.",10505),
 
+    // 503 SERVICE_UNAVAILABLE
+    DISTANCE_MATRIX_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "거리 캐시를 적재 중입니다. 잠시 후 다시 시도해주세요.", 14503),
+
 
     ;
 
@@ -0,0 +1,121 @@
+package com.sampoom.backend.HR.common.util;
+
+/**
+ * 일대다 / 다대다 거리 계산용 Haversine 커널
+ * - 좌표는 열(column) 배열로 받고, 점마다 cos(위도)를 한 번만 계산
+ * - 결과는 호출자가 넘긴 배열에 채움 (계산/반올림 과정에서 객체 할당 없음)
+ * - DistanceUtil.calculateDistance 와 같은 순서로 연산하므로 결과가 비트 단위로 동일
+ *   (위도/경도 차이는 도(degree) 단위에서 뺀 뒤 라디안으로 바꿔야 같은 값이 나오므로 원본 좌표도 유지)
+ */
+public final class DistanceKernel {
+
+    private static final double EARTH_RADIUS_KM = 6371.0; // 지구 반지름 (km)
+
+    private DistanceKernel() {
+    }
+
+    /**
+     * 좌표 열 (위도/경도는 도 단위, cosLat 은 미리 계산한 cos(위도 라디안))
+     */
+    public static final class Points {
+
+        private final double[] lat;
+        private final double[] lon;
+        private final double[] cosLat;
+
+        private Points(double[] lat, double[] lon) {
+            if (lat.length != lon.length) {
+                throw new IllegalArgumentException("위도/경도 배열 길이가 다릅니다.");
+            }
+            this.lat = lat;
+            this.lon = lon;
+            this.cosLat = new double[lat.length];
+            for (int i = 0; i < lat.length; i++) {
+                cosLat[i] = Math.cos(Math.toRadians(lat[i]));
+            }
+        }
+
+        public static Points of(double[] lat, double[] lon) {
+            return new Points(lat, lon);
+        }
+
+        public int size() {
+            return lat.length;
+        }
+    }
+
+    /**
+     * 한 점(1) → 여러 점(2) 거리, out[j] = distance(origin, targets[j])
+     */
+    public static void oneToMany(double lat1, double lon1, Points targets, double[] out) {
+        int n = targets.size();
+        checkCapacity(out, n);
+
+        double cosLat1 = Math.cos(Math.toRadians(lat1));
+        double[] lat = targets.lat;
+        double[] lon = targets.lon;
+        double[] cosLat = targets.cosLat;
+        for (int j = 0; j < n; j++) {
+            out[j] = distance(lat1, lon1, cosLat1, lat[j], lon[j], cosLat[j]);
+        }
+    }
+
+    /**
+     * 여러 점(1) → 한 점(2) 거리, out[i] = distance(sources[i], target)
+     */
+    public static void manyToOne(Points sources, double lat2, double lon2, double[] out) {
+        int n = sources.size();
+        checkCapacity(out, n);
+
+        double cosLat2 = Math.cos(Math.toRadians(lat2));
+        double[] lat = sources.lat;
+        double[] lon = sources.lon;
+        double[] cosLat = sources.cosLat;
+        for (int i = 0; i < n; i++) {
+            out[i] = distance(lat[i], lon[i], cosLat[i], lat2, lon2, cosLat2);
+        }
+    }
+
+    /**
+     * 여러 점(1) × 여러 점(2) 거리, 행 우선 — out[i * to.size() + j] = distance(from[i], to[j])
+     */
+    public static void manyToMany(Points from, Points to, double[] out) {
+        int rows = from.size();
+        int cols = to.size();
+        checkCapacity(out, (long) rows * cols);
+
+        for (int i = 0; i < rows; i++) {
+            double lat1 = from.lat[i];
+            double lon1 = from.lon[i];
+            double cosLat1 = from.cosLat[i];
+            int offset = i * cols;
+            for (int j = 0; j < cols; j++) {
+                out[offset + j] = distance(lat1, lon1, cosLat1, to.lat[j], to.lon[j], to.cosLat[j]);
+            }
+        }
+    }
+
+    /**
+     * 단건 거리 (소수점 둘째자리 반올림) — cos(위도)는 호출자가 미리 계산
+     */
+    public static double distance(double lat1, double lon1, double cosLat1,
+                                  double lat2, double lon2, double cosLat2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+
+        double sinDLat = Math.sin(dLat / 2);
+        double sinDLon = Math.sin(dLon / 2);
+        double a = sinDLat * sinDLat
+                + cosLat1 * cosLat2
+                * sinDLon * sinDLon;
+
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return DistanceUtil.roundToTwoDecimalPlaces(EARTH_RADIUS_KM * c);
+    }
+
+    private static void checkCapacity(double[] out, long required) {
+        if (out.length < required) {
+            throw new IllegalArgumentException("결과 배열 크기가 부족합니다: " + out.length + " < " + required);
+        }
+    }
+}
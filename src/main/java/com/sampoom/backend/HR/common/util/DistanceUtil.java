@@ -5,31 +5,39 @@ import java.math.RoundingMode;
 
 public class DistanceUtil {
 
-    private static final double EARTH_RADIUS_KM = 6371.0; // 지구 반지름 (km)
+    // 이 범위 안에서는 value * 100 의 오차가 FAST_PATH_TIE_MARGIN 보다 충분히 작음
+    private static final double FAST_PATH_LIMIT = 1_000_000.0;
+    private static final double FAST_PATH_TIE_MARGIN = 1e-6;
 
     /**
      * 두 위도/경도 좌표 간의 거리(km)를 계산 (Haversine formula)
      * 결과는 소수점 둘째자리까지 반올림
      */
     public static double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
-
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        double distance = EARTH_RADIUS_KM * c;
-
-        // 소수점 둘째자리까지 반올림
-        return roundToTwoDecimalPlaces(distance);
+        return DistanceKernel.distance(
+                lat1, lon1, Math.cos(Math.toRadians(lat1)),
+                lat2, lon2, Math.cos(Math.toRadians(lat2))
+        );
     }
 
     /**
-     * 소수점 둘째자리까지 반올림
+     * 소수점 둘째자리까지 반올림 (HALF_UP, BigDecimal.valueOf 기준과 동일한 결과)
+     * - 반올림 경계(x.xx5)에서 충분히 떨어진 값은 할당 없이 계산
+     * - 경계 근처는 10진 표현에 따라 결과가 갈리므로 BigDecimal 로 계산
      */
     public static double roundToTwoDecimalPlaces(double value) {
+        double abs = Math.abs(value);
+        if (abs < FAST_PATH_LIMIT) {
+            double scaled = abs * 100;
+            double floor = Math.floor(scaled);
+            double fraction = scaled - floor;
+            if (Math.abs(fraction - 0.5) > FAST_PATH_TIE_MARGIN) {
+                double rounded = (fraction > 0.5 ? floor + 1 : floor) / 100;
+                // BigDecimal 에는 -0 이 없으므로 0 은 항상 +0.0
+                return value < 0 && rounded != 0 ? -rounded : rounded;
+            }
+        }
+
         return BigDecimal.valueOf(value)
                 .setScale(2, RoundingMode.HALF_UP)
                 .doubleValue();
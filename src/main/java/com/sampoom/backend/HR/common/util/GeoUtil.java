@@ -1,82 +1,158 @@
 package com.sampoom.backend.HR.common.util;
 
+import com.sampoom.backend.HR.common.geo.geocoder.GeocoderChain;
+import com.sampoom.backend.HR.common.geo.service.GeocodeCacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponents;
-import org.springframework.web.util.UriComponentsBuilder;
 
-import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.*;
 
 @Slf4j
 @Component
 public class GeoUtil {
 
-    private static final String KAKAO_DOMAIN = "https://dapi.kakao.com";
-    private static final String KAKAO_ADDRESS_PATH = "/v2/local/search/address.json";
-    private static final String KAKAO_KEYWORD_PATH = "/v2/local/search/keyword.json";
-
-    @Value("${kakao.api.key}")
-    private String kakaoApiKey;
+    private final GeocodeCacheService geocodeCacheService;
+    private final GeocoderChain geocoderChain;
+    private final Duration totalDeadline;
+
+    // 정규화 주소별 진행 중인 조회 (동시 요청 병합)
+    private final ConcurrentMap<String, CompletableFuture<double[]>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalescedCalls;
+
+    public GeoUtil(
+            GeocodeCacheService geocodeCacheService,
+            GeocoderChain geocoderChain,
+            MeterRegistry meterRegistry,
+            @Value("${geo.http.total-deadline:PT5S}") Duration totalDeadline
+    ) {
+        this.geocodeCacheService = geocodeCacheService;
+        this.geocoderChain = geocoderChain;
+        this.totalDeadline = totalDeadline;
+        this.coalescedCalls = Counter.builder("geocode.coalesced")
+                .description("진행 중인 동일 주소 조회에 합류한 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("geocode.in-flight", inFlight, Map::size).register(meterRegistry);
+    }
 
     /**
-     * 주소를 위도/경도로 변환
+     * 주소를 위도/경도로 변환 (정규화 주소 기준 캐시 우선, 실패하면 {0.0, 0.0})
      */
     public double[] getLatLngFromAddress(String address) {
+        double[] coords = resolveLatLng(address);
+        return coords != null ? coords : new double[]{0.0, 0.0};
+    }
+
+    /**
+     * 주소를 위도/경도로 변환 — 일시 실패를 구분 (배치 / 비동기 작업의 재시도 판단용)
+     * @return 좌표 / {0.0, 0.0} (변환 불가로 확인) / null (호출량 초과·오류·시간초과 — 나중에 다시 시도 가능)
+     */
+    public double[] resolveLatLng(String address) {
         if (address == null || address.isBlank()) {
             log.warn("⚠️ 주소가 비어 있음 — 변환 불가");
             return new double[]{0.0, 0.0};
         }
 
+        String cacheKey = normalizeAddress(address);
+        Optional<double[]> cached = geocodeCacheService.get(cacheKey);
+        if (cached.isPresent()) {
+            log.debug("GeoUtil: 캐시 적중 ({})", cacheKey);
+            return cached.get();
+        }
+
+        // 로컬 지명 사전으로 답할 수 있으면(시군구 단위 주소) 네트워크 없이 바로 반환
+        double[] local = geocoderChain.resolveLocally(address);
+        if (local != null) return local;
+
+        // 최근에 변환 불가로 확인된 주소는 외부 API 를 다시 호출하지 않음
+        if (geocodeCacheService.isKnownUnresolvable(cacheKey)) {
+            log.debug("GeoUtil: 변환 불가 주소 캐시 적중 ({})", cacheKey);
+            return new double[]{0.0, 0.0};
+        }
+
+        // 같은 주소를 이미 다른 스레드가 조회 중이면 그 결과를 공유 (single-flight)
+        CompletableFuture<double[]> pending = new CompletableFuture<>();
+        CompletableFuture<double[]> leader = inFlight.putIfAbsent(cacheKey, pending);
+        if (leader != null) {
+            coalescedCalls.increment();
+            return awaitShared(leader, address);
+        }
+
         try {
-            RestTemplate rt = new RestTemplate();
-            HttpHeaders headers = new HttpHeaders();
-            headers.set(HttpHeaders.AUTHORIZATION,
-                    kakaoApiKey.startsWith("KakaoAK ") ? kakaoApiKey : "KakaoAK " + kakaoApiKey);
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
-            // 1) 도로명/주소 검색 (address API) — analyze_type=similar 로 시도
-            double[] coords = requestAddress(rt, entity, address);
-            if (isValid(coords)) return coords;
-
-            // 2) 괄호 및 일부 특수문자 제거 후 재시도
-            String simplified = normalizeAddress(address);
-            if (!simplified.equals(address)) {
-                coords = requestAddress(rt, entity, simplified);
-                if (isValid(coords)) return coords;
+            double[] coords = requestLatLng(address, cacheKey);
+            if (isValid(coords)) {
+                geocodeCacheService.put(cacheKey, coords);
             }
+            pending.complete(coords);
+            return coords;
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, pending);
+        }
+    }
 
-            // 3) 키워드 검색으로 시도 (keyword API) — 길이 제한 고려
-            double[] keywordCoords = requestKeyword(rt, entity, address);
-            if (isValid(keywordCoords)) return keywordCoords;
+    /**
+     * 진행 중인 동일 주소 조회 결과 대기 (전체 제한시간 내)
+     */
+    private double[] awaitShared(CompletableFuture<double[]> leader, String address) {
+        try {
+            double[] shared = leader.get(totalDeadline.toNanos(), TimeUnit.NANOSECONDS);
+            return shared != null ? shared.clone() : null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (TimeoutException | ExecutionException e) {
+            log.warn("⚠️ 동일 주소 조회 결과 대기 실패 ({}): {}", address, e.getMessage());
+        }
+        return null;
+    }
 
-            if (!simplified.equals(address)) {
-                keywordCoords = requestKeyword(rt, entity, simplified);
-                if (isValid(keywordCoords)) return keywordCoords;
-            }
+    /**
+     * 변환기 체인을 통한 실제 변환
+     */
+    private double[] requestLatLng(String address, String cacheKey) {
+        // 결과: 좌표 / {0.0, 0.0} (모든 시도가 '결과 없음') / null (오류·차단·시간초과로 판단 불가)
+        double[] coords = geocoderChain.resolve(address);
 
-            log.warn("❌ 모든 시도 실패: {}", address);
-        } catch (Exception e) {
-            log.error("❌ 주소 → 좌표 변환 중 오류 ({}): {}", address, e.getMessage());
+        if (isValid(coords)) return coords;
+
+        if (coords == null) {
+            log.warn("❌ 일시 오류로 좌표 변환 실패: {}", address);
+            return null;
         }
 
+        // 확실히 변환 불가한 주소만 부정 캐시 (일시 오류는 다음 요청에서 다시 시도)
+        geocodeCacheService.markUnresolvable(cacheKey);
+        log.warn("❌ 모든 시도 실패: {}", address);
         return new double[]{0.0, 0.0};
     }
 
     // ---------------- helper ----------------
 
-    private static boolean isValid(double[] coords) {
+    public static boolean isValid(double[] coords) {
         return coords != null && coords.length == 2 && !(coords[0] == 0.0 && coords[1] == 0.0);
     }
 
-    private static boolean isSafeQuery(String query) {
+    /**
+     * 두 좌표가 같은지 (null 포함 비교)
+     */
+    public static boolean sameCoordinates(Double lat1, Double lon1, Double lat2, Double lon2) {
+        return Objects.equals(lat1, lat2) && Objects.equals(lon1, lon2);
+    }
+
+    /**
+     * 외부 지오코딩 API 로 보낼 수 있는 쿼리인지 (허용 문자만으로 구성)
+     */
+    public static boolean isSafeQuery(String query) {
         if (query == null || query.isBlank()) return false;
         // 허용 문자만 통과 (한글, 영문, 숫자, 공백, 일부 문장부호)
         return query.matches("^[가-힣a-zA-Z0-9\\s.,()\\-·]*$");
@@ -86,7 +162,7 @@ public class GeoUtil {
      * Kakao가 허용하는 최대 쿼리(원문 기준)를 맞추기 위해 UTF-8 바이트 단위로 잘라낸다.
      * (Kakao 메세지는 'Max (query) length 100' 를 반환하므로 안전하게 100 바이트 이하로 자름)
      */
-    private static String truncateQuery(String query) {
+    public static String truncateQuery(String query) {
         if (query == null) return "";
         try {
             byte[] bytes = query.getBytes(StandardCharsets.UTF_8);
@@ -110,7 +186,7 @@ public class GeoUtil {
     /**
      * 괄호 및 일부 특수문자를 제거 (정규식 과도 사용을 피한 안전한 구현)
      */
-    private static String normalizeAddress(String input) {
+    public static String normalizeAddress(String input) {
         if (input == null || input.isBlank()) return "";
         StringBuilder sb = new StringBuilder();
         int depth = 0;
@@ -123,84 +199,4 @@ public class GeoUtil {
         while (result.contains("  ")) result = result.replace("  ", " ");
         return result;
     }
-
-    /**
-     * 안전한 UriComponents 생성 (SSRF 방지 + 한글 인코딩 포함)
-     * - query: 먼저 안전성 검사 및 truncate 한 뒤 URLEncoder로 인코딩하고 build(true) 사용
-     */
-    private static UriComponents buildSafeUri(String path, String rawQuery) {
-        if (rawQuery == null) rawQuery = "";
-        if (!isSafeQuery(rawQuery)) {
-            throw new IllegalArgumentException("Unsafe query string detected");
-        }
-
-        String truncated = truncateQuery(rawQuery);
-        log.debug("GeoUtil: truncated query='{}' ({} bytes)",
-                truncated, truncated.getBytes(StandardCharsets.UTF_8).length);
-
-        return UriComponentsBuilder
-                .fromHttpUrl(KAKAO_DOMAIN)
-                .path(path)
-                .queryParam("query", truncated)  // 원본(잘린) 문자열 그대로 전달
-                .build(false); // true = 이미 안전한 문자열로 간주
-    }
-
-    /**
-     * address (도로명/주소) 검색 — analyze_type=similar 추가
-     */
-    private static double[] requestAddress(RestTemplate rt, HttpEntity<String> entity, String query) {
-        try {
-            UriComponents uc = buildSafeUri(KAKAO_ADDRESS_PATH, query);
-            // analyze_type 파라미터는 원문(잘린 뒤)에 대해 추가 — encode 처리 동일하게 하려면 param 자체를 encoding해 넣음
-            String encodedAnalyze = URLEncoder.encode("similar", StandardCharsets.UTF_8);
-            String uri = uc.toUriString() + "&analyze_type=" + encodedAnalyze;
-
-            ResponseEntity<String> res = rt.exchange(uri, HttpMethod.GET, entity, String.class);
-            if (res.getStatusCode() != HttpStatus.OK) {
-                log.warn("⚠️ Kakao 주소검색 응답 오류: {} (query={})", res.getStatusCode(), query);
-                return new double[]{0.0, 0.0};
-            }
-
-            JSONObject json = new JSONObject(res.getBody());
-            JSONArray docs = json.optJSONArray("documents");
-            if (docs == null || docs.length() == 0) return new double[]{0.0, 0.0};
-
-            JSONObject first = docs.getJSONObject(0);
-            // Kakao returns x=lon, y=lat
-            double lat = DistanceUtil.roundToTwoDecimalPlaces(first.getDouble("y"));
-            double lon = DistanceUtil.roundToTwoDecimalPlaces(first.getDouble("x"));
-            return new double[]{lat, lon};
-        } catch (Exception e) {
-            log.error("❌ Kakao 주소검색 중 예외 ({}): {}", query, e.getMessage());
-            return new double[]{0.0, 0.0};
-        }
-    }
-
-    /**
-     * keyword 검색 (키워드 검색 시에도 쿼리 잘라서 전달)
-     */
-    private static double[] requestKeyword(RestTemplate rt, HttpEntity<String> entity, String query) {
-        try {
-            UriComponents uc = buildSafeUri(KAKAO_KEYWORD_PATH, query);
-            String uri = uc.toUriString();
-
-            ResponseEntity<String> res = rt.exchange(uri, HttpMethod.GET, entity, String.class);
-            if (res.getStatusCode() != HttpStatus.OK) {
-                log.warn("⚠️ Kakao 키워드검색 응답 오류: {} (query={})", res.getStatusCode(), query);
-                return new double[]{0.0, 0.0};
-            }
-
-            JSONObject json = new JSONObject(res.getBody());
-            JSONArray docs = json.optJSONArray("documents");
-            if (docs == null || docs.length() == 0) return new double[]{0.0, 0.0};
-
-            JSONObject first = docs.getJSONObject(0);
-            double lat = DistanceUtil.roundToTwoDecimalPlaces(first.getDouble("y"));
-            double lon = DistanceUtil.roundToTwoDecimalPlaces(first.getDouble("x"));
-            return new double[]{lat, lon};
-        } catch (Exception e) {
-            log.error("❌ Kakao 키워드검색 중 예외 ({}): {}", query, e.getMessage());
-            return new double[]{0.0, 0.0};
-        }
-    }
 }
@@ -0,0 +1,164 @@
+package com.sampoom.backend.HR.common.util;
+
+import java.util.Arrays;
+
+/**
+ * long → float 오픈 어드레싱(선형 탐사) 해시 맵
+ * - 박싱 없이 항목당 12바이트 (키 8 + 값 4) / 적재율 이하
+ * - 키 0 은 빈 슬롯 표시로 사용하므로 저장 불가
+ * - 스레드 안전하지 않음 (호출 측에서 잠금)
+ */
+public final class LongFloatHashMap {
+
+    private static final float MAX_LOAD = 0.7f;
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private float[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    public LongFloatHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) Math.ceil(expectedSize / MAX_LOAD)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * @return 값, 없으면 Float.NaN
+     */
+    public float get(long key) {
+        int slot = slot(key);
+        while (true) {
+            long k = keys[slot];
+            if (k == key) return values[slot];
+            if (k == EMPTY) return Float.NaN;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public boolean containsKey(long key) {
+        return !Float.isNaN(get(key));
+    }
+
+    public void put(long key, float value) {
+        insert(key, value, true);
+    }
+
+    /**
+     * 키가 없을 때만 저장
+     * @return 저장했으면 true
+     */
+    public boolean putIfAbsent(long key, float value) {
+        return insert(key, value, false);
+    }
+
+    /**
+     * @return 삭제했으면 true
+     */
+    public boolean remove(long key) {
+        checkKey(key);
+        int slot = slot(key);
+        while (true) {
+            long k = keys[slot];
+            if (k == EMPTY) return false;
+            if (k == key) break;
+            slot = (slot + 1) & mask;
+        }
+
+        // 뒤따르는 항목을 당겨 탐사 사슬 유지 (backward shift deletion)
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = slot(keys[next]);
+            // next 의 원래 위치가 (gap, next] 구간 밖이면 gap 으로 이동
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+        size--;
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * 키/값 배열이 차지하는 바이트 수 (배열 헤더 제외)
+     */
+    public long memoryBytes() {
+        return (long) keys.length * Long.BYTES + (long) values.length * Float.BYTES;
+    }
+
+    private boolean insert(long key, float value, boolean overwrite) {
+        checkKey(key);
+        int slot = slot(key);
+        while (true) {
+            long k = keys[slot];
+            if (k == key) {
+                if (!overwrite) return false;
+                values[slot] = value;
+                return true;
+            }
+            if (k == EMPTY) break;
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        float[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long k = oldKeys[i];
+            if (k == EMPTY) continue;
+            int slot = slot(k);
+            while (keys[slot] != EMPTY) slot = (slot + 1) & mask;
+            keys[slot] = k;
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new float[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * MAX_LOAD);
+    }
+
+    private int slot(long key) {
+        // murmur3 fmix64 — 연속 ID 를 묶은 키도 고르게 분산
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    private static void checkKey(long key) {
+        if (key == EMPTY) throw new IllegalArgumentException("key 0 is reserved");
+    }
+}
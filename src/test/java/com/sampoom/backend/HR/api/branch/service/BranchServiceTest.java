@@ -0,0 +1,114 @@
+package com.sampoom.backend.HR.api.branch.service;
+
+import com.sampoom.backend.HR.api.branch.dto.BranchUpdateRequestDTO;
+import com.sampoom.backend.HR.api.branch.entity.Branch;
+import com.sampoom.backend.HR.api.branch.entity.BranchStatus;
+import com.sampoom.backend.HR.api.branch.entity.BranchType;
+import com.sampoom.backend.HR.api.branch.repository.BranchRepository;
+import com.sampoom.backend.HR.api.distance.service.DistanceRecomputePlanner;
+import com.sampoom.backend.HR.api.distance.service.DistanceRetentionService;
+import com.sampoom.backend.HR.api.distance.service.DistanceService;
+import com.sampoom.backend.HR.api.geo.service.GeoIndexService;
+import com.sampoom.backend.HR.common.geo.entity.GeoStatus;
+import com.sampoom.backend.HR.common.geo.service.GeocodePipeline;
+import com.sampoom.backend.HR.common.util.GeoUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 보존 정책(top-K / 반경) 사용 시 창고 비활성 / 좌표 해제가 거리 재정리로 이어지는지
+ */
+class BranchServiceTest {
+
+    private final BranchRepository branchRepository = mock(BranchRepository.class);
+    private final DistanceService distanceService = mock(DistanceService.class);
+    private final DistanceRecomputePlanner distanceRecomputePlanner = mock(DistanceRecomputePlanner.class);
+    private final DistanceRetentionService distanceRetentionService = mock(DistanceRetentionService.class);
+
+    private final BranchService branchService = new BranchService(
+            branchRepository, distanceService, distanceRecomputePlanner, distanceRetentionService,
+            mock(GeoUtil.class), mock(GeocodePipeline.class), mock(GeoIndexService.class),
+            mock(TransactionTemplate.class));
+
+    private Branch warehouse;
+
+    @BeforeEach
+    void setUp() {
+        warehouse = Branch.builder()
+                .id(1L)
+                .branchCode("WH-001")
+                .name("서울 창고")
+                .type(BranchType.WAREHOUSE)
+                .address("서울특별시 중구 세종대로 110")
+                .latitude(37.57)
+                .longitude(126.98)
+                .geoStatus(GeoStatus.RESOLVED)
+                .status(BranchStatus.ACTIVE)
+                .build();
+        when(branchRepository.findById(1L)).thenReturn(Optional.of(warehouse));
+        when(branchRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void 보존_정책_사용_시_비활성화하면_거리_재정리() {
+        when(distanceRetentionService.isEnabled()).thenReturn(true);
+
+        branchService.deactivateBranch(1L);
+
+        assertThat(warehouse.getStatus()).isEqualTo(BranchStatus.INACTIVE);
+        verify(distanceRecomputePlanner).planBranch(warehouse);
+    }
+
+    @Test
+    void 보존_정책_미사용_시_비활성화는_거리_재계산_없음() {
+        when(distanceRetentionService.isEnabled()).thenReturn(false);
+
+        branchService.deactivateBranch(1L);
+
+        verifyNoInteractions(distanceRecomputePlanner);
+    }
+
+    @Test
+    void 보존_정책_사용_시_주소를_비우면_거리_재정리() {
+        when(distanceRetentionService.isEnabled()).thenReturn(true);
+
+        branchService.updateBranch(1L, new BranchUpdateRequestDTO(null, "", null));
+
+        assertThat(warehouse.getLatitude()).isNull();
+        verify(distanceRecomputePlanner).planBranch(warehouse);
+    }
+
+    @Test
+    void 보존_정책_미사용_시_주소를_비우면_거리_재계산_없음() {
+        when(distanceRetentionService.isEnabled()).thenReturn(false);
+
+        branchService.updateBranch(1L, new BranchUpdateRequestDTO(null, "", null));
+
+        verifyNoInteractions(distanceRecomputePlanner);
+    }
+
+    @Test
+    void 보존_정책_사용_시_상태만_바꿔도_거리_재정리() {
+        when(distanceRetentionService.isEnabled()).thenReturn(true);
+
+        branchService.updateBranch(1L, new BranchUpdateRequestDTO(null, null, BranchStatus.INACTIVE));
+
+        verify(distanceRecomputePlanner).planBranch(warehouse);
+    }
+
+    @Test
+    void 이름만_바꾸면_거리_재계산_없음() {
+        when(distanceRetentionService.isEnabled()).thenReturn(true);
+
+        branchService.updateBranch(1L, new BranchUpdateRequestDTO("새 이름", null, null));
+
+        verifyNoInteractions(distanceRecomputePlanner);
+    }
+}
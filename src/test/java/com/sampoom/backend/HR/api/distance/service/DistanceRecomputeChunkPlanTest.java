@@ -0,0 +1,87 @@
+package com.sampoom.backend.HR.api.distance.service;
+
+import com.sampoom.backend.HR.api.distance.entity.DistanceRecomputeChunk;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 청크 분할 / 체크포인트 이후 재개 범위
+ */
+class DistanceRecomputeChunkPlanTest {
+
+    @Test
+    void 체크포인트가_없으면_전체를_rowsPerChunk_씩_분할() {
+        long[] rowIds = LongStream.rangeClosed(1, 10).toArray();
+
+        List<int[]> chunks = DistanceRecomputeJobService.planChunks(rowIds, 4, List.of());
+
+        assertThat(chunks).containsExactly(new int[]{0, 4}, new int[]{4, 8}, new int[]{8, 10});
+    }
+
+    @Test
+    void 커밋된_청크는_건너뛰고_남은_행만_재개() {
+        long[] rowIds = {3, 5, 8, 13, 21, 34, 55};
+        List<DistanceRecomputeChunk> done = List.of(checkpoint(5, 13));
+
+        List<int[]> chunks = DistanceRecomputeJobService.planChunks(rowIds, 10, done);
+
+        // 3 / 21~55 만 남음 — 완료 범위를 사이에 둔 행은 다른 청크
+        assertThat(chunks).containsExactly(new int[]{0, 1}, new int[]{4, 7});
+    }
+
+    @Test
+    void 중간에_실패한_작업을_재개하면_모든_행을_정확히_한_번씩_처리() {
+        long[] rowIds = LongStream.rangeClosed(1, 103).map(i -> i * 7).toArray();
+        int rowsPerChunk = 10;
+
+        // 첫 실행: 청크 일부만 커밋된 뒤 중단 (병렬 실행이라 커밋 순서는 뒤섞일 수 있음)
+        List<int[]> firstRun = DistanceRecomputeJobService.planChunks(rowIds, rowsPerChunk, List.of());
+        List<DistanceRecomputeChunk> done = new ArrayList<>();
+        for (int i = 0; i < firstRun.size(); i += 3) {
+            int[] range = firstRun.get(i);
+            done.add(checkpoint(rowIds[range[0]], rowIds[range[1] - 1]));
+        }
+
+        // 재개
+        List<int[]> resumed = DistanceRecomputeJobService.planChunks(rowIds, rowsPerChunk, done);
+
+        int[] processed = new int[rowIds.length];
+        for (DistanceRecomputeChunk chunk : done) {
+            for (int i = 0; i < rowIds.length; i++) {
+                if (chunk.covers(rowIds[i])) processed[i]++;
+            }
+        }
+        for (int[] range : resumed) {
+            assertThat(range[1] - range[0]).isBetween(1, rowsPerChunk);
+            for (int i = range[0]; i < range[1]; i++) processed[i]++;
+        }
+        assertThat(processed).containsOnly(1);
+
+        // 재개 후 모두 커밋되면 더 남은 청크 없음
+        resumed.forEach(range -> done.add(checkpoint(rowIds[range[0]], rowIds[range[1] - 1])));
+        assertThat(DistanceRecomputeJobService.planChunks(rowIds, rowsPerChunk, done)).isEmpty();
+    }
+
+    @Test
+    void 재개_전에_추가된_행은_완료_범위_밖이면_처리() {
+        long[] before = {1, 2, 3, 4};
+        List<DistanceRecomputeChunk> done = List.of(checkpoint(1, 4));
+        long[] after = {1, 2, 3, 4, 9};
+
+        assertThat(DistanceRecomputeJobService.planChunks(before, 2, done)).isEmpty();
+        assertThat(DistanceRecomputeJobService.planChunks(after, 2, done)).containsExactly(new int[]{4, 5});
+    }
+
+    private static DistanceRecomputeChunk checkpoint(long firstRowId, long lastRowId) {
+        return DistanceRecomputeChunk.builder()
+                .jobId(1L)
+                .firstBranchId(firstRowId)
+                .lastBranchId(lastRowId)
+                .build();
+    }
+}
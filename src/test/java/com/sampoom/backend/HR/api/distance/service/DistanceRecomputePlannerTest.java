@@ -0,0 +1,180 @@
+package com.sampoom.backend.HR.api.distance.service;
+
+import com.sampoom.backend.HR.api.branch.entity.Branch;
+import com.sampoom.backend.HR.api.branch.entity.BranchType;
+import com.sampoom.backend.HR.api.branch.repository.BranchRepository;
+import com.sampoom.backend.HR.api.distance.dto.RecomputeResult;
+import com.sampoom.backend.HR.api.distance.service.DistanceRecomputePlanner.Kind;
+import com.sampoom.backend.HR.api.vendor.entity.Vendor;
+import com.sampoom.backend.HR.api.vendor.repository.VendorRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 트랜잭션 단위 재계산 작업 중복 제거 / 커밋 직전 실행
+ * - 실제 트랜잭션 대신 동기화만 직접 열고 beforeCommit / afterCompletion 을 호출
+ */
+class DistanceRecomputePlannerTest {
+
+    private final DistanceService distanceService = mock(DistanceService.class);
+    private final BranchFactoryDistanceService branchFactoryDistanceService = mock(BranchFactoryDistanceService.class);
+    private final BranchRepository branchRepository = mock(BranchRepository.class);
+    private final VendorRepository vendorRepository = mock(VendorRepository.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final DistanceRecomputePlanner planner = new DistanceRecomputePlanner(
+            distanceService, branchFactoryDistanceService, branchRepository, vendorRepository,
+            entityManager, meterRegistry);
+
+    private final Branch warehouse = Branch.builder().id(1L).type(BranchType.WAREHOUSE).build();
+    private final Branch factory = Branch.builder().id(2L).type(BranchType.FACTORY).build();
+    private final Vendor vendor = Vendor.builder().id(10L).build();
+
+    @BeforeEach
+    void setUp() {
+        when(branchRepository.findById(1L)).thenReturn(Optional.of(warehouse));
+        when(branchRepository.findById(2L)).thenReturn(Optional.of(factory));
+        when(vendorRepository.findById(10L)).thenReturn(Optional.of(vendor));
+
+        when(distanceService.updateDistancesForNewVendor(any())).thenReturn(new RecomputeResult(3, 1));
+        when(distanceService.updateVendorDistancesForWarehouse(any())).thenReturn(new RecomputeResult(4, 2));
+        when(branchFactoryDistanceService.updateDistancesForNewWarehouse(any())).thenReturn(new RecomputeResult(5, 0));
+        when(branchFactoryDistanceService.updateDistancesForNewFactory(any())).thenReturn(new RecomputeResult(6, 6));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(planner);
+    }
+
+    @Test
+    void 트랜잭션이_없으면_즉시_실행() {
+        planner.planVendor(vendor);
+        planner.planVendor(vendor);
+
+        verify(distanceService, times(2)).updateDistancesForNewVendor(vendor);
+        verifyNoInteractions(entityManager);
+        assertThat(taskCount("planned")).isEqualTo(2);
+        assertThat(taskCount("collapsed")).isZero();
+    }
+
+    @Test
+    void 같은_트랜잭션의_중복_작업은_커밋_직전_한_번만_실행() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        planner.planBranch(warehouse);
+        planner.planVendor(vendor);
+        planner.planBranch(warehouse);
+        planner.planVendor(vendor);
+        planner.plan(Kind.WAREHOUSE_VENDORS, 1L);
+
+        // 커밋 전에는 실행하지 않음
+        verifyNoInteractions(distanceService, branchFactoryDistanceService);
+
+        commit();
+
+        verify(distanceService, times(1)).updateVendorDistancesForWarehouse(warehouse);
+        verify(branchFactoryDistanceService, times(1)).updateDistancesForNewWarehouse(warehouse);
+        verify(distanceService, times(1)).updateDistancesForNewVendor(vendor);
+
+        assertThat(taskCount("planned")).isEqualTo(7);
+        assertThat(taskCount("collapsed")).isEqualTo(4);
+        assertThat(taskCount("executed")).isEqualTo(3);
+        assertThat(pairCount("computed")).isEqualTo(4 + 5 + 3);
+        assertThat(pairCount("written")).isEqualTo(2 + 0 + 1);
+    }
+
+    @Test
+    void 실행_전에_엔티티_변경분을_flush() {
+        TransactionSynchronizationManager.initSynchronization();
+        planner.planBranch(factory);
+
+        commit();
+
+        InOrder order = inOrder(entityManager, branchFactoryDistanceService);
+        order.verify(entityManager).flush();
+        order.verify(branchFactoryDistanceService).updateDistancesForNewFactory(factory);
+    }
+
+    @Test
+    void 동기화는_트랜잭션마다_하나만_등록되고_끝나면_해제() {
+        TransactionSynchronizationManager.initSynchronization();
+        planner.planBranch(warehouse);
+        planner.planBranch(factory);
+        planner.planVendor(vendor);
+
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+        commit();
+        assertThat(TransactionSynchronizationManager.hasResource(planner)).isFalse();
+
+        // 다음 트랜잭션에서는 같은 작업도 다시 실행
+        TransactionSynchronizationManager.initSynchronization();
+        planner.planVendor(vendor);
+        commit();
+
+        verify(distanceService, times(2)).updateDistancesForNewVendor(vendor);
+    }
+
+    @Test
+    void 롤백되면_실행하지_않고_해제() {
+        TransactionSynchronizationManager.initSynchronization();
+        planner.planVendor(vendor);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verifyNoInteractions(distanceService);
+        assertThat(TransactionSynchronizationManager.hasResource(planner)).isFalse();
+    }
+
+    @Test
+    void 삭제된_기준_엔티티는_건너뜀() {
+        when(vendorRepository.findById(99L)).thenReturn(Optional.empty());
+        TransactionSynchronizationManager.initSynchronization();
+        planner.plan(Kind.VENDOR_WAREHOUSES, 99L);
+
+        commit();
+
+        verifyNoInteractions(distanceService);
+        assertThat(taskCount("executed")).isEqualTo(1);
+        assertThat(pairCount("computed")).isZero();
+    }
+
+    // ---------------- helper ----------------
+
+    /**
+     * AbstractPlatformTransactionManager 의 커밋 순서대로 동기화 콜백 호출
+     */
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(sync -> sync.beforeCommit(false));
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private double taskCount(String result) {
+        return meterRegistry.counter("distance.recompute.tasks", "result", result).count();
+    }
+
+    private double pairCount(String result) {
+        return meterRegistry.counter("distance.recompute.pairs", "result", result).count();
+    }
+}
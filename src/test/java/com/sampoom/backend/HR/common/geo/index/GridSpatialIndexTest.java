@@ -0,0 +1,158 @@
+package com.sampoom.backend.HR.common.geo.index;
+
+import com.sampoom.backend.HR.common.util.DistanceUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 격자 인덱스 조회 결과가 전체 비교(brute force)와 같은지
+ */
+class GridSpatialIndexTest {
+
+    private final Random random = new Random(20251018L);
+
+    @Test
+    void nearest_가_전체_비교와_동일() {
+        for (double cellDegrees : new double[]{0.05, 0.25, 1.0}) {
+            Map<Long, double[]> points = randomPoints(2_000);
+            GridSpatialIndex index = build(cellDegrees, points);
+
+            for (int query = 0; query < 200; query++) {
+                double lat = randomLat();
+                double lon = randomLon();
+                int k = 1 + random.nextInt(20);
+                Long excludeId = query % 3 == 0 ? 1L + random.nextInt(points.size()) : null;
+
+                assertThat(ids(index.nearest(lat, lon, k, excludeId)))
+                        .as("cell=%s, (%s, %s), k=%s", cellDegrees, lat, lon, k)
+                        .containsExactlyElementsOf(ids(bruteForce(points, lat, lon, excludeId, k, Double.MAX_VALUE)));
+            }
+        }
+    }
+
+    @Test
+    void within_이_전체_비교와_동일() {
+        Map<Long, double[]> points = randomPoints(2_000);
+        GridSpatialIndex index = build(0.1, points);
+
+        for (int query = 0; query < 200; query++) {
+            double lat = randomLat();
+            double lon = randomLon();
+            double radiusKm = random.nextDouble() * 80;
+            Long excludeId = query % 3 == 0 ? 1L + random.nextInt(points.size()) : null;
+
+            List<Neighbor> actual = index.within(lat, lon, radiusKm, excludeId);
+            List<Neighbor> expected = bruteForce(points, lat, lon, excludeId, Integer.MAX_VALUE, radiusKm);
+            assertThat(ids(actual)).containsExactlyInAnyOrderElementsOf(ids(expected));
+            assertThat(distances(actual)).containsExactlyElementsOf(distances(expected));
+        }
+    }
+
+    @Test
+    void 추가_이동_삭제_후에도_전체_비교와_동일() {
+        Map<Long, double[]> points = randomPoints(500);
+        GridSpatialIndex index = build(0.2, points);
+
+        for (int step = 0; step < 1_000; step++) {
+            long id = 1 + random.nextInt(700);
+            if (random.nextInt(4) == 0) {
+                index.remove(id);
+                points.remove(id);
+            } else {
+                double[] point = {randomLat(), randomLon()};
+                index.put(id, point[0], point[1]);
+                points.put(id, point);
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(points.size());
+        for (int query = 0; query < 100; query++) {
+            double lat = randomLat();
+            double lon = randomLon();
+            assertThat(ids(index.nearest(lat, lon, 10, null)))
+                    .containsExactlyElementsOf(ids(bruteForce(points, lat, lon, null, 10, Double.MAX_VALUE)));
+        }
+    }
+
+    @Test
+    void 같은_거리는_id_오름차순() {
+        GridSpatialIndex index = new GridSpatialIndex(0.1);
+        index.put(30, 37.5, 127.0);
+        index.put(10, 37.5, 127.0);
+        index.put(20, 37.5, 127.0);
+
+        assertThat(ids(index.nearest(37.6, 127.1, 2, null))).containsExactly(10L, 20L);
+        assertThat(ids(index.nearest(37.5, 127.0, 5, 10L))).containsExactly(20L, 30L);
+    }
+
+    @Test
+    void 빈_인덱스와_잘못된_인자() {
+        GridSpatialIndex index = new GridSpatialIndex(0.1);
+        assertThat(index.nearest(37.5, 127.0, 3, null)).isEmpty();
+        assertThat(index.within(37.5, 127.0, 10, null)).isEmpty();
+
+        index.put(1, 37.5, 127.0);
+        assertThat(index.nearest(37.5, 127.0, 0, null)).isEmpty();
+        assertThat(index.within(37.5, 127.0, -1, null)).isEmpty();
+        assertThatThrownBy(() -> new GridSpatialIndex(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ---------------- helper ----------------
+
+    private static List<Neighbor> bruteForce(Map<Long, double[]> points, double lat, double lon,
+                                             Long excludeId, int k, double radiusKm) {
+        List<Neighbor> all = new ArrayList<>();
+        points.forEach((id, point) -> {
+            if (id.equals(excludeId)) return;
+            double distanceKm = DistanceUtil.calculateDistance(lat, lon, point[0], point[1]);
+            if (distanceKm <= radiusKm) all.add(new Neighbor(id, point[0], point[1], distanceKm));
+        });
+        all.sort(Comparator.comparingDouble(Neighbor::getDistanceKm).thenComparing(Neighbor::getId));
+        return all.subList(0, Math.min(k, all.size()));
+    }
+
+    private GridSpatialIndex build(double cellDegrees, Map<Long, double[]> points) {
+        GridSpatialIndex index = new GridSpatialIndex(cellDegrees);
+        long[] ids = new long[points.size()];
+        double[] lat = new double[points.size()];
+        double[] lon = new double[points.size()];
+        int i = 0;
+        for (Map.Entry<Long, double[]> entry : points.entrySet()) {
+            ids[i] = entry.getKey();
+            lat[i] = entry.getValue()[0];
+            lon[i] = entry.getValue()[1];
+            i++;
+        }
+        index.replaceAll(ids, lat, lon);
+        return index;
+    }
+
+    // 국내 범위, 저장값과 같이 소수점 둘째자리 — 같은 좌표(같은 거리)도 자주 생기도록
+    private Map<Long, double[]> randomPoints(int n) {
+        Map<Long, double[]> points = new HashMap<>();
+        for (long id = 1; id <= n; id++) {
+            points.put(id, new double[]{randomLat(), randomLon()});
+        }
+        return points;
+    }
+
+    private double randomLat() {
+        return Math.round((33.0 + random.nextDouble() * 5.5) * 100) / 100.0;
+    }
+
+    private double randomLon() {
+        return Math.round((124.5 + random.nextDouble() * 7.5) * 100) / 100.0;
+    }
+
+    private static List<Long> ids(List<Neighbor> neighbors) {
+        return neighbors.stream().map(Neighbor::getId).toList();
+    }
+
+    private static List<Double> distances(List<Neighbor> neighbors) {
+        return neighbors.stream().map(Neighbor::getDistanceKm).toList();
+    }
+}
@@ -0,0 +1,130 @@
+package com.sampoom.backend.HR.common.geo.service;
+
+import com.sampoom.backend.HR.common.geo.service.KakaoCircuitBreaker.State;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KakaoCircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofMillis(50);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final KakaoCircuitBreaker breaker = new KakaoCircuitBreaker(meterRegistry, 3, OPEN_DURATION);
+
+    @Test
+    void 연속_실패가_임계치에_도달하면_OPEN() {
+        breaker.onFailure();
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(meterRegistry.counter("geocode.circuit.rejected").count()).isEqualTo(2);
+    }
+
+    @Test
+    void 중간에_성공하면_연속_실패_횟수_초기화() {
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void openDuration_후_시험_호출은_한_번만_허용() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_DURATION.toMillis() + 20);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void 시험_호출_성공이면_CLOSED() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_DURATION.toMillis() + 20);
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void 시험_호출_실패면_바로_다시_OPEN() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_DURATION.toMillis() + 20);
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        // HALF_OPEN 에서는 임계치와 상관없이 한 번의 실패로 OPEN
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        Thread.sleep(OPEN_DURATION.toMillis() + 20);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+    }
+
+    @Test
+    void 시험_호출_결과가_오지_않으면_openDuration_후_다시_허용() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_DURATION.toMillis() + 20);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        // 시험 호출이 취소되어 onSuccess / onFailure 가 호출되지 않은 경우
+        Thread.sleep(OPEN_DURATION.toMillis() + 20);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void 호출하지_않은_시험_호출은_자리를_반환() throws InterruptedException {
+        open();
+        Thread.sleep(OPEN_DURATION.toMillis() + 20);
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        // 호출량 제한 등으로 실제 호출 없이 포기
+        breaker.onSkipped();
+
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void CLOSED_에서_호출하지_않은_경우는_상태_변화_없음() {
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSkipped();
+
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void 상태_게이지() {
+        assertThat(meterRegistry.get("geocode.circuit.state").gauge().value()).isEqualTo(0);
+        open();
+        assertThat(meterRegistry.get("geocode.circuit.state").gauge().value()).isEqualTo(1);
+    }
+
+    private void open() {
+        for (int i = 0; i < 3; i++) breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+}
@@ -0,0 +1,66 @@
+package com.sampoom.backend.HR.common.geo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void burst_만큼은_대기_없이_획득() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(meterRegistry, 1, 3, Duration.ZERO);
+
+        assertThat(limiter.tryAcquire(false)).isTrue();
+        assertThat(limiter.tryAcquire(false)).isTrue();
+        assertThat(limiter.tryAcquire(false)).isTrue();
+        assertThat(limiter.tryAcquire(false)).isFalse();
+        assertThat(meterRegistry.counter("geocode.ratelimit", "result", "rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    void 대기_불가_호출은_maxWait_가_있어도_바로_거절() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(meterRegistry, 1, 1, Duration.ofSeconds(5));
+        assertThat(limiter.tryAcquire(false)).isTrue();
+
+        long start = System.nanoTime();
+        assertThat(limiter.tryAcquire(false)).isFalse();
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    void 대기_가능_호출은_토큰이_찰_때까지_기다림() {
+        // 초당 20개 → 토큰 하나당 50ms
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(meterRegistry, 20, 1, Duration.ofSeconds(1));
+        assertThat(limiter.tryAcquire()).isTrue();
+
+        long start = System.nanoTime();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(40));
+    }
+
+    @Test
+    void 대기_시간이_maxWait_를_넘으면_거절() {
+        // 초당 1개 → 다음 토큰까지 약 1초, 허용 대기는 100ms
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(meterRegistry, 1, 1, Duration.ofMillis(100));
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void nanosUntilAvailable_은_토큰을_쓰지_않음() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(meterRegistry, 1, 1, Duration.ZERO);
+        assertThat(limiter.nanosUntilAvailable()).isZero();
+        assertThat(limiter.nanosUntilAvailable()).isZero();
+        assertThat(limiter.tryAcquire(false)).isTrue();
+
+        long wait = limiter.nanosUntilAvailable();
+        assertThat(wait).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.tryAcquire(false)).isFalse();
+    }
+}
@@ -0,0 +1,256 @@
+package com.sampoom.backend.HR.common.outbox.repository;
+
+import com.sampoom.backend.HR.common.outbox.config.OutboxSchemaInitializer;
+import com.sampoom.backend.HR.common.outbox.service.OutboxPartitionManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Outbox 점유 / 점유 만료 / 결과 반영 SQL 을 실제 PostgreSQL 에서 검증
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class OutboxClaimRepositoryTest {
+
+    static final int MAX_RETRY = 10;
+
+    // ddl-auto=update 가 만드는 테이블과 같은 구성
+    static final String PLAIN_TABLE_DDL = "CREATE TABLE outbox ("
+            + " id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,"
+            + " aggregate_type VARCHAR(255), aggregate_id BIGINT, event_type VARCHAR(255),"
+            + " payload TEXT, status VARCHAR(255), retry_count INTEGER NOT NULL DEFAULT 0,"
+            + " next_attempt_at TIMESTAMP(6), published_at TIMESTAMP(6),"
+            + " lease_owner VARCHAR(100), lease_expires_at TIMESTAMP(6),"
+            + " event_id VARCHAR(255) NOT NULL, version BIGINT NOT NULL,"
+            + " occurred_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,"
+            + " created_at TIMESTAMP(6), updated_at TIMESTAMP(6))";
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static OutboxClaimRepository repository;
+
+    @BeforeAll
+    static void setUpSchema() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new OutboxClaimRepository(jdbcTemplate);
+
+        jdbcTemplate.execute(PLAIN_TABLE_DDL);
+
+        OutboxPartitionManager partitionManager = new OutboxPartitionManager(
+                new OutboxPartitionRepository(jdbcTemplate), new DataSourceTransactionManager(dataSource), false, 7);
+        new OutboxSchemaInitializer(jdbcTemplate, partitionManager).initialize();
+    }
+
+    @BeforeEach
+    void clear() {
+        jdbcTemplate.execute("TRUNCATE outbox");
+    }
+
+    @Test
+    void claim_marksRowsInFlightInCreationOrderUpToLimit() {
+        LocalDateTime now = LocalDateTime.now();
+        long third = insert("BRANCH", 3L, "READY", 0, now.minusSeconds(10));
+        long first = insert("BRANCH", 1L, "READY", 0, now.minusSeconds(30));
+        long second = insert("BRANCH", 2L, "READY", 0, now.minusSeconds(20));
+
+        List<Long> claimed = repository.claim("a", now, now.plusMinutes(5), MAX_RETRY, 2);
+
+        assertThat(claimed).containsExactlyInAnyOrder(first, second);
+        assertThat(statusOf(first)).isEqualTo("IN_FLIGHT");
+        assertThat(ownerOf(first)).isEqualTo("a");
+        assertThat(statusOf(third)).isEqualTo("READY");
+    }
+
+    @Test
+    void claim_skipsRowsAlreadyClaimedByAnotherOwner() {
+        LocalDateTime now = LocalDateTime.now();
+        long first = insert("BRANCH", 1L, "READY", 0, now.minusSeconds(20));
+        long second = insert("BRANCH", 2L, "READY", 0, now.minusSeconds(10));
+
+        List<Long> byA = repository.claim("a", now, now.plusMinutes(5), MAX_RETRY, 1);
+        List<Long> byB = repository.claim("b", now, now.plusMinutes(5), MAX_RETRY, 10);
+
+        assertThat(byA).containsExactly(first);
+        assertThat(byB).containsExactly(second);
+    }
+
+    @Test
+    void claim_ignoresParkedRows() {
+        LocalDateTime now = LocalDateTime.now();
+        insert("BRANCH", 1L, "FAILED", MAX_RETRY, now.minusSeconds(10));
+
+        assertThat(repository.claim("a", now, now.plusMinutes(5), MAX_RETRY, 10)).isEmpty();
+    }
+
+    @Test
+    void claim_doesNotHoldLaterRowsBehindAParkedRow() {
+        LocalDateTime now = LocalDateTime.now();
+        long parked = insert("BRANCH", 1L, "FAILED", MAX_RETRY, now.minusSeconds(20));
+        long later = insert("BRANCH", 1L, "READY", 0, now.minusSeconds(10));
+
+        assertThat(repository.claim("a", now, now.plusMinutes(5), MAX_RETRY, 10)).containsExactly(later);
+        assertThat(statusOf(parked)).isEqualTo("FAILED");
+    }
+
+    @Test
+    void claim_takesOnlyTheOldestUnpublishedRowPerAggregate() {
+        LocalDateTime now = LocalDateTime.now();
+        long first = insert("BRANCH", 1L, "READY", 0, now.minusSeconds(30));
+        long second = insert("BRANCH", 1L, "READY", 0, now.minusSeconds(20));
+        long otherAggregate = insert("VENDOR", 1L, "READY", 0, now.minusSeconds(10));
+
+        List<Long> claimed = repository.claim("a", now, now.plusMinutes(5), MAX_RETRY, 10);
+
+        assertThat(claimed).containsExactlyInAnyOrder(first, otherAggregate);
+        assertThat(statusOf(second)).isEqualTo("READY");
+    }
+
+    @Test
+    void claim_holdsLaterRowWhileEarlierRowOfSameAggregateIsInFlightElsewhere() {
+        LocalDateTime now = LocalDateTime.now();
+        long first = insert("BRANCH", 1L, "READY", 0, now.minusSeconds(20));
+        long second = insert("BRANCH", 1L, "READY", 0, now.minusSeconds(10));
+
+        assertThat(repository.claim("a", now, now.plusMinutes(5), MAX_RETRY, 10)).containsExactly(first);
+        assertThat(repository.claim("b", now, now.plusMinutes(5), MAX_RETRY, 10)).isEmpty();
+
+        repository.markPublished(List.of(first), "a");
+
+        assertThat(repository.claim("b", now, now.plusMinutes(5), MAX_RETRY, 10)).containsExactly(second);
+    }
+
+    @Test
+    void markFailed_backsOffTheRowAndHoldsLaterRowsOfTheSameAggregate() {
+        LocalDateTime now = LocalDateTime.now();
+        long failed = insert("BRANCH", 1L, "READY", 0, now.minusSeconds(20));
+        long later = insert("BRANCH", 1L, "READY", 0, now.minusSeconds(10));
+        repository.claim("a", now, now.plusMinutes(5), MAX_RETRY, 10);
+
+        repository.markFailed(List.of(failed), "a", Duration.ofSeconds(30), Duration.ofMinutes(10));
+
+        assertThat(statusOf(failed)).isEqualTo("FAILED");
+        assertThat(retryCountOf(failed)).isEqualTo(1);
+        // 백오프 중에는 실패한 행도, 같은 aggregate 의 뒤 행도 점유되지 않음
+        assertThat(repository.claim("b", LocalDateTime.now(), now.plusMinutes(5), MAX_RETRY, 10)).isEmpty();
+        assertThat(statusOf(later)).isEqualTo("READY");
+
+        // 재시도 시각이 지나면 실패한 행부터 다시 점유되고, 그것이 발행된 뒤에야 뒤 행이 나감
+        LocalDateTime due = now.plusMinutes(1);
+        assertThat(repository.claim("b", due, due.plusMinutes(5), MAX_RETRY, 10)).containsExactly(failed);
+        assertThat(repository.claim("c", due, due.plusMinutes(5), MAX_RETRY, 10)).isEmpty();
+
+        repository.markPublished(List.of(failed), "b");
+
+        assertThat(repository.claim("c", due, due.plusMinutes(5), MAX_RETRY, 10)).containsExactly(later);
+    }
+
+    @Test
+    void markFailed_growsTheDelayExponentiallyUpToTheMaximum() {
+        LocalDateTime now = LocalDateTime.now();
+        long id = insert("BRANCH", 1L, "FAILED", 6, now.minusSeconds(10));
+        repository.claim("a", now, now.plusMinutes(5), MAX_RETRY, 10);
+
+        repository.markFailed(List.of(id), "a", Duration.ofSeconds(5), Duration.ofMinutes(1));
+
+        // 5s × 2^6 = 320s 이지만 최대 60s, 무작위 배율 50~100% → 30~60s 뒤
+        LocalDateTime nextAttempt = jdbcTemplate.queryForObject(
+                "SELECT next_attempt_at FROM outbox WHERE id = ?", LocalDateTime.class, id);
+        assertThat(nextAttempt).isBetween(now.plusSeconds(29), LocalDateTime.now().plusSeconds(61));
+    }
+
+    @Test
+    void releaseExpiredLeases_returnsRowsToReadyOrFailedByRetryHistory() {
+        LocalDateTime now = LocalDateTime.now();
+        long fresh = insert("BRANCH", 1L, "READY", 0, now.minusSeconds(20));
+        long retried = insert("BRANCH", 2L, "FAILED", 2, now.minusSeconds(10));
+        repository.claim("a", now, now.minusSeconds(1), MAX_RETRY, 10);
+
+        int released = repository.releaseExpiredLeases(now);
+
+        assertThat(released).isEqualTo(2);
+        assertThat(statusOf(fresh)).isEqualTo("READY");
+        assertThat(statusOf(retried)).isEqualTo("FAILED");
+        assertThat(ownerOf(fresh)).isNull();
+    }
+
+    @Test
+    void markPublished_onlyUpdatesRowsStillOwnedByCaller() {
+        LocalDateTime now = LocalDateTime.now();
+        long id = insert("BRANCH", 1L, "READY", 0, now.minusSeconds(10));
+        repository.claim("a", now, now.minusSeconds(1), MAX_RETRY, 10);
+        repository.releaseExpiredLeases(now);
+        repository.claim("b", now, now.plusMinutes(5), MAX_RETRY, 10);
+
+        assertThat(repository.markPublished(List.of(id), "a")).isZero();
+        assertThat(statusOf(id)).isEqualTo("IN_FLIGHT");
+
+        assertThat(repository.markPublished(List.of(id), "b")).isEqualTo(1);
+        assertThat(statusOf(id)).isEqualTo("PUBLISHED");
+        assertThat(ownerOf(id)).isNull();
+    }
+
+    @Test
+    void release_putsUnsentRowsBackWithoutCountingARetry() {
+        LocalDateTime now = LocalDateTime.now();
+        long id = insert("BRANCH", 1L, "READY", 0, now.minusSeconds(10));
+        repository.claim("a", now, now.plusMinutes(5), MAX_RETRY, 10);
+
+        repository.release(List.of(id), "a");
+
+        assertThat(statusOf(id)).isEqualTo("READY");
+        assertThat(retryCountOf(id)).isZero();
+    }
+
+    @Test
+    void schemaInitializer_enforcesEventIdUniquenessOnPlainTable() {
+        jdbcTemplate.update("INSERT INTO outbox (status, event_id, version, occurred_at, created_at)"
+                + " VALUES ('PUBLISHED', 'dup', 1, now(), now())");
+
+        assertThatThrownBy(() -> jdbcTemplate.update("INSERT INTO outbox (status, event_id, version, occurred_at, created_at)"
+                + " VALUES ('READY', 'dup', 1, now(), now())"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    // ---------------- helper ----------------
+
+    static long insert(String aggregateType, Long aggregateId, String status, int retryCount, LocalDateTime createdAt) {
+        return jdbcTemplate.queryForObject("INSERT INTO outbox"
+                        + " (aggregate_type, aggregate_id, event_type, payload, status, retry_count,"
+                        + "  event_id, version, occurred_at, created_at)"
+                        + " VALUES (?, ?, 'TestEvent', '{}', ?, ?, ?, 1, now(), ?) RETURNING id",
+                Long.class, aggregateType, aggregateId, status, retryCount,
+                UUID.randomUUID().toString(), Timestamp.valueOf(createdAt));
+    }
+
+    static String statusOf(long id) {
+        return jdbcTemplate.queryForObject("SELECT status FROM outbox WHERE id = ?", String.class, id);
+    }
+
+    static String ownerOf(long id) {
+        return jdbcTemplate.queryForObject("SELECT lease_owner FROM outbox WHERE id = ?", String.class, id);
+    }
+
+    static int retryCountOf(long id) {
+        return jdbcTemplate.queryForObject("SELECT retry_count FROM outbox WHERE id = ?", Integer.class, id);
+    }
+}
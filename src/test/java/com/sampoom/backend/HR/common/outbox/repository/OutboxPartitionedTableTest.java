@@ -0,0 +1,196 @@
+package com.sampoom.backend.HR.common.outbox.repository;
+
+import com.sampoom.backend.HR.common.outbox.config.OutboxSchemaInitializer;
+import com.sampoom.backend.HR.common.outbox.service.OutboxPartitionManager;
+import com.sampoom.backend.HR.common.outbox.service.OutboxRetentionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static com.sampoom.backend.HR.common.outbox.repository.OutboxClaimRepositoryTest.MAX_RETRY;
+import static com.sampoom.backend.HR.common.outbox.repository.OutboxClaimRepositoryTest.PLAIN_TABLE_DDL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * outbox.partitioning.enabled=true — 일반 테이블에서 파티션 테이블로 전환한 뒤 점유 / 발행 / 보존 정리를 실제 PostgreSQL 에서 검증
+ * - 전환은 기동 시 한 번만 일어나므로 테스트 순서를 고정하고 테이블을 공유
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class OutboxPartitionedTableTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static DriverManagerDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static OutboxClaimRepository repository;
+    private static long legacyId;
+    private static long legacyMaxId;
+
+    @BeforeAll
+    static void setUpSchema() {
+        dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new OutboxClaimRepository(jdbcTemplate);
+
+        // 전환 전 일반 테이블에 쌓여 있던 행 (created_at 이 비어 있던 행 포함)
+        jdbcTemplate.execute(PLAIN_TABLE_DDL);
+        legacyId = insert("BRANCH", 1L, "PUBLISHED", LocalDateTime.now().minusDays(10));
+        jdbcTemplate.update("INSERT INTO outbox (status, event_id, version, occurred_at)"
+                + " VALUES ('PUBLISHED', ?, 1, now())", UUID.randomUUID().toString());
+        legacyMaxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM outbox", Long.class);
+
+        OutboxPartitionManager partitionManager = new OutboxPartitionManager(
+                new OutboxPartitionRepository(jdbcTemplate), new DataSourceTransactionManager(dataSource), true, 7);
+        new OutboxSchemaInitializer(jdbcTemplate, partitionManager).initialize();
+    }
+
+    @Test
+    @Order(1)
+    void migrateToPartitioned_movesExistingRowsIntoTheLegacyPartition() {
+        OutboxPartitionRepository partitions = new OutboxPartitionRepository(jdbcTemplate);
+
+        assertThat(partitions.isPartitioned()).isTrue();
+        assertThat(partitions.countRows(OutboxPartitionRepository.LEGACY_PARTITION)).isEqualTo(2);
+        assertThat(statusOf(legacyId)).isEqualTo("PUBLISHED");
+        // created_at 이 비어 있던 행은 발생 시각으로 채워짐 (파티션 키는 NULL 불가)
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox WHERE created_at IS NULL", Long.class))
+                .isZero();
+
+        // 앞날 파티션(premake-days) 생성
+        assertThat(partitions.findRangePartitions()).extracting(OutboxPartitionRepository.PartitionInfo::getName)
+                .contains(OutboxPartitionRepository.partitionName(LocalDate.now().plusDays(1)),
+                        OutboxPartitionRepository.partitionName(LocalDate.now().plusDays(7)));
+    }
+
+    @Test
+    @Order(2)
+    void migrateToPartitioned_continuesIdsAfterTheLegacyMaximum() {
+        long id = insert("BRANCH", 2L, "PUBLISHED", LocalDateTime.now().minusDays(9));
+
+        assertThat(id).isGreaterThan(legacyMaxId);
+    }
+
+    @Test
+    @Order(3)
+    void migrateToPartitioned_keepsEventIdUniquePerCreatedAt() {
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(8);
+        insertWithEventId("dup", createdAt);
+
+        assertThatThrownBy(() -> insertWithEventId("dup", createdAt))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @Order(4)
+    void claim_andMarkPublished_workAcrossPartitions() {
+        LocalDateTime now = LocalDateTime.now();
+        long legacy = insert("VENDOR", 1L, "READY", now.minusSeconds(30));
+        long daily = insert("VENDOR", 1L, "READY", now.plusDays(2));
+        long overflow = insert("VENDOR", 2L, "READY", now.plusDays(30));   // 앞날 파티션 밖 → default
+
+        // 같은 aggregate 의 뒤 행(다른 파티션)은 앞 행이 발행될 때까지 보류
+        assertThat(repository.claim("a", now, now.plusMinutes(5), MAX_RETRY, 10))
+                .containsExactlyInAnyOrder(legacy, overflow);
+        assertThat(repository.markPublished(List.of(legacy, overflow), "a")).isEqualTo(2);
+
+        assertThat(repository.claim("a", now, now.plusMinutes(5), MAX_RETRY, 10)).containsExactly(daily);
+        assertThat(repository.markPublished(List.of(daily), "a")).isEqualTo(1);
+        assertThat(statusOf(daily)).isEqualTo("PUBLISHED");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + OutboxPartitionRepository.DEFAULT_PARTITION,
+                Long.class)).isEqualTo(1);
+    }
+
+    @Test
+    @Order(5)
+    void retention_archivesAndDropsExpiredPartitionsButKeepsOnesWithUnpublishedRows(@TempDir Path archiveDir)
+            throws IOException {
+        LocalDate heldDay = LocalDate.now().plusDays(3);
+        long unpublished = insert("FACTORY", 1L, "READY", heldDay.atTime(12, 0));
+
+        // 보존 기간을 음수로 두어 앞날 파티션까지 만료 대상으로 만듦 (cutoff = 지금 + 5일)
+        OutboxRetentionService retention = new OutboxRetentionService(
+                new OutboxPartitionRepository(jdbcTemplate), new DataSourceTransactionManager(dataSource),
+                new SimpleMeterRegistry(), true, Duration.ofDays(-5), 1000, 10,
+                archiveDir.toString(), false, Duration.ofSeconds(5));
+        retention.purgeExpired();
+
+        assertThat(exists(OutboxPartitionRepository.LEGACY_PARTITION)).isFalse();
+        assertThat(exists(OutboxPartitionRepository.partitionName(LocalDate.now().plusDays(2)))).isFalse();
+        assertThat(exists(OutboxPartitionRepository.partitionName(heldDay))).isTrue();
+        assertThat(statusOf(unpublished)).isEqualTo("READY");
+
+        // 행이 있던 파티션만 보관 파일이 남고, 커밋 후 최종 이름으로 바뀜 (임시 파일 없음)
+        try (Stream<Path> files = Files.list(archiveDir)) {
+            List<Path> archived = files.toList();
+            assertThat(archived).noneMatch(file -> file.toString().endsWith(".part"));
+            Path legacyArchive = archived.stream()
+                    .filter(file -> file.getFileName().toString().startsWith(OutboxPartitionRepository.LEGACY_PARTITION))
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(legacyArchive.toString()).endsWith(".csv.gz");
+            // 헤더 + 전환 전 2행 + 전환 후 legacy 범위에 들어간 행들
+            assertThat(lineCount(legacyArchive)).isGreaterThan(3);
+        }
+    }
+
+    // ---------------- helper ----------------
+
+    private static long insert(String aggregateType, Long aggregateId, String status, LocalDateTime createdAt) {
+        return jdbcTemplate.queryForObject("INSERT INTO outbox"
+                        + " (aggregate_type, aggregate_id, event_type, payload, status, retry_count,"
+                        + "  event_id, version, occurred_at, created_at)"
+                        + " VALUES (?, ?, 'TestEvent', '{}', ?, 0, ?, 1, now(), ?) RETURNING id",
+                Long.class, aggregateType, aggregateId, status,
+                UUID.randomUUID().toString(), Timestamp.valueOf(createdAt));
+    }
+
+    private static void insertWithEventId(String eventId, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO outbox (status, event_id, version, occurred_at, created_at)"
+                + " VALUES ('PUBLISHED', ?, 1, now(), ?)", eventId, Timestamp.valueOf(createdAt));
+    }
+
+    private static String statusOf(long id) {
+        return jdbcTemplate.queryForObject("SELECT status FROM outbox WHERE id = ?", String.class, id);
+    }
+
+    private static boolean exists(String table) {
+        return Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table));
+    }
+
+    private static long lineCount(Path gzip) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(gzip)), StandardCharsets.UTF_8))) {
+            return reader.lines().count();
+        }
+    }
+}
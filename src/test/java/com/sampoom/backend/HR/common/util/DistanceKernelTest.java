@@ -0,0 +1,133 @@
+package com.sampoom.backend.HR.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 일괄 커널 / 빠른 반올림이 기존 계산(좌표마다 Haversine + BigDecimal 반올림)과 비트 단위로 같은지
+ */
+class DistanceKernelTest {
+
+    private static final Random RANDOM = new Random(20251018L);
+
+    @Test
+    void 커널_결과가_기존_Haversine_과_동일() {
+        int rows = 40;
+        int cols = 60;
+        double[] fromLat = randomLatitudes(rows);
+        double[] fromLon = randomLongitudes(rows);
+        double[] toLat = randomLatitudes(cols);
+        double[] toLon = randomLongitudes(cols);
+        DistanceKernel.Points from = DistanceKernel.Points.of(fromLat, fromLon);
+        DistanceKernel.Points to = DistanceKernel.Points.of(toLat, toLon);
+
+        double[] matrix = new double[rows * cols];
+        DistanceKernel.manyToMany(from, to, matrix);
+
+        for (int i = 0; i < rows; i++) {
+            double[] row = new double[cols];
+            DistanceKernel.oneToMany(fromLat[i], fromLon[i], to, row);
+            for (int j = 0; j < cols; j++) {
+                double expected = referenceDistance(fromLat[i], fromLon[i], toLat[j], toLon[j]);
+                assertThat(matrix[i * cols + j]).isEqualTo(expected);
+                assertThat(row[j]).isEqualTo(expected);
+                assertThat(DistanceUtil.calculateDistance(fromLat[i], fromLon[i], toLat[j], toLon[j])).isEqualTo(expected);
+            }
+        }
+
+        for (int j = 0; j < cols; j++) {
+            double[] column = new double[rows];
+            DistanceKernel.manyToOne(from, toLat[j], toLon[j], column);
+            for (int i = 0; i < rows; i++) {
+                assertThat(column[i]).isEqualTo(matrix[i * cols + j]);
+            }
+        }
+    }
+
+    @Test
+    void 같은_좌표와_대척점() {
+        assertThat(DistanceUtil.calculateDistance(37.57, 126.98, 37.57, 126.98)).isEqualTo(0.0);
+        assertThat(DistanceUtil.calculateDistance(0, 0, 0, 180)).isEqualTo(referenceDistance(0, 0, 0, 180));
+    }
+
+    @Test
+    void 결과_배열이_작으면_거절() {
+        DistanceKernel.Points points = DistanceKernel.Points.of(new double[]{1, 2}, new double[]{3, 4});
+        assertThatThrownBy(() -> DistanceKernel.manyToMany(points, points, new double[3]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DistanceKernel.Points.of(new double[]{1}, new double[]{1, 2}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 반올림_경계값이_BigDecimal_과_동일() {
+        double[] ties = {
+                0.005, 0.015, 0.025, 0.125, 0.135, 1.005, 1.115, 2.675, 8.345, 10.005,
+                123.455, 999.995, 1234.565, 99_999.995, 999_999.995, 1_000_000.005,
+                -0.005, -0.015, -1.005, -2.675, -999.995,
+                0.0, -0.0, 0.004999999999, 0.00500000001, 1e-12, -1e-12
+        };
+        for (double value : ties) {
+            assertThat(DistanceUtil.roundToTwoDecimalPlaces(value))
+                    .as("value=%s", value)
+                    .isEqualTo(referenceRound(value));
+        }
+    }
+
+    @Test
+    void 반올림_무작위_값이_BigDecimal_과_동일() {
+        for (int i = 0; i < 1_000_000; i++) {
+            double value = switch (i % 4) {
+                case 0 -> RANDOM.nextDouble() * 20_000;                           // 거리 범위
+                case 1 -> (RANDOM.nextInt(2_000_000) - 1_000_000) / 1000.0;       // 셋째 자리에서 끊긴 값 (경계 다수)
+                case 2 -> (RANDOM.nextInt(200_000) + 0.5) / 100.0;                // 정확히 x.xx5 근처
+                default -> (RANDOM.nextDouble() - 0.5) * 4_000_000;               // 빠른 경로 범위 밖 포함
+            };
+            assertThat(DistanceUtil.roundToTwoDecimalPlaces(value))
+                    .as("value=%s", value)
+                    .isEqualTo(referenceRound(value));
+        }
+    }
+
+    // 커널 도입 전 계산 방식 (좌표마다 cos / 라디안 변환, BigDecimal 반올림)
+    private static double referenceDistance(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return referenceRound(6371.0 * c);
+    }
+
+    private static double referenceRound(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    private static double[] randomLatitudes(int n) {
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            // 대부분 국내 좌표(소수점 둘째자리 저장값), 일부는 전 지구 범위
+            values[i] = i % 5 == 0
+                    ? RANDOM.nextDouble() * 180 - 90
+                    : Math.round((33 + RANDOM.nextDouble() * 5.5) * 100) / 100.0;
+        }
+        return values;
+    }
+
+    private static double[] randomLongitudes(int n) {
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i % 5 == 0
+                    ? RANDOM.nextDouble() * 360 - 180
+                    : Math.round((124.5 + RANDOM.nextDouble() * 7.5) * 100) / 100.0;
+        }
+        return values;
+    }
+}
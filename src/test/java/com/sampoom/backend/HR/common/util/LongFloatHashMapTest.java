@@ -0,0 +1,75 @@
+package com.sampoom.backend.HR.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongFloatHashMapTest {
+
+    @Test
+    void 무작위_연산_200만회가_HashMap_과_같은_결과() {
+        Random random = new Random(20251018L);
+        // 작은 초기 크기 + 좁은 키 범위 → 재할당 / 충돌 / 삭제 후 당기기가 자주 일어나도록
+        LongFloatHashMap map = new LongFloatHashMap(16);
+        Map<Long, Float> expected = new HashMap<>();
+
+        for (int op = 0; op < 2_000_000; op++) {
+            long key = randomKey(random);
+            float value = random.nextFloat() * 1000f;
+            switch (random.nextInt(5)) {
+                case 0, 1 -> {
+                    map.put(key, value);
+                    expected.put(key, value);
+                }
+                case 2 -> assertThat(map.putIfAbsent(key, value)).isEqualTo(expected.putIfAbsent(key, value) == null);
+                case 3 -> assertThat(map.remove(key)).isEqualTo(expected.remove(key) != null);
+                default -> {
+                    Float stored = expected.get(key);
+                    float actual = map.get(key);
+                    if (stored == null) {
+                        assertThat(actual).isNaN();
+                    } else {
+                        assertThat(actual).isEqualTo(stored);
+                    }
+                }
+            }
+            if (op % 100_000 == 0) {
+                assertThat(map.size()).isEqualTo(expected.size());
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+    }
+
+    @Test
+    void 거리_행렬_키_형식에서도_충돌_없이_동작() {
+        LongFloatHashMap map = new LongFloatHashMap(100);
+        for (long branchId = 1; branchId <= 300; branchId++) {
+            for (long targetId = 1; targetId <= 300; targetId++) {
+                map.put(branchId << 32 | targetId, branchId + targetId / 1000f);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(90_000);
+        assertThat(map.get(7L << 32 | 11)).isEqualTo(7 + 11 / 1000f);
+        assertThat(map.get(301L << 32 | 1)).isNaN();
+    }
+
+    @Test
+    void 키_0_은_저장할_수_없음() {
+        LongFloatHashMap map = new LongFloatHashMap(16);
+        assertThatThrownBy(() -> map.put(0L, 1f)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 0 을 제외한 좁은 범위 + 가끔 상위 32비트를 쓰는 키
+    private static long randomKey(Random random) {
+        long key = 1 + random.nextInt(50_000);
+        return random.nextInt(4) == 0 ? key << 32 | random.nextInt(64) : key;
+    }
+}